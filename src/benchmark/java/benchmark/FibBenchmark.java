@@ -0,0 +1,102 @@
+package benchmark;
+
+import flow.ast.ProgramNode;
+import flow.lexer.Lexer;
+import flow.parser.Parser;
+import flow.runtime.interpreter.Environment;
+import flow.runtime.interpreter.ExecutionMode;
+import flow.runtime.interpreter.Interpreter;
+import flow.utility.Logger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+// 재귀 호출과 return 비용을 보기 위한 간단한 벤치마크. 테스트가 아니므로 benchmark 소스 세트에 두고 main으로 실행한다.
+// 사용법: ./gradlew benchmark --args='[n] [반복 횟수] [ast|vm|jit|vmjit]' (실행 방식을 생략하면 모두 측정한다)
+// ast와 vm은 JIT를 끄고 측정하고, jit과 vmjit은 각각 AST 실행기와 VM에 기본 임계값으로 JIT를 켠 상태다.
+// fib(n)에 이어 int 지역 변수만 쓰는 반복문(LOOP)도 같은 방식으로 잰다.
+public class FibBenchmark {
+
+    private static final String CODE = """
+            int fib(int n) {
+                if (n < 2) { return n; }
+                return fib(n - 1) + fib(n - 2);
+            }
+            void main() {
+                print(fib(%d));
+            }
+            """;
+
+    private static final String LOOP = """
+            int sumTo(int limit) {
+                int sum = 0;
+                int i = 0;
+                for (i = 0; i < limit; i = i + 1) {
+                    if (i % 3 == 0) { continue; }
+                    sum = sum + i * 2;
+                }
+                return sum;
+            }
+            void main() {
+                int total = 0;
+                int k = 0;
+                for (k = 0; k < 20; k = k + 1) {
+                    total = total + sumTo(100000);
+                }
+                print(total);
+            }
+            """;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 25;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String[] modes = args.length > 2 ? new String[]{args[2]} : new String[]{"ast", "vm", "jit", "vmjit"};
+        String code = String.format(CODE, n);
+        for (String mode : modes) {
+            run("fib(" + n + ")", code, iterations, mode);
+        }
+        for (String mode : modes) {
+            run("loop", LOOP, iterations, mode);
+        }
+    }
+
+    private static void run(String name, String code, int iterations, String mode) {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        try {
+            // 앞의 절반은 JIT 워밍업으로 보고 측정에서 제외한다.
+            for (int i = 0; i < iterations * 2; i++) {
+                Logger logger = new Logger();
+                ProgramNode program = new Parser(new Lexer(logger).tokenize(code), logger).parseProgram();
+                Interpreter interpreter = new Interpreter(new Environment(), logger);
+                if (mode.equalsIgnoreCase("jit")) {
+                    interpreter.setExecutionMode(ExecutionMode.AST);
+                } else if (mode.equalsIgnoreCase("vmjit")) {
+                    interpreter.setExecutionMode(ExecutionMode.VM);
+                } else {
+                    interpreter.setExecutionMode(ExecutionMode.valueOf(mode.toUpperCase()));
+                    interpreter.setJitThreshold(-1);
+                }
+
+                long start = System.nanoTime();
+                interpreter.execute(program);
+                long elapsed = System.nanoTime() - start;
+
+                if (logger.hasErrors()) {
+                    System.setOut(out);
+                    logger.printLogs();
+                    return;
+                }
+                if (i >= iterations) {
+                    best = Math.min(best, elapsed);
+                    total += elapsed;
+                }
+            }
+        } finally {
+            System.setOut(out);
+        }
+        System.out.printf("%s %s: 평균 %.2f ms, 최소 %.2f ms (%d회)%n", mode.toUpperCase(), name, total / 1e6 / iterations, best / 1e6, iterations);
+    }
+}
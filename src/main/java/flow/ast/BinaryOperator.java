@@ -0,0 +1,54 @@
+package flow.ast;
+
+import flow.token.TokenType;
+
+// 파싱 시점에 토큰 종류로부터 정해지는 이항 연산자. toString()은 소스 상의 기호를 돌려준다.
+public enum BinaryOperator {
+    ADD("+"),
+    SUB("-"),
+    MUL("*"),
+    DIV("/"),
+    MOD("%"),
+    EQ("=="),
+    NE("!="),
+    LT("<"),
+    GT(">"),
+    LE("<="),
+    GE(">="),
+    AND("&&"),
+    OR("||");
+
+    private final String symbol;
+
+    BinaryOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+
+    public static BinaryOperator fromToken(TokenType kind) {
+        switch (kind) {
+            case PLUS: return ADD;
+            case MINUS: return SUB;
+            case MUL: return MUL;
+            case DIV: return DIV;
+            case MOD: return MOD;
+            case EQUAL: return EQ;
+            case NOT_EQUAL: return NE;
+            case LESS: return LT;
+            case GREATER: return GT;
+            case LESS_EQUAL: return LE;
+            case GREATER_EQUAL: return GE;
+            case AND: return AND;
+            case OR: return OR;
+            default: throw new IllegalArgumentException("이항 연산자가 아닌 토큰입니다: " + kind);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import flow.runtime.types.Value;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class FunctionPrototype extends ASTNode{
@@ -15,7 +16,7 @@ public class FunctionPrototype extends ASTNode{
     public FunctionPrototype(String name, List<Param> params, Type returnType, int line, int col) {
         super(line, col);
         this.name = name;
-        this.params = new ArrayList<>(params);
+        this.params = Collections.unmodifiableList(new ArrayList<>(params));
         this.returnType = returnType;
     }
 
@@ -57,7 +58,7 @@ public class FunctionPrototype extends ASTNode{
     }
 
     public List<Param> getParams() {
-        return new ArrayList<>(params);
+        return params;
     }
 
     public Type getReturnType() {
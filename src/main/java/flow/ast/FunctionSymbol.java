@@ -6,10 +6,16 @@ public class FunctionSymbol {
 
     private final FunctionPrototype proto;
     private final BlockStmt body;
+    private final int requiredParamCount; // 이 개수 뒤의 파라미터는 호출할 때 생략할 수 있다 (내장 함수만).
 
     public FunctionSymbol(FunctionPrototype proto, BlockStmt body) {
+        this(proto, body, proto.getParams().size());
+    }
+
+    public FunctionSymbol(FunctionPrototype proto, BlockStmt body, int requiredParamCount) {
         this.proto = proto;
         this.body = body;
+        this.requiredParamCount = requiredParamCount;
     }
 
 
@@ -20,4 +26,8 @@ public class FunctionSymbol {
     public BlockStmt getBody() {
         return body;
     }
+
+    public int getRequiredParamCount() {
+        return requiredParamCount;
+    }
 }
@@ -7,6 +7,7 @@ import flow.runtime.types.VoidValue;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class ProgramNode extends ASTNode{
@@ -16,7 +17,7 @@ public class ProgramNode extends ASTNode{
 
     public ProgramNode(final List<Stmt> statements, int line, int col) {
         super(line, col);
-        this.statements = new ArrayList<>(statements);
+        this.statements = Collections.unmodifiableList(new ArrayList<>(statements));
     }
 
     @Override
@@ -41,14 +42,17 @@ public class ProgramNode extends ASTNode{
 
 
     public List<Stmt> getStatements() {
-        return new ArrayList<>(statements);
+        return statements;
     }
 
     public Value accept(Interpreter interpreter){
         for(Stmt stmt : statements){
             stmt.accept(interpreter);
+            if (interpreter.isAbrupt()) {
+                break;
+            }
         }
 
-        return new VoidValue();
+        return VoidValue.INSTANCE;
     }
 }
@@ -0,0 +1,33 @@
+package flow.ast;
+
+import flow.token.TokenType;
+
+public enum UnaryOperator {
+    PLUS("+"),
+    NEG("-"),
+    NOT("!");
+
+    private final String symbol;
+
+    UnaryOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+
+    public static UnaryOperator fromToken(TokenType kind) {
+        switch (kind) {
+            case PLUS: return PLUS;
+            case MINUS: return NEG;
+            case NOT: return NOT;
+            default: throw new IllegalArgumentException("단항 연산자가 아닌 토큰입니다: " + kind);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package flow.ast.expr;
 import flow.runtime.errors.RuntimeError;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.ArrayValue;
+import flow.runtime.types.IntValue;
 import flow.runtime.types.Value;
 
 import java.io.PrintStream;
@@ -60,19 +61,13 @@ public class Array1DAccessExpr extends Expr {
         Value baseValue = interpreter.evaluateExpression(this.getBase());
         Value indexValue = interpreter.evaluateExpression(this.getIndex());
 
-        if (!baseValue.isArray()) {
-            throw new RuntimeError("배열 접근 연산자는 배열 타입에만 적용 가능합니다.", this.line, this.col);
-        }
-        if (!indexValue.isInt()) {
-            throw new RuntimeError("배열 인덱스는 정수 타입이어야 합니다.", this.line, this.col);
-        }
-
+        // 배열 타입과 인덱스 타입은 TypeChecker가 검사했다.
         ArrayValue array = (ArrayValue) baseValue;
-        int index = indexValue.asInt(this.line, this.col);
+        int index = ((IntValue) indexValue).intValue();
 
-        if (index < 0 || index >= array.getElements().size()) {
+        if (index < 0 || index >= array.getLength()) {
             throw new RuntimeError("배열 인덱스 범위 초과: " + index, this.line, this.col);
         }
-        return array.getElements().get(index);
+        return array.getElement(index);
     }
 }
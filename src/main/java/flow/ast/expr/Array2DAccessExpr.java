@@ -3,6 +3,7 @@ package flow.ast.expr;
 import flow.runtime.errors.RuntimeError;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.ArrayValue;
+import flow.runtime.types.IntValue;
 import flow.runtime.types.Value;
 
 import java.io.PrintStream;
@@ -69,29 +70,17 @@ public class Array2DAccessExpr extends Expr {
         Value index1Value = interpreter.evaluateExpression(this.getIndex1());
         Value index2Value = interpreter.evaluateExpression(this.getIndex2());
 
-        if (!baseValue.isArray() || ((ArrayValue)baseValue).getDimension() < 2) {
-            throw new RuntimeError("2차원 배열 접근 연산자는 2차원 배열 타입에만 적용 가능합니다.", this.line, this.col);
-        }
-        if (!index1Value.isInt() || !index2Value.isInt()) {
-            throw new RuntimeError("배열 인덱스는 정수 타입이어야 합니다.", this.line, this.col);
-        }
-
+        // 배열 타입과 인덱스 타입은 TypeChecker가 검사했다.
         ArrayValue array = (ArrayValue) baseValue;
-        int index1 = index1Value.asInt(this.line, this.col);
-        int index2 = index2Value.asInt(this.line, this.col);
+        int index1 = ((IntValue) index1Value).intValue();
+        int index2 = ((IntValue) index2Value).intValue();
 
-        if (index1 < 0 || index1 >= array.getElements().size()) {
+        if (index1 < 0 || index1 >= array.getLength()) {
             throw new RuntimeError("첫 번째 배열 인덱스 범위 초과: " + index1, this.line, this.col);
         }
-        Value rowValue = array.getElements().get(index1);
-        if (!rowValue.isArray()) {
-            throw new RuntimeError("2차원 배열의 행 요소가 배열이 아닙니다. 2차원 배열 접근 오류.", this.line, this.col);
-        }
-        ArrayValue row = (ArrayValue)rowValue;
-
-        if (index2 < 0 || index2 >= row.getElements().size()) {
+        if (index2 < 0 || index2 >= array.getRowLength(index1)) {
             throw new RuntimeError("두 번째 배열 인덱스 범위 초과: " + index2, this.line, this.col);
         }
-        return row.getElements().get(index2);
+        return array.getElement(index1, index2);
     }
 }
@@ -6,6 +6,7 @@ import flow.runtime.types.Value;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,7 +21,7 @@ public class ArrayLiteralExpr extends Expr {
         super(line, col);
         this.line = line;
         this.col = col;
-        this.elements = new ArrayList<>(elements);
+        this.elements = Collections.unmodifiableList(new ArrayList<>(elements));
         if (elements.isEmpty()) {
             this.dim = 1;
         } else {
@@ -70,7 +71,7 @@ public class ArrayLiteralExpr extends Expr {
     }
 
     public List<Expr> getElements() {
-        return new ArrayList<>(elements);
+        return elements;
     }
 
     public int getDim() {
@@ -83,6 +84,6 @@ public class ArrayLiteralExpr extends Expr {
         for (Expr elementNode : this.getElements()) {
             runtimeElements.add(elementNode.accept(interpreter)); 
         }
-        return new ArrayValue(runtimeElements, line, col);
+        return ArrayValue.ofChecked(runtimeElements, line, col);
     }
 }
\ No newline at end of file
@@ -9,7 +9,10 @@ import java.io.PrintStream;
 public class AssignExpr extends Expr{
 
     private final Expr lhs;
-    private final Expr rhs;
+    private Expr rhs;
+    // 좌변이 식별자일 때 Resolver가 배정하는 위치 (depth -1은 전역)
+    private int depth = -1;
+    private int slot = -1;
 
     public AssignExpr(Expr lhs, Expr rhs, int line, int col) {
         super(line, col);
@@ -49,6 +52,24 @@ public class AssignExpr extends Expr{
         return rhs;
     }
 
+    // TypeChecker가 int 값을 float 변수에 넣을 때 변환 식으로 바꾼다.
+    public void setRhs(Expr rhs) {
+        this.rhs = rhs;
+    }
+
+    public void resolve(int depth, int slot) {
+        this.depth = depth;
+        this.slot = slot;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
     @Override
     public Value accept(Interpreter interpreter) {
         Value rhsValue = this.getRhs().accept(interpreter); 
@@ -56,7 +77,18 @@ public class AssignExpr extends Expr{
 
         if (lhsNode instanceof IdentifierExpr) {
             IdentifierExpr idNode = (IdentifierExpr)lhsNode;
-            interpreter.currentEnvironment.assign(idNode.getName(), rhsValue, this.line, this.col); 
+            if (depth < 0) {
+                interpreter.currentEnvironment.assign(idNode.getName(), rhsValue, this.line, this.col);
+            } else {
+                Value current = interpreter.currentFrame.get(depth, slot);
+                if (current == null) {
+                    throw new RuntimeError("선언되지 않은 변수 '" + idNode.getName() + "'에 할당할 수 없습니다.", this.line, this.col);
+                }
+                if (current.isFunction()) {
+                    throw new RuntimeError("함수 '" + idNode.getName() + "'에는 값을 할당할 수 없습니다.", this.line, this.col);
+                }
+                interpreter.currentFrame.set(depth, slot, rhsValue);
+            }
         } else if (lhsNode instanceof Array1DAccessExpr) {
             
             throw new RuntimeError("배열 요소 할당은 아직 구현되지 않았습니다.", this.line, this.col);
@@ -1,6 +1,8 @@
 package flow.ast.expr;
 
+import flow.ast.BinaryOperator;
 import flow.runtime.interpreter.Interpreter;
+import flow.runtime.types.BinaryOperation;
 import flow.runtime.types.Value;
 
 import java.io.PrintStream;
@@ -9,8 +11,14 @@ public class BinaryExpr extends Expr{
 
     private final Expr lhs;
     private final Expr rhs;
-    private final String op;
-    public BinaryExpr(Expr lhs, String op, Expr rhs, int line, int col) {
+    private final BinaryOperator op;
+
+    // 마지막으로 본 피연산자 타입 쌍과 그에 맞게 고른 연산 (인라인 캐시)
+    private Class<?> cachedLhsType;
+    private Class<?> cachedRhsType;
+    private BinaryOperation cachedOperation;
+
+    public BinaryExpr(Expr lhs, BinaryOperator op, Expr rhs, int line, int col) {
         super(line, col);
         this.lhs = lhs;
         this.rhs = rhs;
@@ -25,6 +33,9 @@ public class BinaryExpr extends Expr{
 
     @Override
     public String getType() {
+        if (getResolvedType() != null) {
+            return getResolvedType();
+        }
         String ltype = lhs.getType();
         String rtype = rhs.getType();
         return (ltype.equals(rtype)) ? ltype : "unknown";
@@ -51,7 +62,7 @@ public class BinaryExpr extends Expr{
         return rhs;
     }
 
-    public String getOp() {
+    public BinaryOperator getOp() {
         return op;
     }
 
@@ -59,6 +70,11 @@ public class BinaryExpr extends Expr{
     public Value accept(Interpreter interpreter) {
         Value lhsValue = this.getLhs().accept(interpreter); 
         Value rhsValue = this.getRhs().accept(interpreter); 
-        return lhsValue.performBinaryOperation(rhsValue, this.getOp(), this.line, this.col); 
+        if (lhsValue.getClass() != cachedLhsType || rhsValue.getClass() != cachedRhsType) {
+            cachedOperation = BinaryOperation.select(op, lhsValue, rhsValue);
+            cachedLhsType = lhsValue.getClass();
+            cachedRhsType = rhsValue.getClass();
+        }
+        return cachedOperation.apply(lhsValue, rhsValue, this.line, this.col);
     }
 }
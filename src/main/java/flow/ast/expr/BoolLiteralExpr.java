@@ -8,6 +8,7 @@ import java.io.PrintStream;
 
 public class BoolLiteralExpr extends Expr{
     private final String value;
+    private BoolValue constant;
 
     public BoolLiteralExpr(final String value, int line, int col) {
         super(line, col);
@@ -35,8 +36,15 @@ public class BoolLiteralExpr extends Expr{
         os.println("BoolLiteralExpr: " + toString());
     }
 
+    public BoolValue getConstant() {
+        if (constant == null) {
+            constant = BoolValue.of(Boolean.parseBoolean(this.value));
+        }
+        return constant;
+    }
+
     @Override
     public Value accept(Interpreter interpreter) {
-        return new BoolValue(Boolean.parseBoolean(this.value));
+        return getConstant();
     }
 }
@@ -8,12 +8,23 @@ import java.io.PrintStream;
 
 public abstract class Expr extends ASTNode {
 
+    // TypeChecker가 정한 정적 타입 (예: "int", "string[][]"). 검사 전에는 null이다.
+    private String resolvedType;
+
     public Expr(int line, int col) {
         super(line, col);
     }
 
     public abstract String getType();
 
+    public String getResolvedType() {
+        return resolvedType;
+    }
+
+    public void setResolvedType(String resolvedType) {
+        this.resolvedType = resolvedType;
+    }
+
 
     public abstract boolean canBeLhs();
 
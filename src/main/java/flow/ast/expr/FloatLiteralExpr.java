@@ -8,6 +8,7 @@ import java.io.PrintStream;
 
 public class FloatLiteralExpr extends Expr{
     private final String value;
+    private FloatValue constant;
 
     public FloatLiteralExpr(final String value, int line, int col) {
         super(line, col);
@@ -35,8 +36,15 @@ public class FloatLiteralExpr extends Expr{
         os.println("FloatLiteralExpr: " + toString());
     }
 
+    public FloatValue getConstant() {
+        if (constant == null) {
+            constant = new FloatValue(Float.parseFloat(this.value));
+        }
+        return constant;
+    }
+
     @Override
     public Value accept(Interpreter interpreter) {
-        return new FloatValue(Float.parseFloat(this.value));
+        return getConstant();
     }
 }
@@ -6,13 +6,13 @@ import flow.runtime.types.Value;
 import flow.runtime.types.FunctionValue; 
 import flow.runtime.interpreter.FunctionObject; 
 import flow.runtime.errors.RuntimeError;
-import flow.runtime.interpreter.ControlFlowSignal; 
 import flow.runtime.interpreter.Environment; 
 import flow.runtime.types.VoidValue; 
 
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,12 +20,14 @@ import java.util.stream.Collectors;
 public class FunctionCallExpr extends Expr{
 
     private final Expr callee;
-    private final List<Expr> args;
+    private final List<Expr> argNodes;
+    private final List<Expr> args; // argNodes를 읽기 전용으로 보여 준다.
 
     public FunctionCallExpr(Expr callee, final List<Expr> args, int line, int col) {
         super(line, col);
         this.callee = callee;
-        this.args = new ArrayList<>(args);
+        this.argNodes = new ArrayList<>(args);
+        this.args = Collections.unmodifiableList(argNodes);
     }
 
 
@@ -40,7 +42,7 @@ public class FunctionCallExpr extends Expr{
 
     @Override
     public String getType() {
-        return "unknown"; 
+        return getResolvedType() != null ? getResolvedType() : "unknown";
     }
 
     @Override
@@ -63,7 +65,12 @@ public class FunctionCallExpr extends Expr{
     }
 
     public List<Expr> getArgs() {
-        return new ArrayList<>(args);
+        return args;
+    }
+
+    // TypeChecker가 int 값을 float 파라미터에 넘길 때 변환 식으로 바꾼다.
+    public void setArg(int index, Expr arg) {
+        argNodes.set(index, arg);
     }
 
     @Override
@@ -78,13 +85,13 @@ public class FunctionCallExpr extends Expr{
         FunctionObject funcObj = funcValue.getFunctionObject();
 
         List<Expr> argNodes = this.getArgs(); 
-        List<Value> argValues = new ArrayList<>();
-        for (Expr argNode : argNodes) {
-            argValues.add(interpreter.evaluateExpression(argNode)); 
+        Value[] argValues = new Value[argNodes.size()];
+        for (int i = 0; i < argValues.length; i++) {
+            argValues[i] = interpreter.evaluateExpression(argNodes.get(i)); 
         }
 
         
         
-        return interpreter.executeFunction(funcObj, argValues, this.line, this.col);
+        return interpreter.callFunction(funcObj, argValues, this.line, this.col);
     }
 }
\ No newline at end of file
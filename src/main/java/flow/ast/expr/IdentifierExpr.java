@@ -1,5 +1,6 @@
 package flow.ast.expr;
 
+import flow.runtime.errors.RuntimeError;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.Value;
 
@@ -7,6 +8,10 @@ import java.io.PrintStream;
 
 public class IdentifierExpr extends Expr{
     private final String name;
+    // Resolver가 배정하는 위치. depth가 -1이면 전역 Environment에서 이름으로 찾는다.
+    private int depth = -1;
+    private int slot = -1;
+
     public IdentifierExpr(String name, int line, int col) {
         super(line, col);
         this.name = name;
@@ -19,7 +24,7 @@ public class IdentifierExpr extends Expr{
 
     @Override
     public String getType() {
-        return "unknown";
+        return getResolvedType() != null ? getResolvedType() : "unknown";
     }
 
     @Override
@@ -37,8 +42,28 @@ public class IdentifierExpr extends Expr{
         return name;
     }
 
+    public void resolve(int depth, int slot) {
+        this.depth = depth;
+        this.slot = slot;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
     @Override
     public Value accept(Interpreter interpreter) {
-        return interpreter.currentEnvironment.lookup(this.getName(), this.line, this.col);
+        if (depth < 0) {
+            return interpreter.currentEnvironment.lookup(this.getName(), this.line, this.col);
+        }
+        Value value = interpreter.currentFrame.get(depth, slot);
+        if (value == null) {
+            throw new RuntimeError("선언되지 않은 식별자 '" + name + "' 입니다.", this.line, this.col);
+        }
+        return value;
     }
 }
@@ -9,6 +9,7 @@ import java.io.PrintStream;
 public class IntLiteralExpr extends Expr{
 
     private final String value;
+    private IntValue constant; // 리터럴 값은 변하지 않으므로 처음 평가할 때 한 번만 만든다.
 
     public IntLiteralExpr(final String value, int line, int col) {
         super(line, col);
@@ -36,8 +37,15 @@ public class IntLiteralExpr extends Expr{
         os.println("IntLiteralExpr: " + toString());
     }
 
+    public IntValue getConstant() {
+        if (constant == null) {
+            constant = IntValue.of(Integer.parseInt(this.value));
+        }
+        return constant;
+    }
+
     @Override
     public Value accept(Interpreter interpreter) {
-        return new IntValue(Integer.parseInt(this.value));
+        return getConstant();
     }
 }
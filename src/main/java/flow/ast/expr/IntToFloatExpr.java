@@ -0,0 +1,51 @@
+package flow.ast.expr;
+
+import flow.runtime.interpreter.Interpreter;
+import flow.runtime.types.FloatValue;
+import flow.runtime.types.Value;
+
+import java.io.PrintStream;
+
+// float 변수, 파라미터, 반환 값 자리에 int 식을 넣을 때 TypeChecker가 그 식을 감싸 값을 float로 바꾼다.
+// 소스에는 나타나지 않는 노드이다.
+public class IntToFloatExpr extends Expr {
+
+    private final Expr operand;
+
+    public IntToFloatExpr(Expr operand) {
+        super(operand.line, operand.col);
+        this.operand = operand;
+        setResolvedType("float");
+    }
+
+    @Override
+    public String toString() {
+        return operand.toString();
+    }
+
+    @Override
+    public String getType() {
+        return "float";
+    }
+
+    @Override
+    public boolean canBeLhs() {
+        return false;
+    }
+
+    @Override
+    public void dump(PrintStream os, int indent) {
+        printIndent(os, indent);
+        os.println("IntToFloatExpr: " + toString());
+        operand.dump(os, indent + 2);
+    }
+
+    public Expr getOperand() {
+        return operand;
+    }
+
+    @Override
+    public Value accept(Interpreter interpreter) {
+        return new FloatValue(operand.accept(interpreter).asFloat(line, col));
+    }
+}
@@ -8,6 +8,7 @@ import java.io.PrintStream;
 
 public class StringLiteralExpr extends Expr{
     private final String value;
+    private StringValue constant;
 
     public StringLiteralExpr(final String value, int line, int col) {
         super(line, col);
@@ -39,8 +40,15 @@ public class StringLiteralExpr extends Expr{
         os.println("StringLiteralExpr: " + toString());
     }
 
+    public StringValue getConstant() {
+        if (constant == null) {
+            constant = new StringValue(this.value);
+        }
+        return constant;
+    }
+
     @Override
     public Value accept(Interpreter interpreter) {
-        return new StringValue(this.value);
+        return getConstant();
     }
 }
@@ -1,5 +1,6 @@
 package flow.ast.expr;
 
+import flow.ast.UnaryOperator;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.Value;
 
@@ -8,9 +9,9 @@ import java.io.PrintStream;
 public class UnaryExpr extends Expr{
 
     private final Expr operand;
-    private final String op;
+    private final UnaryOperator op;
 
-    public UnaryExpr(Expr operand, String op, int line, int col) {
+    public UnaryExpr(Expr operand, UnaryOperator op, int line, int col) {
         super(line, col);
         this.operand = operand;
         this.op = op;
@@ -43,7 +44,7 @@ public class UnaryExpr extends Expr{
         return operand;
     }
 
-    public String getOp() {
+    public UnaryOperator getOp() {
         return op;
     }
 
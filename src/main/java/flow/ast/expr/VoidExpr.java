@@ -36,6 +36,6 @@ public class VoidExpr extends Expr{
 
     @Override
     public Value accept(Interpreter interpreter) {
-        return new VoidValue();
+        return VoidValue.INSTANCE;
     }
 }
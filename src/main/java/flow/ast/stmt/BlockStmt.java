@@ -1,12 +1,12 @@
 package flow.ast.stmt;
 
-import flow.runtime.interpreter.Environment;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.Value;
 import flow.runtime.types.VoidValue;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class BlockStmt extends Stmt{
@@ -16,7 +16,7 @@ public class BlockStmt extends Stmt{
 
     public BlockStmt(List<Stmt> stmts, int line, int col) {
         super(line, col);
-        this.stmts = new ArrayList<>(stmts);
+        this.stmts = Collections.unmodifiableList(new ArrayList<>(stmts));
     }
 
 
@@ -41,19 +41,18 @@ public class BlockStmt extends Stmt{
     }
 
     public List<Stmt> getStatements() {
-        return new ArrayList<>(stmts);
+        return stmts;
     }
 
     @Override
     public Value accept(Interpreter interpreter) {
-        Environment prevEnvironment = interpreter.currentEnvironment; 
-        interpreter.currentEnvironment = new Environment(prevEnvironment); 
-
-        for (Stmt stmt : this.getStatements()) {
-            interpreter.executeStatement(stmt); 
+        // 블록 지역 변수는 Resolver가 함수 프레임의 슬롯으로 배정하므로 블록 진입 시 별도 스코프를 만들지 않는다.
+        for (Stmt stmt : stmts) {
+            interpreter.executeStatement(stmt);
+            if (interpreter.isAbrupt()) {
+                break;
+            }
         }
-
-        interpreter.currentEnvironment = prevEnvironment; 
-        return new VoidValue(); 
+        return VoidValue.INSTANCE; 
     }
 }
@@ -1,9 +1,10 @@
 package flow.ast.stmt;
 
 import flow.runtime.errors.RuntimeError;
-import flow.runtime.interpreter.ControlFlowSignal;
+import flow.runtime.interpreter.Completion;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.Value;
+import flow.runtime.types.VoidValue;
 
 import java.io.PrintStream;
 
@@ -26,6 +27,7 @@ public class ContinueStmt extends Stmt{
 
     @Override
     public Value accept(Interpreter interpreter) {
-        throw new ControlFlowSignal(ControlFlowSignal.Type.BREAK, this.line, this.col);
+        interpreter.complete(Completion.CONTINUE, null, this.line, this.col);
+        return VoidValue.INSTANCE;
     }
 }
@@ -38,6 +38,6 @@ public class ExprStmt extends Stmt{
     @Override
     public Value accept(Interpreter interpreter) {
         this.getExpr().accept(interpreter); 
-        return new VoidValue(); 
+        return VoidValue.INSTANCE; 
     }
 }
@@ -1,6 +1,7 @@
 package flow.ast.stmt;
 
 import flow.ast.expr.Expr;
+import flow.runtime.interpreter.Completion;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.BoolValue;
 import flow.runtime.types.Value;
@@ -87,7 +88,7 @@ public class ForStmt extends Stmt{
             if (this.getCond() != null) { 
                 conditionValue = this.getCond().accept(interpreter);
             } else {
-                conditionValue = new BoolValue(true);
+                conditionValue = BoolValue.TRUE;
             }
 
             if (!conditionValue.isTruth()) {
@@ -95,11 +96,20 @@ public class ForStmt extends Stmt{
             }
 
             this.getBody().accept(interpreter); 
+            Completion completion = interpreter.getCompletion();
+            if (completion == Completion.BREAK) {
+                interpreter.clearCompletion();
+                break;
+            } else if (completion == Completion.CONTINUE) {
+                interpreter.clearCompletion(); // continue도 post는 실행한 뒤 다음 반복으로 간다.
+            } else if (completion == Completion.RETURN) {
+                break;
+            }
 
             if (this.getPost() != null) { 
                 this.getPost().accept(interpreter);
             }
         }
-        return new VoidValue();
+        return VoidValue.INSTANCE;
     }
 }
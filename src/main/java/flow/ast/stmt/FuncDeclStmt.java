@@ -1,7 +1,9 @@
 package flow.ast.stmt;
 
 import flow.ast.FunctionPrototype;
+import flow.compiler.Chunk;
 import flow.runtime.errors.RuntimeError;
+import flow.runtime.interpreter.Frame;
 import flow.runtime.interpreter.FunctionObject;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.FunctionValue;
@@ -14,6 +16,10 @@ public class FuncDeclStmt extends Stmt{
 
     private final FunctionPrototype prototype;
     private final BlockStmt body;
+    // Resolver가 배정하는 값: 함수 이름이 들어갈 지역 슬롯(-1이면 전역)과 호출 프레임 크기
+    private int slot = -1;
+    private int frameSize = 0;
+    private Chunk chunk; // VM으로 실행할 때 컴파일된 본문 (없으면 AST로 실행)
 
     public FuncDeclStmt(FunctionPrototype prototype, BlockStmt body, int line, int col) {
         super(line, col);
@@ -49,19 +55,53 @@ public class FuncDeclStmt extends Stmt{
         return body;
     }
 
-    @Override
-    public Value accept(Interpreter interpreter) {
-        
-        FunctionObject funcObj = new FunctionObject(
+    public int getSlot() {
+        return slot;
+    }
+
+    public void setSlot(int slot) {
+        this.slot = slot;
+    }
+
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    public void setFrameSize(int frameSize) {
+        this.frameSize = frameSize;
+    }
+
+    public Chunk getChunk() {
+        return chunk;
+    }
+
+    public void setChunk(Chunk chunk) {
+        this.chunk = chunk;
+    }
+
+    // 선언이 실행될 때마다 현재 프레임을 정적 링크로 갖는 함수 객체를 만든다.
+    public FunctionObject instantiate(Frame closureFrame) {
+        return new FunctionObject(
                 this.getPrototype().getName(),
                 this.getPrototype().getParams(),
                 this.getBody(),
-                interpreter.currentEnvironment, 
+                closureFrame,
+                frameSize,
+                chunk,
                 this.getPrototype().getReturnType(),
                 this.line, this.col
         );
-        
-        interpreter.currentEnvironment.define(funcObj.getName(), new FunctionValue(funcObj), this.line, this.col);
-        return new VoidValue(); 
+    }
+
+    @Override
+    public Value accept(Interpreter interpreter) {
+        FunctionObject funcObj = instantiate(interpreter.currentFrame);
+
+        if (slot < 0) {
+            interpreter.currentEnvironment.define(funcObj.getName(), new FunctionValue(funcObj), this.line, this.col);
+        } else {
+            interpreter.currentFrame.set(slot, new FunctionValue(funcObj));
+        }
+        return VoidValue.INSTANCE; 
     }
 }
@@ -8,6 +8,7 @@ import flow.utility.Pair;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class IfStmt extends Stmt{
@@ -21,7 +22,7 @@ public class IfStmt extends Stmt{
         super(line, col);
         this.condition = condition;
         this.thenBranch = thenBranch;
-        this.elseIfBranches = new ArrayList<>(elseIfBranches);
+        this.elseIfBranches = Collections.unmodifiableList(new ArrayList<>(elseIfBranches));
         this.elseBranch = elseBranch;
     }
 
@@ -86,7 +87,7 @@ public class IfStmt extends Stmt{
     }
 
     public List<Pair<Expr, BlockStmt>> getElseIfBranches() {
-        return new ArrayList<>(elseIfBranches);
+        return elseIfBranches;
     }
 
     public BlockStmt getElseBranch() {
@@ -114,6 +115,6 @@ public class IfStmt extends Stmt{
                 this.getElseBranch().accept(interpreter); 
             }
         }
-        return new VoidValue(); 
+        return VoidValue.INSTANCE; 
     }
 }
@@ -2,7 +2,7 @@ package flow.ast.stmt;
 
 import flow.ast.expr.Expr;
 import flow.runtime.errors.RuntimeError;
-import flow.runtime.interpreter.ControlFlowSignal;
+import flow.runtime.interpreter.Completion;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.Value;
 import flow.runtime.types.VoidValue;
@@ -11,7 +11,7 @@ import java.io.PrintStream;
 
 public class ReturnStmt extends Stmt{
 
-    private final Expr expr;
+    private Expr expr;
 
     public ReturnStmt(Expr expr, int line, int col) {
         super(line, col);
@@ -46,11 +46,17 @@ public class ReturnStmt extends Stmt{
         return expr;
     }
 
+    // TypeChecker가 float 함수에서 int 값을 반환할 때 변환 식으로 바꾼다.
+    public void setExpr(Expr expr) {
+        this.expr = expr;
+    }
+
     @Override
     public Value accept(Interpreter interpreter) {
         
-        Value returnValue = (this.getExpr() != null) ? interpreter.evaluateExpression(this.getExpr()) : new VoidValue();
+        Value returnValue = (this.getExpr() != null) ? interpreter.evaluateExpression(this.getExpr()) : VoidValue.INSTANCE;
         
-        throw new ControlFlowSignal(ControlFlowSignal.Type.RETURN, returnValue, this.line, this.col);
+        interpreter.complete(Completion.RETURN, returnValue, this.line, this.col);
+        return VoidValue.INSTANCE;
     }
 }
@@ -12,7 +12,9 @@ public class VarDeclStmt extends Stmt{
 
     private final Type type;
     private final String name;
-    private final Expr init;
+    private Expr init;
+    // Resolver가 배정하는 지역 슬롯. -1이면 전역 Environment에 선언한다.
+    private int slot = -1;
 
     public VarDeclStmt(Type type, String name, Expr init, int line, int col) {
         super(line, col);
@@ -59,10 +61,27 @@ public class VarDeclStmt extends Stmt{
         return init;
     }
 
+    // TypeChecker가 int 값을 float 변수에 넣을 때 변환 식으로 바꾼다.
+    public void setInit(Expr init) {
+        this.init = init;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public void setSlot(int slot) {
+        this.slot = slot;
+    }
+
     @Override
     public Value accept(Interpreter interpreter) {
         Value initValue = this.getInit().accept(interpreter); 
-        interpreter.currentEnvironment.define(this.getName(), initValue, this.line, this.col); 
-        return new VoidValue(); 
+        if (slot < 0) {
+            interpreter.currentEnvironment.define(this.getName(), initValue, this.line, this.col);
+        } else {
+            interpreter.currentFrame.set(slot, initValue);
+        }
+        return VoidValue.INSTANCE; 
     }
 }
@@ -1,6 +1,7 @@
 package flow.ast.stmt;
 
 import flow.ast.expr.Expr;
+import flow.runtime.interpreter.Completion;
 import flow.runtime.interpreter.Interpreter;
 import flow.runtime.types.Value;
 import flow.runtime.types.VoidValue;
@@ -55,7 +56,16 @@ public class WhileStmt extends Stmt{
                 break;
             }
             this.getBody().accept(interpreter); 
+            Completion completion = interpreter.getCompletion();
+            if (completion == Completion.BREAK) {
+                interpreter.clearCompletion();
+                break;
+            } else if (completion == Completion.CONTINUE) {
+                interpreter.clearCompletion();
+            } else if (completion == Completion.RETURN) {
+                break;
+            }
         }
-        return new VoidValue(); 
+        return VoidValue.INSTANCE; 
     }
 }
@@ -0,0 +1,72 @@
+package flow.compiler;
+
+import flow.runtime.types.Value;
+
+import java.io.PrintStream;
+
+// 함수 하나(또는 최상위 구문들)를 컴파일한 결과. 명령어마다 원본 소스 위치를 함께 기록해 런타임 오류에 사용한다.
+public class Chunk {
+    private final String name;
+    private final int[] code;
+    private final Object[] constants;
+    private final int[] lines;
+    private final int[] cols;
+    private final int maxStack;
+    private final int intLocalCount;
+    private final int[] intParams; // 시작할 때 프레임에서 int 배열로 옮길 파라미터 슬롯
+    private final int maxIntStack;
+
+    // LOAD_GLOBAL이 찾은 전역 함수를 상수 번호 자리에 둔다. 전역 함수는 다시 선언하거나 할당할 수 없으므로
+    // 같은 전역 환경에서는 바뀌지 않는다. 다른 환경에서 실행되면 비운다.
+    private Object globalOwner;
+    private Value[] globalFunctions;
+
+    public Chunk(String name, int[] code, Object[] constants, int[] lines, int[] cols, int maxStack, int intLocalCount, int maxIntStack, int[] intParams) {
+        this.name = name;
+        this.code = code;
+        this.constants = constants;
+        this.lines = lines;
+        this.cols = cols;
+        this.maxStack = maxStack;
+        this.intLocalCount = intLocalCount;
+        this.intParams = intParams;
+        this.maxIntStack = maxIntStack;
+    }
+
+    public String getName() { return name; }
+    public int[] getCode() { return code; }
+    public Object[] getConstants() { return constants; }
+    public int getMaxStack() { return maxStack; }
+    public int getIntLocalCount() { return intLocalCount; }
+    public int[] getIntParams() { return intParams; }
+    public int getMaxIntStack() { return maxIntStack; }
+    public int lineAt(int pc) { return lines[pc]; }
+    public int colAt(int pc) { return cols[pc]; }
+
+    public Value[] globalFunctions(Object environment) {
+        if (globalOwner != environment) {
+            globalOwner = environment;
+            globalFunctions = new Value[constants.length];
+        }
+        return globalFunctions;
+    }
+
+    public void dump(PrintStream os) {
+        os.println("== " + name + " (max stack " + maxStack + ", int locals " + intLocalCount + ", int stack " + maxIntStack + ") ==");
+        int pc = 0;
+        while (pc < code.length) {
+            int op = code[pc];
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%04d  %4d:%-3d  %s", pc, lines[pc], cols[pc], OpCode.name(op)));
+            for (int i = 1; i <= OpCode.operandCount(op); i++) {
+                sb.append(' ').append(code[pc + i]);
+            }
+            if (op == OpCode.CONST || op == OpCode.ERROR || op == OpCode.MAKE_FUNCTION || op == OpCode.LOAD_GLOBAL
+                    || op == OpCode.STORE_GLOBAL || op == OpCode.DEFINE_GLOBAL || op == OpCode.CALL_GLOBAL || op == OpCode.ICALL_GLOBAL) {
+                sb.append("  (").append(constants[code[pc + 1]]).append(')');
+            }
+            os.println(sb);
+            pc += 1 + OpCode.operandCount(op);
+        }
+    }
+}
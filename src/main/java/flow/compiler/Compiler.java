@@ -0,0 +1,776 @@
+package flow.compiler;
+
+import flow.ast.ASTNode;
+import flow.ast.BinaryOperator;
+import flow.ast.Param;
+import flow.ast.ProgramNode;
+import flow.ast.expr.*;
+import flow.ast.stmt.*;
+import flow.runtime.types.VoidValue;
+import flow.utility.Pair;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Resolver가 슬롯을 배정한 AST를 스택 기반 바이트코드로 낮춘다.
+// 함수 선언을 만나면 본문을 별도의 Chunk로 컴파일해 FuncDeclStmt에 붙여 둔다.
+// TypeChecker가 int로 정한 산술과 비교는 int 스택에서 박싱 없이 계산하고, 값이 필요한 곳에서만 BOX한다.
+// 안에 함수를 선언하지 않는 함수는 프레임을 다른 함수가 읽지 않으므로 int 지역 변수도 int 배열에 박싱 없이 둔다.
+// 이런 함수에서는 int 지역 변수와 정수 리터럴의 연산, 비교 후 분기, x = x + k 할당문을 합친 명령어 하나로 낮춘다.
+public class Compiler {
+
+    private static final String BREAK_OUTSIDE_LOOP = "루프 외부에서 'break' 또는 'continue' 문은 허용되지 않습니다.";
+    private static final String RETURN_AT_TOP_LEVEL = "최상위 레벨에서 'return' 문은 허용되지 않습니다.";
+
+    private static class Loop {
+        private final List<Integer> breakJumps = new ArrayList<>();
+        private final List<Integer> continueJumps = new ArrayList<>();
+    }
+
+    private final String name;
+    private final boolean topLevel;
+    private final int intLocalCount; // 0이 아니면 int 지역 변수를 int 배열의 같은 번호 슬롯에 둔다.
+    private final List<Integer> intParams = new ArrayList<>();
+
+    private int[] code = new int[64];
+    private int[] lines = new int[64];
+    private int[] cols = new int[64];
+    private int size = 0;
+
+    private final List<Object> constants = new ArrayList<>();
+    private final Map<Object, Integer> constantIndex = new HashMap<>();
+
+    private int stackDepth = 0;
+    private int maxStack = 0;
+    private int intStackDepth = 0;
+    private int maxIntStack = 0;
+
+    private final Deque<Loop> loops = new ArrayDeque<>();
+
+    private Compiler(String name, boolean topLevel, int intLocalCount) {
+        this.name = name;
+        this.topLevel = topLevel;
+        this.intLocalCount = intLocalCount;
+    }
+
+    public static Chunk compileProgram(ProgramNode program) {
+        Compiler compiler = new Compiler("<program>", true, 0);
+        for (Stmt stmt : program.getStatements()) {
+            compiler.compileStmt(stmt);
+        }
+        compiler.emit(OpCode.RETURN_VOID, program);
+        return compiler.finish();
+    }
+
+    public static Chunk compileFunction(FuncDeclStmt decl) {
+        boolean unboxed = !declaresFunction(decl.getBody());
+        Compiler compiler = new Compiler(decl.getPrototype().getName(), false, unboxed ? decl.getFrameSize() : 0);
+        if (unboxed) {
+            // 호출한 쪽은 인자를 프레임에 값으로 넣으므로 VM이 int 파라미터를 int 배열로 옮겨 둔다.
+            List<Param> params = decl.getPrototype().getParams();
+            for (int i = 0; i < params.size(); i++) {
+                if (params.get(i).getType().toString().equals("int")) {
+                    compiler.intParams.add(i);
+                }
+            }
+        }
+        compiler.compileBlock(decl.getBody());
+        compiler.emit(OpCode.RETURN_VOID, decl.getBody());
+        Chunk chunk = compiler.finish();
+        decl.setChunk(chunk);
+        return chunk;
+    }
+
+    private Chunk finish() {
+        return new Chunk(name, Arrays.copyOf(code, size), constants.toArray(), Arrays.copyOf(lines, size), Arrays.copyOf(cols, size), Math.max(maxStack, 1), intLocalCount, maxIntStack,
+                intParams.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    // --- 명령어 기록 ---
+
+    private void write(int value, ASTNode node) {
+        if (size == code.length) {
+            code = Arrays.copyOf(code, size * 2);
+            lines = Arrays.copyOf(lines, size * 2);
+            cols = Arrays.copyOf(cols, size * 2);
+        }
+        code[size] = value;
+        lines[size] = node.line;
+        cols[size] = node.col;
+        size++;
+    }
+
+    private void adjustStack(int delta) {
+        stackDepth += delta;
+        maxStack = Math.max(maxStack, stackDepth);
+    }
+
+    private void adjustIntStack(int delta) {
+        intStackDepth += delta;
+        maxIntStack = Math.max(maxIntStack, intStackDepth);
+    }
+
+    private void emit(int op, ASTNode node) {
+        write(op, node);
+    }
+
+    private void emit(int op, int operand, ASTNode node) {
+        write(op, node);
+        write(operand, node);
+    }
+
+    private int constant(Object value) {
+        Integer index = constantIndex.get(value);
+        if (index == null) {
+            index = constants.size();
+            constants.add(value);
+            constantIndex.put(value, index);
+        }
+        return index;
+    }
+
+    // 점프 대상은 나중에 채운다. 피연산자 위치를 반환한다.
+    private int emitJump(int op, ASTNode node) {
+        emit(op, -1, node);
+        return size - 1;
+    }
+
+    private void patchJump(int operandPos) {
+        code[operandPos] = size;
+    }
+
+    private void emitJumpTo(int op, int target, ASTNode node) {
+        emit(op, target, node);
+    }
+
+    // --- 구문 ---
+
+    private void compileBlock(BlockStmt block) {
+        for (Stmt stmt : block.getStatements()) {
+            compileStmt(stmt);
+        }
+    }
+
+    private void compileStmt(Stmt stmt) {
+        if (stmt instanceof BlockStmt) {
+            compileBlock((BlockStmt) stmt);
+        } else if (stmt instanceof ExprStmt) {
+            compileEffect(((ExprStmt) stmt).getExpr(), stmt);
+        } else if (stmt instanceof VarDeclStmt) {
+            VarDeclStmt varDecl = (VarDeclStmt) stmt;
+            if (varDecl.getSlot() >= 0 && isIntLocal(0, varDecl.getType().toString())) {
+                compileInt(varDecl.getInit());
+                emit(OpCode.ISTORE, varDecl.getSlot(), varDecl);
+                adjustIntStack(-1);
+                return;
+            }
+            compileExpr(varDecl.getInit());
+            if (varDecl.getSlot() < 0) {
+                emit(OpCode.DEFINE_GLOBAL, constant(varDecl.getName()), varDecl);
+            } else {
+                emit(OpCode.DEFINE_LOCAL, varDecl.getSlot(), varDecl);
+            }
+            adjustStack(-1);
+        } else if (stmt instanceof FuncDeclStmt) {
+            FuncDeclStmt funcDecl = (FuncDeclStmt) stmt;
+            compileFunction(funcDecl);
+            emit(OpCode.MAKE_FUNCTION, constant(funcDecl), funcDecl);
+            adjustStack(1);
+            if (funcDecl.getSlot() < 0) {
+                emit(OpCode.DEFINE_GLOBAL, constant(funcDecl.getPrototype().getName()), funcDecl);
+            } else {
+                emit(OpCode.DEFINE_LOCAL, funcDecl.getSlot(), funcDecl);
+            }
+            adjustStack(-1);
+        } else if (stmt instanceof IfStmt) {
+            compileIf((IfStmt) stmt);
+        } else if (stmt instanceof WhileStmt) {
+            compileWhile((WhileStmt) stmt);
+        } else if (stmt instanceof ForStmt) {
+            compileFor((ForStmt) stmt);
+        } else if (stmt instanceof ReturnStmt) {
+            ReturnStmt returnStmt = (ReturnStmt) stmt;
+            Expr expr = returnStmt.getExpr() != null ? returnStmt.getExpr() : new VoidExpr(stmt.line, stmt.col);
+            if (!topLevel && (isIntLocalRef(expr) || (expr instanceof BinaryExpr && isIntArithmetic((BinaryExpr) expr)))) {
+                compileInt(expr);
+                emit(OpCode.IRETURN, stmt);
+                adjustIntStack(-1);
+                return;
+            }
+            compileExpr(expr);
+            if (topLevel) {
+                emit(OpCode.ERROR, constant(RETURN_AT_TOP_LEVEL), stmt);
+            } else {
+                emit(OpCode.RETURN, stmt);
+            }
+            adjustStack(-1);
+        } else if (stmt instanceof BreakStmt) {
+            if (loops.isEmpty()) {
+                emit(OpCode.ERROR, constant(BREAK_OUTSIDE_LOOP), stmt);
+            } else {
+                loops.peek().breakJumps.add(emitJump(OpCode.JUMP, stmt));
+            }
+        } else if (stmt instanceof ContinueStmt) {
+            if (loops.isEmpty()) {
+                emit(OpCode.ERROR, constant(BREAK_OUTSIDE_LOOP), stmt);
+            } else {
+                loops.peek().continueJumps.add(emitJump(OpCode.JUMP, stmt));
+            }
+        } else {
+            throw new IllegalStateException("컴파일할 수 없는 구문입니다: " + stmt.getClass().getSimpleName());
+        }
+    }
+
+    // 값을 쓰지 않는 식 (식 구문, for의 초기식과 증감식)
+    private void compileEffect(Expr expr, ASTNode node) {
+        if (isLocalAssign(expr)) {
+            AssignExpr assign = (AssignExpr) expr;
+            Expr rhs = assign.getRhs();
+            if (isIntLocal(assign.getDepth(), assign.getResolvedType())) {
+                if (isLocalConstOperation(rhs, BinaryOperator.ADD, BinaryOperator.SUB)
+                        && ((IdentifierExpr) ((BinaryExpr) rhs).getLhs()).getSlot() == assign.getSlot()) {
+                    int k = constantOperand((BinaryExpr) rhs);
+                    write(OpCode.INC_LOCAL, assign);
+                    write(assign.getSlot(), assign);
+                    write(((BinaryExpr) rhs).getOp() == BinaryOperator.ADD ? k : -k, assign);
+                    return;
+                }
+                if (isAddToSelf(assign)) {
+                    // x = x + e. e는 x를 바꾸지 못하므로 e를 먼저 계산하고 x에 더한다.
+                    compileInt(((BinaryExpr) rhs).getRhs());
+                    emit(OpCode.IADD_TO_LOCAL, assign.getSlot(), assign);
+                    adjustIntStack(-1);
+                    return;
+                }
+                compileInt(rhs);
+                emit(OpCode.ISTORE, assign.getSlot(), assign);
+                adjustIntStack(-1);
+                return;
+            }
+            // 결과를 쓰지 않는 지역 변수 할당은 STORE_LOCAL + POP 대신 한 명령어로 처리한다.
+            compileExpr(rhs);
+            write(OpCode.SET_LOCAL, assign);
+            write(assign.getSlot(), assign);
+            write(constant(((IdentifierExpr) assign.getLhs()).getName()), assign);
+        } else {
+            compileExpr(expr);
+            emit(OpCode.POP, node);
+        }
+        adjustStack(-1);
+    }
+
+    private boolean isAddToSelf(AssignExpr assign) {
+        if (!(assign.getRhs() instanceof BinaryExpr)) {
+            return false;
+        }
+        BinaryExpr binary = (BinaryExpr) assign.getRhs();
+        return binary.getOp() == BinaryOperator.ADD && isIntArithmetic(binary)
+                && isIntLocalRef(binary.getLhs()) && ((IdentifierExpr) binary.getLhs()).getSlot() == assign.getSlot()
+                && isIntTree(binary.getRhs());
+    }
+
+    // int 지역 변수, 정수 리터럴, 그 산술로만 이루어진 식
+    private boolean isIntTree(Expr expr) {
+        if (expr instanceof IntLiteralExpr || isIntLocalRef(expr)) {
+            return true;
+        }
+        return expr instanceof BinaryExpr && isIntArithmetic((BinaryExpr) expr)
+                && isIntTree(((BinaryExpr) expr).getLhs()) && isIntTree(((BinaryExpr) expr).getRhs());
+    }
+
+    private static boolean isLocalAssign(Expr expr) {
+        return expr instanceof AssignExpr
+                && ((AssignExpr) expr).getLhs() instanceof IdentifierExpr
+                && ((AssignExpr) expr).getDepth() == 0;
+    }
+
+    private void compileIf(IfStmt node) {
+        List<Integer> endJumps = new ArrayList<>();
+
+        int next = compileJumpUnless(node.getCondition(), node);
+        compileBlock(node.getThenBranch());
+        endJumps.add(emitJump(OpCode.JUMP, node));
+        patchJump(next);
+
+        for (Pair<Expr, BlockStmt> elseIf : node.getElseIfBranches()) {
+            next = compileJumpUnless(elseIf.first(), elseIf.first());
+            compileBlock(elseIf.second());
+            endJumps.add(emitJump(OpCode.JUMP, node));
+            patchJump(next);
+        }
+
+        if (node.getElseBranch() != null) {
+            compileBlock(node.getElseBranch());
+        }
+        for (int jump : endJumps) {
+            patchJump(jump);
+        }
+    }
+
+    private void compileWhile(WhileStmt node) {
+        int start = size;
+        int exit = compileJumpUnless(node.getCondition(), node);
+
+        Loop loop = new Loop();
+        loops.push(loop);
+        int body = size;
+        compileBlock(node.getBody());
+        loops.pop();
+
+        emitLoopBack(node.getCondition(), start, body, node);
+        patchJump(exit);
+        for (int jump : loop.continueJumps) {
+            code[jump] = start;
+        }
+        for (int jump : loop.breakJumps) {
+            patchJump(jump);
+        }
+    }
+
+    private void compileFor(ForStmt node) {
+        if (node.getInit() != null) {
+            compileEffect(node.getInit(), node);
+        }
+
+        int start = size;
+        int exit = -1;
+        if (node.getCond() != null) {
+            exit = compileJumpUnless(node.getCond(), node);
+        }
+
+        Loop loop = new Loop();
+        loops.push(loop);
+        int body = size;
+        compileBlock(node.getBody());
+        loops.pop();
+
+        // continue도 post는 실행한 뒤 다음 반복으로 간다.
+        for (int jump : loop.continueJumps) {
+            patchJump(jump);
+        }
+        if (node.getPost() != null) {
+            compileEffect(node.getPost(), node);
+        }
+        emitLoopBack(node.getCond(), start, body, node);
+
+        if (exit >= 0) {
+            patchJump(exit);
+        }
+        for (int jump : loop.breakJumps) {
+            patchJump(jump);
+        }
+    }
+
+    // 반복의 끝. 조건이 int 비교이면 조건을 다시 검사해 참일 때 본문으로 바로 돌아가고, 아니면 처음의 검사로 점프한다.
+    private void emitLoopBack(Expr condition, int start, int body, ASTNode node) {
+        if (condition instanceof BinaryExpr && isIntComparison((BinaryExpr) condition)) {
+            code[compileJumpUnless(condition, true, node)] = body;
+        } else {
+            emitJumpTo(OpCode.JUMP, start, node);
+        }
+    }
+
+    private int compileJumpUnless(Expr condition, ASTNode node) {
+        return compileJumpUnless(condition, false, node);
+    }
+
+    // 조건이 거짓이면 (negate면 참이면) 점프한다. 점프 대상은 나중에 채우며, 피연산자 위치를 반환한다.
+    // int 비교는 bool 값을 만들지 않고 비교와 분기를 한 명령어로 처리한다.
+    private int compileJumpUnless(Expr condition, boolean negate, ASTNode node) {
+        if (condition instanceof BinaryExpr && isIntComparison((BinaryExpr) condition)) {
+            BinaryExpr compare = (BinaryExpr) condition;
+            int cmp = intOpCode(negate ? negated(compare.getOp()) : compare.getOp());
+            if (isIntLocalRef(compare.getLhs()) && isIntLocalRef(compare.getRhs())) {
+                write(OpCode.JUMP_UNLESS_ICMP_LOCALS, node);
+                write(cmp, node);
+                write(((IdentifierExpr) compare.getLhs()).getSlot(), node);
+                write(((IdentifierExpr) compare.getRhs()).getSlot(), node);
+                write(-1, node);
+                return size - 1;
+            }
+            if (isLocalConstOperation(compare, compare.getOp())) {
+                write(OpCode.JUMP_UNLESS_ICMP_LOCAL_CONST, node);
+                write(cmp, node);
+                write(((IdentifierExpr) compare.getLhs()).getSlot(), node);
+                write(constantOperand(compare), node);
+                write(-1, node);
+                return size - 1;
+            }
+            if (compare.getRhs() instanceof IntLiteralExpr) {
+                compileInt(compare.getLhs());
+                adjustIntStack(-1);
+                write(OpCode.JUMP_UNLESS_ICMP_CONST, node);
+                write(cmp, node);
+                write(constantOperand(compare), node);
+                write(-1, node);
+                return size - 1;
+            }
+            compileIntOperands(compare);
+            adjustIntStack(-2);
+            write(OpCode.JUMP_UNLESS_ICMP, node);
+            write(cmp, node);
+            write(-1, node);
+            return size - 1;
+        }
+        if (negate) {
+            throw new IllegalStateException("int 비교만 뒤집을 수 있습니다.");
+        }
+        compileExpr(condition);
+        adjustStack(-1); // JUMP_IF_FALSE가 조건 값을 pop한다.
+        return emitJump(OpCode.JUMP_IF_FALSE, node);
+    }
+
+    // --- 식 ---
+
+    private void compileExpr(Expr expr) {
+        if (expr instanceof IntLiteralExpr) {
+            emitConstant(((IntLiteralExpr) expr).getConstant(), expr);
+        } else if (expr instanceof FloatLiteralExpr) {
+            emitConstant(((FloatLiteralExpr) expr).getConstant(), expr);
+        } else if (expr instanceof StringLiteralExpr) {
+            emitConstant(((StringLiteralExpr) expr).getConstant(), expr);
+        } else if (expr instanceof BoolLiteralExpr) {
+            emitConstant(((BoolLiteralExpr) expr).getConstant(), expr);
+        } else if (expr instanceof VoidExpr) {
+            emitConstant(VoidValue.INSTANCE, expr);
+        } else if (expr instanceof IdentifierExpr) {
+            compileIdentifier((IdentifierExpr) expr);
+        } else if (expr instanceof AssignExpr) {
+            compileAssign((AssignExpr) expr);
+        } else if (expr instanceof BinaryExpr) {
+            BinaryExpr binary = (BinaryExpr) expr;
+            if (isLocalConstOperation(binary, BinaryOperator.ADD, BinaryOperator.SUB)) {
+                write(binary.getOp() == BinaryOperator.ADD ? OpCode.IADD_LOCAL_CONST : OpCode.ISUB_LOCAL_CONST, binary);
+                write(((IdentifierExpr) binary.getLhs()).getSlot(), binary);
+                write(constantOperand(binary), binary);
+                adjustStack(1);
+                return;
+            }
+            if (isIntArithmetic(binary)) {
+                compileInt(binary);
+                emit(OpCode.BOX, binary);
+                adjustIntStack(-1);
+                adjustStack(1);
+                return;
+            }
+            if (isIntComparison(binary)) {
+                compileIntOperands(binary);
+                emit(intOpCode(binary.getOp()), binary);
+                adjustIntStack(-2);
+                adjustStack(1);
+                return;
+            }
+            compileExpr(binary.getLhs());
+            compileExpr(binary.getRhs());
+            emit(binaryOpCode(binary), binary);
+            adjustStack(-1);
+        } else if (expr instanceof UnaryExpr) {
+            UnaryExpr unary = (UnaryExpr) expr;
+            compileExpr(unary.getOperand());
+            emit(unaryOpCode(unary), unary);
+        } else if (expr instanceof FunctionCallExpr) {
+            FunctionCallExpr call = (FunctionCallExpr) expr;
+            if (isGlobalCall(call)) {
+                compileGlobalCall(call, OpCode.CALL_GLOBAL);
+                adjustStack(1);
+                return;
+            }
+            compileExpr(call.getCallee());
+            for (Expr arg : call.getArgs()) {
+                compileExpr(arg);
+            }
+            emit(OpCode.CALL, call.getArgs().size(), call);
+            adjustStack(-call.getArgs().size());
+        } else if (expr instanceof Array2DAccessExpr) {
+            Array2DAccessExpr access = (Array2DAccessExpr) expr;
+            compileExpr(access.getBase());
+            compileExpr(access.getIndex1());
+            compileExpr(access.getIndex2());
+            emit(OpCode.INDEX2, access);
+            adjustStack(-2);
+        } else if (expr instanceof Array1DAccessExpr) {
+            Array1DAccessExpr access = (Array1DAccessExpr) expr;
+            compileExpr(access.getBase());
+            compileExpr(access.getIndex());
+            emit(OpCode.INDEX1, access);
+            adjustStack(-1);
+        } else if (expr instanceof IntToFloatExpr) {
+            compileExpr(((IntToFloatExpr) expr).getOperand());
+            emit(OpCode.TO_FLOAT, expr);
+        } else if (expr instanceof ArrayLiteralExpr) {
+            ArrayLiteralExpr literal = (ArrayLiteralExpr) expr;
+            for (Expr element : literal.getElements()) {
+                compileExpr(element);
+            }
+            emit(OpCode.ARRAY_LITERAL, literal.getElements().size(), literal);
+            adjustStack(1 - literal.getElements().size());
+        } else {
+            throw new IllegalStateException("컴파일할 수 없는 식입니다: " + expr.getClass().getSimpleName());
+        }
+    }
+
+    // int 식의 값을 int 스택에 push한다. int 변수, 정수 리터럴, int 산술 외의 식은 값 스택에서 계산해 옮긴다.
+    private void compileInt(Expr expr) {
+        if (expr instanceof IntLiteralExpr) {
+            emit(OpCode.ICONST, ((IntLiteralExpr) expr).getConstant().intValue(), expr);
+            adjustIntStack(1);
+        } else if (isIntLocalRef(expr)) {
+            emit(OpCode.ILOAD, ((IdentifierExpr) expr).getSlot(), expr);
+            adjustIntStack(1);
+        } else if (isLocalConstOperation(expr, BinaryOperator.ADD, BinaryOperator.SUB, BinaryOperator.MUL, BinaryOperator.DIV, BinaryOperator.MOD)
+                && constantOperand((BinaryExpr) expr) != 0) {
+            // 0으로 나누는 경우는 아래의 IDIV, IMOD가 오류를 낸다.
+            BinaryExpr binary = (BinaryExpr) expr;
+            write(OpCode.IOP_LOCAL_CONST, binary);
+            write(intOpCode(binary.getOp()), binary);
+            write(((IdentifierExpr) binary.getLhs()).getSlot(), binary);
+            write(constantOperand(binary), binary);
+            adjustIntStack(1);
+        } else if (expr instanceof BinaryExpr && isIntArithmetic((BinaryExpr) expr)) {
+            BinaryExpr binary = (BinaryExpr) expr;
+            compileIntOperands(binary);
+            emit(intOpCode(binary.getOp()), binary);
+            adjustIntStack(-1);
+        } else if (expr instanceof FunctionCallExpr && isGlobalCall((FunctionCallExpr) expr)) {
+            compileGlobalCall((FunctionCallExpr) expr, OpCode.ICALL_GLOBAL);
+            adjustIntStack(1);
+        } else {
+            compileExpr(expr);
+            emit(OpCode.UNBOX, expr);
+            adjustStack(-1);
+            adjustIntStack(1);
+        }
+    }
+
+    private static boolean isGlobalCall(FunctionCallExpr call) {
+        return call.getCallee() instanceof IdentifierExpr && ((IdentifierExpr) call.getCallee()).getDepth() < 0;
+    }
+
+    // 전역 함수 호출은 함수 값을 스택에 올리지 않고 인자만 올린 뒤 이름으로 호출한다.
+    private void compileGlobalCall(FunctionCallExpr call, int op) {
+        for (Expr arg : call.getArgs()) {
+            compileExpr(arg);
+        }
+        write(op, call);
+        write(constant(((IdentifierExpr) call.getCallee()).getName()), call);
+        write(call.getArgs().size(), call);
+        adjustStack(-call.getArgs().size());
+    }
+
+    // 이항 int 연산의 두 피연산자. 둘 다 int 지역 변수이면 한 명령어로 push한다.
+    private void compileIntOperands(BinaryExpr binary) {
+        if (isIntLocalRef(binary.getLhs()) && isIntLocalRef(binary.getRhs())) {
+            write(OpCode.ILOAD2, binary);
+            write(((IdentifierExpr) binary.getLhs()).getSlot(), binary);
+            write(((IdentifierExpr) binary.getRhs()).getSlot(), binary);
+            adjustIntStack(2);
+            return;
+        }
+        compileInt(binary.getLhs());
+        compileInt(binary.getRhs());
+    }
+
+    private void emitConstant(Object value, Expr expr) {
+        emit(OpCode.CONST, constant(value), expr);
+        adjustStack(1);
+    }
+
+    private void compileIdentifier(IdentifierExpr node) {
+        if (isIntLocalRef(node)) {
+            emit(OpCode.ILOAD, node.getSlot(), node);
+            emit(OpCode.BOX, node);
+            adjustStack(1);
+            maxIntStack = Math.max(maxIntStack, intStackDepth + 1);
+            return;
+        }
+        int nameIndex = constant(node.getName());
+        if (node.getDepth() < 0) {
+            emit(OpCode.LOAD_GLOBAL, nameIndex, node);
+        } else if (node.getDepth() == 0) {
+            write(OpCode.LOAD_LOCAL, node);
+            write(node.getSlot(), node);
+            write(nameIndex, node);
+        } else {
+            write(OpCode.LOAD_OUTER, node);
+            write(node.getDepth(), node);
+            write(node.getSlot(), node);
+            write(nameIndex, node);
+        }
+        adjustStack(1);
+    }
+
+    private void compileAssign(AssignExpr node) {
+        if (node.getLhs() instanceof IdentifierExpr && isIntLocal(node.getDepth(), node.getResolvedType())) {
+            // 할당식의 값은 저장한 변수를 다시 읽어 만든다.
+            compileInt(node.getRhs());
+            emit(OpCode.ISTORE, node.getSlot(), node);
+            emit(OpCode.ILOAD, node.getSlot(), node);
+            emit(OpCode.BOX, node);
+            adjustIntStack(-1);
+            adjustStack(1);
+            return;
+        }
+        compileExpr(node.getRhs());
+        Expr lhs = node.getLhs();
+        if (lhs instanceof IdentifierExpr) {
+            int nameIndex = constant(((IdentifierExpr) lhs).getName());
+            if (node.getDepth() < 0) {
+                emit(OpCode.STORE_GLOBAL, nameIndex, node);
+            } else if (node.getDepth() == 0) {
+                write(OpCode.STORE_LOCAL, node);
+                write(node.getSlot(), node);
+                write(nameIndex, node);
+            } else {
+                write(OpCode.STORE_OUTER, node);
+                write(node.getDepth(), node);
+                write(node.getSlot(), node);
+                write(nameIndex, node);
+            }
+        } else if (lhs instanceof Array1DAccessExpr) {
+            emit(OpCode.ERROR, constant("배열 요소 할당은 아직 구현되지 않았습니다."), node);
+        } else if (lhs instanceof Array2DAccessExpr) {
+            emit(OpCode.ERROR, constant("2차원 배열 요소 할당은 아직 구현되지 않았습니다."), node);
+        } else {
+            emit(OpCode.ERROR, constant("유효하지 않은 할당 좌변입니다."), node);
+        }
+    }
+
+    // --- 타입이 정해진 연산 ---
+
+    private static boolean isInt(Expr expr) {
+        return "int".equals(expr.getResolvedType());
+    }
+
+    private static boolean isIntArithmetic(BinaryExpr node) {
+        switch (node.getOp()) {
+            case ADD: case SUB: case MUL: case DIV: case MOD:
+                return isInt(node.getLhs()) && isInt(node.getRhs());
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isIntComparison(BinaryExpr node) {
+        switch (node.getOp()) {
+            case EQ: case NE: case LT: case GT: case LE: case GE:
+                return isInt(node.getLhs()) && isInt(node.getRhs());
+            default:
+                return false;
+        }
+    }
+
+    // int 배열에 두는 지역 변수인지
+    private boolean isIntLocal(int depth, String type) {
+        return intLocalCount > 0 && depth == 0 && "int".equals(type);
+    }
+
+    private boolean isIntLocalRef(Expr expr) {
+        return expr instanceof IdentifierExpr && isIntLocal(((IdentifierExpr) expr).getDepth(), expr.getResolvedType());
+    }
+
+    // 안에서 함수를 선언하면 그 함수가 이 프레임의 변수를 읽고 쓰므로 int 지역 변수도 프레임에 값으로 둔다.
+    private static boolean declaresFunction(Stmt stmt) {
+        if (stmt instanceof FuncDeclStmt) {
+            return true;
+        } else if (stmt instanceof BlockStmt) {
+            for (Stmt inner : ((BlockStmt) stmt).getStatements()) {
+                if (declaresFunction(inner)) {
+                    return true;
+                }
+            }
+        } else if (stmt instanceof IfStmt) {
+            IfStmt ifStmt = (IfStmt) stmt;
+            for (Pair<Expr, BlockStmt> elseIf : ifStmt.getElseIfBranches()) {
+                if (declaresFunction(elseIf.second())) {
+                    return true;
+                }
+            }
+            return declaresFunction(ifStmt.getThenBranch())
+                    || (ifStmt.getElseBranch() != null && declaresFunction(ifStmt.getElseBranch()));
+        } else if (stmt instanceof WhileStmt) {
+            return declaresFunction(((WhileStmt) stmt).getBody());
+        } else if (stmt instanceof ForStmt) {
+            return declaresFunction(((ForStmt) stmt).getBody());
+        }
+        return false;
+    }
+
+    // int 배열에 둔 지역 변수 op 정수 리터럴
+    private boolean isLocalConstOperation(Expr expr, BinaryOperator... ops) {
+        if (!(expr instanceof BinaryExpr)) {
+            return false;
+        }
+        BinaryExpr binary = (BinaryExpr) expr;
+        if (!(isIntArithmetic(binary) || isIntComparison(binary)) || !Arrays.asList(ops).contains(binary.getOp())) {
+            return false;
+        }
+        return isIntLocalRef(binary.getLhs()) && binary.getRhs() instanceof IntLiteralExpr;
+    }
+
+    private static int constantOperand(BinaryExpr node) {
+        return ((IntLiteralExpr) node.getRhs()).getConstant().intValue();
+    }
+
+    // int 비교의 부정
+    private static BinaryOperator negated(BinaryOperator op) {
+        switch (op) {
+            case EQ: return BinaryOperator.NE;
+            case NE: return BinaryOperator.EQ;
+            case LT: return BinaryOperator.GE;
+            case GT: return BinaryOperator.LE;
+            case LE: return BinaryOperator.GT;
+            case GE: return BinaryOperator.LT;
+            default: throw new IllegalStateException("비교 연산자가 아닙니다: " + op);
+        }
+    }
+
+    private static int intOpCode(BinaryOperator op) {
+        switch (op) {
+            case ADD: return OpCode.IADD;
+            case SUB: return OpCode.ISUB;
+            case MUL: return OpCode.IMUL;
+            case DIV: return OpCode.IDIV;
+            case MOD: return OpCode.IMOD;
+            case EQ: return OpCode.IEQ;
+            case NE: return OpCode.INE;
+            case LT: return OpCode.ILT;
+            case GT: return OpCode.IGT;
+            case LE: return OpCode.ILE;
+            case GE: return OpCode.IGE;
+            default: throw new IllegalStateException("int 연산 명령어가 없는 연산자: " + op);
+        }
+    }
+
+    private static int binaryOpCode(BinaryExpr node) {
+        switch (node.getOp()) {
+            case ADD: return OpCode.ADD;
+            case SUB: return OpCode.SUB;
+            case MUL: return OpCode.MUL;
+            case DIV: return OpCode.DIV;
+            case MOD: return OpCode.MOD;
+            case EQ: return OpCode.EQ;
+            case NE: return OpCode.NE;
+            case LT: return OpCode.LT;
+            case GT: return OpCode.GT;
+            case LE: return OpCode.LE;
+            case GE: return OpCode.GE;
+            case AND: return OpCode.AND;
+            case OR: return OpCode.OR;
+            default: throw new IllegalStateException("알 수 없는 이항 연산자: " + node.getOp());
+        }
+    }
+
+    private static int unaryOpCode(UnaryExpr node) {
+        switch (node.getOp()) {
+            case NEG: return OpCode.NEG;
+            case PLUS: return OpCode.PLUS;
+            case NOT: return OpCode.NOT;
+            default: throw new IllegalStateException("알 수 없는 단항 연산자: " + node.getOp());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package flow.compiler;
+
+// 바이트코드 명령어. 각 명령어 뒤에 오는 피연산자 수는 OPERAND_COUNT에 정의되어 있다.
+public final class OpCode {
+
+    public static final int CONST = 0;          // const -> 상수 push
+    public static final int POP = 1;
+    public static final int LOAD_LOCAL = 2;     // slot, name -> 현재 프레임의 슬롯
+    public static final int LOAD_OUTER = 3;     // depth, slot, name -> 바깥 함수 프레임의 슬롯
+    public static final int STORE_LOCAL = 4;    // slot, name -> 현재 프레임 변수에 할당. 값은 스택에 남긴다.
+    public static final int STORE_OUTER = 5;    // depth, slot, name -> 바깥 함수 프레임 변수에 할당
+    public static final int SET_LOCAL = 6;      // slot, name -> 할당문 전용. STORE_LOCAL과 같지만 값을 pop한다.
+    public static final int DEFINE_LOCAL = 7;   // slot -> 변수 선언. 값을 pop한다.
+    public static final int LOAD_GLOBAL = 8;    // name
+    public static final int STORE_GLOBAL = 9;   // name -> 할당식. 값은 스택에 남긴다.
+    public static final int DEFINE_GLOBAL = 10; // name -> 값을 pop한다.
+
+    public static final int ADD = 11;
+    public static final int SUB = 12;
+    public static final int MUL = 13;
+    public static final int DIV = 14;
+    public static final int MOD = 15;
+    public static final int EQ = 16;
+    public static final int NE = 17;
+    public static final int LT = 18;
+    public static final int GT = 19;
+    public static final int LE = 20;
+    public static final int GE = 21;
+    public static final int AND = 22;
+    public static final int OR = 23;
+    public static final int NEG = 24;
+    public static final int PLUS = 25;
+    public static final int NOT = 26;
+
+    public static final int JUMP = 27;          // target
+    public static final int JUMP_IF_FALSE = 28; // target -> 조건을 pop한다.
+    public static final int CALL = 29;          // argc -> 스택: callee, arg0 ... argN-1
+    public static final int RETURN = 30;
+    public static final int RETURN_VOID = 31;
+    public static final int MAKE_FUNCTION = 32; // const (FuncDeclStmt)
+    public static final int ARRAY_LITERAL = 33; // count
+    public static final int INDEX1 = 34;
+    public static final int INDEX2 = 35;
+    public static final int ERROR = 36;         // const (메시지) -> 실행되는 순간 런타임 오류
+    public static final int TO_FLOAT = 37;      // int 값을 float로 바꾼다.
+
+    // int 명령어. TypeChecker가 int로 정한 식은 값 스택 옆의 int 스택에서 박싱 없이 계산한다.
+    // 함수 청크의 int 지역 변수는 int 배열 앞쪽의 프레임 슬롯과 같은 번호 칸에 있다 (Chunk.getIntLocalCount).
+    public static final int ICONST = 38;        // k -> int 스택에 k를 push
+    public static final int ILOAD = 39;         // slot -> int 지역 변수를 int 스택에 push
+    public static final int ISTORE = 40;        // slot -> int 스택에서 pop해 int 지역 변수에 저장
+    public static final int UNBOX = 41;         // 값 스택의 int 값을 int 스택으로 옮긴다.
+    public static final int BOX = 42;           // int 스택의 값을 값 스택으로 옮긴다.
+    public static final int IADD = 43;
+    public static final int ISUB = 44;
+    public static final int IMUL = 45;
+    public static final int IDIV = 46;
+    public static final int IMOD = 47;
+    public static final int IEQ = 48;           // int 스택의 두 값을 비교해 결과를 값 스택에 push
+    public static final int INE = 49;
+    public static final int ILT = 50;
+    public static final int IGT = 51;
+    public static final int ILE = 52;
+    public static final int IGE = 53;
+
+    // 여러 명령어를 합친 명령어. 지역 변수는 int 지역 변수이고 k는 정수 리터럴 값이다.
+    public static final int IADD_LOCAL_CONST = 54;    // slot, k -> 지역 변수 + k를 값 스택에 push
+    public static final int ISUB_LOCAL_CONST = 55;    // slot, k -> 지역 변수 - k를 값 스택에 push
+    public static final int JUMP_UNLESS_ICMP = 56;    // cmp, target -> int 스택의 두 값을 cmp(IEQ ~ IGE)로 비교해 거짓이면 점프
+    public static final int JUMP_UNLESS_ICMP_LOCAL_CONST = 57; // cmp, slot, k, target -> 지역 변수 cmp k가 거짓이면 점프
+    public static final int INC_LOCAL = 58;           // slot, k -> 할당문 x = x + k (x = x - k는 -k)
+    public static final int ILOAD2 = 59;              // slot, slot -> 두 지역 변수를 차례로 int 스택에 push
+    public static final int JUMP_UNLESS_ICMP_LOCALS = 60; // cmp, slot, slot, target -> 두 지역 변수의 비교가 거짓이면 점프
+    public static final int IADD_TO_LOCAL = 61;       // slot -> 할당문 x = x + e. int 스택에서 pop한 e를 더한다.
+    public static final int IOP_LOCAL_CONST = 62;     // op, slot, k -> 지역 변수 op(IADD ~ IMOD) k를 int 스택에 push. k는 0이 아니다.
+    public static final int JUMP_UNLESS_ICMP_CONST = 63; // cmp, k, target -> int 스택에서 pop한 값 cmp k가 거짓이면 점프
+    public static final int CALL_GLOBAL = 64;         // name, argc -> 전역 함수를 인자 argc개로 호출 (LOAD_GLOBAL + CALL)
+    public static final int ICALL_GLOBAL = 65;        // name, argc -> CALL_GLOBAL + UNBOX
+    public static final int IRETURN = 66;             // int 스택에서 pop한 값을 반환 (BOX + RETURN)
+
+    private static final String[] NAMES = {
+            "CONST", "POP", "LOAD_LOCAL", "LOAD_OUTER", "STORE_LOCAL", "STORE_OUTER", "SET_LOCAL", "DEFINE_LOCAL", "LOAD_GLOBAL", "STORE_GLOBAL", "DEFINE_GLOBAL", "ADD", "SUB", "MUL", "DIV", "MOD", "EQ", "NE", "LT", "GT", "LE", "GE", "AND", "OR", "NEG", "PLUS", "NOT", "JUMP", "JUMP_IF_FALSE", "CALL", "RETURN", "RETURN_VOID", "MAKE_FUNCTION", "ARRAY_LITERAL", "INDEX1", "INDEX2", "ERROR", "TO_FLOAT",
+            "ICONST", "ILOAD", "ISTORE", "UNBOX", "BOX", "IADD", "ISUB", "IMUL", "IDIV", "IMOD", "IEQ", "INE", "ILT", "IGT", "ILE", "IGE",
+            "IADD_LOCAL_CONST", "ISUB_LOCAL_CONST", "JUMP_UNLESS_ICMP", "JUMP_UNLESS_ICMP_LOCAL_CONST", "INC_LOCAL",
+            "ILOAD2", "JUMP_UNLESS_ICMP_LOCALS", "IADD_TO_LOCAL", "IOP_LOCAL_CONST", "JUMP_UNLESS_ICMP_CONST", "CALL_GLOBAL", "ICALL_GLOBAL", "IRETURN"
+    };
+
+    private static final int[] OPERAND_COUNT = {
+            1, 0, 2, 3, 2, 3, 2, 1, 1, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 0, 0, 1, 1, 0, 0, 1, 0,
+            1, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+            2, 2, 2, 4, 2,
+            2, 4, 1, 3, 3, 2, 2, 0
+    };
+
+    private OpCode() {
+    }
+
+    public static String name(int op) {
+        return NAMES[op];
+    }
+
+    public static int operandCount(int op) {
+        return OPERAND_COUNT[op];
+    }
+}
@@ -0,0 +1,109 @@
+package flow.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// 원본 스트림을 별도 스레드에서 읽어 큰 버퍼 단위로 넘겨주는 스트림.
+// 압축 해제를 파싱과 겹쳐 돌게 할 때 쓴다. 큐가 차면 읽는 스레드가 기다리므로 메모리는 버퍼 몇 개로 제한된다.
+// 원본에서 난 입출력 오류는 그때까지 읽은 버퍼를 다 넘긴 뒤 read()에서 던진다.
+final class BackgroundInputStream extends InputStream {
+
+    private static final byte[] END = new byte[0];
+
+    private final BlockingQueue<byte[]> chunks;
+    private final Thread reader;
+    private volatile IOException failure;
+    private volatile boolean closed;
+    private byte[] current = new byte[0];
+    private int position = 0;
+
+    BackgroundInputStream(InputStream source, int bufferSize, int queueSize, String threadName) {
+        chunks = new ArrayBlockingQueue<>(queueSize);
+        reader = new Thread(() -> pump(source, bufferSize), threadName);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private void pump(InputStream source, int bufferSize) {
+        try (InputStream in = source) {
+            while (!closed) {
+                byte[] buffer = new byte[bufferSize];
+                int length = in.readNBytes(buffer, 0, bufferSize);
+                if (length > 0) {
+                    chunks.put(length == bufferSize ? buffer : Arrays.copyOf(buffer, length));
+                }
+                if (length < bufferSize) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            return; // close()가 불렀으므로 받을 쪽이 없다.
+        }
+        try {
+            chunks.put(END);
+        } catch (InterruptedException ignored) {
+        }
+    }
+
+    // 현재 버퍼를 다 읽었으면 다음 버퍼를 기다린다. 끝이면 false.
+    private boolean fill() throws IOException {
+        if (position < current.length) {
+            return true;
+        }
+        if (current == END) {
+            return false;
+        }
+        try {
+            current = chunks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("CSV 압축 해제를 기다리는 중 중단되었습니다.", e);
+        }
+        position = 0;
+        if (current == END) {
+            if (failure != null) {
+                throw failure;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return fill() ? current[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current.length - position;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        reader.interrupt();
+        chunks.clear();
+        current = END;
+        position = 0;
+    }
+}
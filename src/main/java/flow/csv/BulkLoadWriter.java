@@ -0,0 +1,104 @@
+package flow.csv;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+// 대량 적재 도구가 바로 읽을 수 있는 형식으로 행을 내보낸다.
+// 열 이름은 DDL과 같이 adjustColName으로 조정한 대문자 이름을 쓰고, 타입 정보는 ColumnStats에서 가져온다.
+public class BulkLoadWriter {
+
+    // SQL*Loader 데이터 파일의 레코드 끝. 값 안의 줄바꿈과 구별되도록 RS(0x1E) 문자 뒤에 줄바꿈을 둔다.
+    private static final String SQLLDR_RECORD_END = "\u001E\n";
+
+    private BulkLoadWriter() {
+    }
+
+    // 제어 파일(.ctl). dataFileName은 제어 파일 기준 상대 경로로 적는다.
+    public static void writeSqlLoaderControl(List<String> headers, ColumnStats[] stats, String tableName,
+                                             String dataFileName, Writer out) throws IOException {
+        out.write("OPTIONS (DIRECT=TRUE)\n");
+        out.write("LOAD DATA\n");
+        out.write("CHARACTERSET UTF8\n");
+        out.write("INFILE '" + dataFileName.replace("'", "''") + "' \"str X'1E0A'\"\n");
+        out.write("APPEND\n");
+        out.write("INTO TABLE " + tableName.toUpperCase() + "\n");
+        out.write("FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'\n");
+        out.write("TRAILING NULLCOLS\n");
+        out.write("(\n");
+        for (int i = 0; i < headers.size(); i++) {
+            out.write("  " + CsvParser.adjustColName(headers.get(i)).toUpperCase());
+            if (stats[i].isDate()) {
+                out.write(" DATE \"YYYY-MM-DD\"");
+            } else if (!stats[i].isNumeric()) {
+                // SQL*Loader의 기본 CHAR 길이는 255이므로 더 긴 값이 있으면 길이를 적어 준다.
+                out.write(" CHAR(" + Math.max(255, stats[i].getMaxLength()) + ")");
+            }
+            out.write(i + 1 < headers.size() ? ",\n" : "\n");
+        }
+        out.write(")\n");
+    }
+
+    // 제어 파일에 맞춘 데이터 파일(.dat). 값은 모두 큰따옴표로 감싸고 빈 칸은 비워 두어 NULL로 적재되게 한다.
+    public static void writeSqlLoaderData(RowCursor rows, int columnCount, Writer out) throws IOException {
+        while (rows.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String v = rows.get(i);
+                if (v != null) {
+                    out.write('"');
+                    out.write(v.indexOf('"') < 0 ? v : v.replace("\"", "\"\""));
+                    out.write('"');
+                }
+            }
+            out.write(SQLLDR_RECORD_END);
+        }
+    }
+
+    // psql로 실행할 수 있는 COPY ... FROM STDIN 블록. PostgreSQL text 형식으로 쓰며 NULL은 \N이다.
+    public static void writeCopy(List<String> headers, RowCursor rows, String tableName, Writer out) throws IOException {
+        out.write("COPY " + tableName.toUpperCase() + " (");
+        for (int i = 0; i < headers.size(); i++) {
+            if (i > 0) {
+                out.write(", ");
+            }
+            out.write(CsvParser.adjustColName(headers.get(i)).toUpperCase());
+        }
+        out.write(") FROM STDIN;\n");
+        while (rows.next()) {
+            for (int i = 0; i < headers.size(); i++) {
+                if (i > 0) {
+                    out.write('\t');
+                }
+                String v = rows.get(i);
+                if (v == null) {
+                    out.write("\\N");
+                } else {
+                    writeCopyText(v, out);
+                }
+            }
+            out.write('\n');
+        }
+        out.write("\\.\n");
+    }
+
+    private static void writeCopyText(String value, Writer out) throws IOException {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String escaped;
+            switch (value.charAt(i)) {
+                case '\\': escaped = "\\\\"; break;
+                case '\t': escaped = "\\t"; break;
+                case '\n': escaped = "\\n"; break;
+                case '\r': escaped = "\\r"; break;
+                default: continue;
+            }
+            out.write(value, start, i - start);
+            out.write(escaped);
+            start = i + 1;
+        }
+        out.write(value, start, value.length() - start);
+    }
+}
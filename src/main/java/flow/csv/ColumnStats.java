@@ -0,0 +1,157 @@
+package flow.csv;
+
+// 한 열의 값을 하나씩 받아 DDL에 필요한 통계를 모은다.
+// 값마다 문자를 한 번만 훑어 정수(-?\d+), 소수(-?\d*\.\d+), 날짜(\d{4}-\d{2}-\d{2})를 가리므로 정규식을 쓰지 않는다.
+// 타입은 날짜 → 정수 → 소수 → 문자열 순서로만 넓어진다.
+public class ColumnStats {
+
+    // numberKind의 결과. 표를 만들 때(TableValue)와 집계, 정렬도 같은 기준으로 숫자를 가린다.
+    public static final int NOT_NUMBER = 0;
+    public static final int SHORT_INTEGER = 1; // 18자리까지의 정수. long으로 정확히 읽힌다.
+    public static final int LONG_INTEGER = 2; // 그보다 긴 정수
+    public static final int DECIMAL = 3; // 소수
+
+    private boolean isDate = true;
+    private boolean isInt = true;
+    private boolean isFloat = true;
+    private long count = 0;
+    private long nullCount = 0;
+    private int maxLength = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    // null은 빈 칸이다.
+    public void accept(String value) {
+        count++;
+        if (value == null) {
+            nullCount++;
+            return;
+        }
+        maxLength = Math.max(maxLength, value.length());
+
+        if (isDate && !isDate(value)) {
+            isDate = false;
+        }
+        if (!isFloat) {
+            return;
+        }
+        int kind = numberKind(value);
+        if (kind == NOT_NUMBER) {
+            isInt = false;
+            isFloat = false;
+            return;
+        }
+        if (kind == DECIMAL) {
+            isInt = false;
+        }
+        double number = Double.parseDouble(value);
+        min = Math.min(min, number);
+        max = Math.max(max, number);
+    }
+
+    // 지금까지 정해진 타입과 NOT NULL 여부에 어긋나는 값만 accept로 반영해 타입을 넓힌다.
+    // head:N으로 앞쪽 행의 타입을 정한 뒤 나머지 행을 검사할 때 쓰며, 들어맞는 값은 길이나 최솟값/최댓값에도 반영하지 않는다.
+    public void widen(String value) {
+        if (value == null ? nullCount == 0 : !fits(value)) {
+            accept(value);
+        }
+    }
+
+    private boolean fits(String value) {
+        // 값을 하나도 보지 않은 열은 날짜/정수/소수 상태가 모두 참이므로 첫 값은 항상 반영한다.
+        if (count == nullCount) return false;
+        if (isDate) return isDate(value);
+        if (isInt) return isInteger(numberKind(value));
+        if (isFloat) return numberKind(value) != NOT_NUMBER;
+        return true;
+    }
+
+    public String getSqlType() {
+        return SqlDialect.ORACLE.columnType(this);
+    }
+
+    // 빈 칸만 있는 열은 날짜 검사를 통과한 것으로 본다 (기존 inferType과 같은 결과).
+    public boolean isDate() {
+        return isDate;
+    }
+
+    public boolean isNumeric() {
+        return !isDate && isFloat;
+    }
+
+    public boolean isInteger() {
+        return !isDate && isInt;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getNullCount() {
+        return nullCount;
+    }
+
+    public boolean hasNull() {
+        return nullCount > 0;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    // 숫자 열의 최솟값과 최댓값. 숫자 값이 없으면 각각 +∞, -∞이다.
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    // 문자를 한 번 훑어 -?\d+ 또는 -?\d*\.\d+ 꼴인지 가린다.
+    public static int numberKind(String s) {
+        int length = s.length();
+        int i = length > 0 && s.charAt(0) == '-' ? 1 : 0;
+        int intDigits = 0;
+        while (i < length && isDigit(s.charAt(i))) {
+            i++;
+            intDigits++;
+        }
+        if (i == length) {
+            if (intDigits == 0) {
+                return NOT_NUMBER;
+            }
+            return intDigits <= 18 ? SHORT_INTEGER : LONG_INTEGER;
+        }
+        if (s.charAt(i) != '.') {
+            return NOT_NUMBER;
+        }
+        i++;
+        int fractionDigits = 0;
+        while (i < length && isDigit(s.charAt(i))) {
+            i++;
+            fractionDigits++;
+        }
+        return i == length && fractionDigits > 0 ? DECIMAL : NOT_NUMBER;
+    }
+
+    public static boolean isInteger(int kind) {
+        return kind == SHORT_INTEGER || kind == LONG_INTEGER;
+    }
+
+    private static boolean isDate(String s) {
+        if (s.length() != 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            if (i != 4 && i != 7 && !isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -1,10 +1,6 @@
 package flow.csv;
 
 
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
-
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -17,29 +13,6 @@ public class CsvParser {
             "AND", "OR", "NOT", "NULL", "IN", "AS", "BY", "ON", "SET"
     ));
 
-    @SuppressWarnings("deprecation")
-    public static List<Map<String, String>> readCsv(String path) throws IOException {
-        List<Map<String, String>> ret = new ArrayList<>();
-
-        try (
-                Reader reader = new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8);
-                CSVParser parser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader)
-        ) {
-            for (CSVRecord record : parser) {
-                Map<String, String> row = new HashMap<>();
-                for (String h : parser.getHeaderMap().keySet()) {
-                    String value = record.get(h);
-                    if (value != null && value.isEmpty()) {
-                        value = null;
-                    }
-                    row.put(h, value);
-                }
-                ret.add(row);
-            }
-        }
-        return ret;
-    }
-
     public static String adjustColName(String name){
         String ret = name;
         if(Character.isDigit(ret.charAt(0))) ret = "_" + ret;
@@ -48,30 +21,11 @@ public class CsvParser {
     }
 
     public static String inferType(List<String> v) {
-        boolean isInt = true;
-        boolean isFloat = true;
-        boolean isDate = true;
-
+        ColumnStats stats = new ColumnStats();
         for (String x : v) {
-            if (x == null) continue;
-            if (!x.matches("\\d{4}-\\d{2}-\\d{2}")) {
-                isDate = false;
-            }
-
-            if (x.matches("-?\\d+")) {
-                continue;
-            } else if (x.matches("-?\\d*\\.\\d+")) {
-                isInt = false;
-            } else {
-                isInt = false;
-                isFloat = false;
-            }
+            stats.accept(x);
         }
-
-        if (isDate) return "DATE";
-        if (isInt) return "NUMBER";
-        if (isFloat) return "NUMBER";
-        return "VARCHAR2(255)";
+        return stats.getSqlType();
     }
 
 
@@ -80,42 +34,37 @@ public class CsvParser {
     }
 
 
-    public static String generateCreateTable(List<Map<String, String>> data, String tableName, String pkColumn) {
-        if (data.isEmpty()) {
-            throw new IllegalArgumentException("데이터가 없습니다.");
-        }
+    // rows를 한 번 끝까지 읽으며 열마다 ColumnStats를 모은다. 헤더 이름은 SQL 식별자로 조정한다.
+    public static String generateCreateTable(List<String> headers, RowCursor rows, String tableName, String pkColumn) {
+        return generateCreateTable(headers, collectStats(headers.size(), rows), tableName, pkColumn);
+    }
 
-        Set<String> rawColumns = data.get(0).keySet();
-        Map<String, String> nameMap = new LinkedHashMap<>();
-        for (String c : rawColumns) {
-            nameMap.put(c, adjustColName(c).toUpperCase());
-        }
+    public static ColumnStats[] collectStats(int columnCount, RowCursor rows) {
+        return TypeInference.FULL.infer(columnCount, () -> rows);
+    }
 
-        Map<String, List<String>> columnValues = new HashMap<>();
-        for (String raw : rawColumns) {
-            columnValues.put(raw, new ArrayList<>());
-        }
-        for (Map<String, String> row : data) {
-            for (String raw : rawColumns) {
-                columnValues.get(raw).add(row.get(raw));
-            }
+    public static String generateCreateTable(List<String> headers, ColumnStats[] stats, String tableName, String pkColumn) {
+        return generateCreateTable(headers, stats, tableName, pkColumn, SqlDialect.ORACLE);
+    }
+
+    public static String generateCreateTable(List<String> headers, ColumnStats[] stats, String tableName, String pkColumn, SqlDialect dialect) {
+        if (stats.length == 0 || stats[0].getCount() == 0) {
+            throw new IllegalArgumentException("데이터가 없습니다.");
         }
 
         StringBuilder sb = new StringBuilder();
         sb.append("CREATE TABLE ").append(tableName.toUpperCase()).append(" (\n");
 
-        List<String> columnDefs = new ArrayList<>();
-        for (String raw : rawColumns) {
-            String normalized = nameMap.get(raw);
-            List<String> values = columnValues.get(raw);
-            String type = inferType(values);
-
-            boolean hasNull = values.stream().anyMatch(v -> v == null);
-            String notNull = hasNull ? "" : " NOT NULL";
-
-            columnDefs.add("  " + normalized + " " + type + notNull);
+        for (int i = 0; i < headers.size(); i++) {
+            if (i > 0) {
+                sb.append(",\n");
+            }
+            sb.append("  ").append(adjustColName(headers.get(i)).toUpperCase())
+                    .append(' ').append(dialect.columnType(stats[i]));
+            if (!stats[i].hasNull()) {
+                sb.append(" NOT NULL");
+            }
         }
-        sb.append(String.join(",\n", columnDefs));
         sb.append(",\n  CONSTRAINT PK_").append(tableName.toUpperCase())
                 .append(" PRIMARY KEY (").append(adjustColName(pkColumn).toUpperCase()).append(")\n");
         sb.append(")");
@@ -124,47 +73,67 @@ public class CsvParser {
     }
 
 
-    public static List<String> generateInsertStatements(
-            List<Map<String, String>> data,
-            String tableName
-    ) {
-        List<String> statements = new ArrayList<>();
-        if (data.isEmpty()) {
-            return statements;
-        }
-        List<String> columns = new ArrayList<>(data.get(0).keySet());
-
-        for (Map<String, String> row : data) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("INSERT INTO ").append(tableName).append(" (");
-            sb.append(String.join(", ", columns));
-            sb.append(") VALUES (");
-
-            List<String> valueParts = new ArrayList<>();
-            for (String col : columns) {
-                String v = row.get(col);
+    // rows를 읽는 대로 INSERT 문을 out에 쓴다. 문장을 모아 두지 않으므로 행 수와 관계없이 메모리 사용이 일정하다.
+    // batchSize가 1이면 행마다 INSERT INTO를, 그보다 크면 최대 batchSize행씩 묶은 Oracle INSERT ALL을 쓴다.
+    public static void writeInsertStatements(
+            List<String> headers,
+            RowCursor rows,
+            String tableName,
+            int batchSize,
+            Writer out
+    ) throws IOException {
+        String into = tableName + " (" + String.join(", ", headers) + ") VALUES (";
+        int inBatch = 0;
+
+        while (rows.next()) {
+            if (batchSize <= 1) {
+                out.write("INSERT INTO ");
+            } else {
+                if (inBatch == 0) {
+                    out.write("INSERT ALL\n");
+                }
+                out.write("  INTO ");
+            }
+            out.write(into);
+            for (int i = 0; i < headers.size(); i++) {
+                if (i > 0) {
+                    out.write(", ");
+                }
+                String v = rows.get(i);
                 if (v == null) {
-                    valueParts.add("NULL");
+                    out.write("NULL");
                 } else {
-                    valueParts.add("'" + escapeSql(v) + "'");
+                    out.write('\'');
+                    out.write(v.indexOf('\'') < 0 ? v : escapeSql(v));
+                    out.write('\'');
                 }
             }
-
-            sb.append(String.join(", ", valueParts));
-            sb.append(");");
-            statements.add(sb.toString());
+            if (batchSize <= 1) {
+                out.write(");\n");
+            } else {
+                out.write(")\n");
+                if (++inBatch == batchSize) {
+                    out.write("SELECT * FROM DUAL;\n");
+                    inBatch = 0;
+                }
+            }
+        }
+        if (inBatch > 0) {
+            out.write("SELECT * FROM DUAL;\n");
         }
-        return statements;
     }
 
 
 
     public static void main(String[] args) throws IOException {
         String path = "C:\\YHY\\flow\\src\\main\\resources\\books.csv";
-        List<Map<String, String>> data = readCsv(path);
-        String ddl = generateCreateTable(data, "MY_TABLE", "코드");
-        List<String> ins = generateInsertStatements(data, "MY_TABLE");
-        System.out.println(ddl);
-        ins.forEach(System.out::println);
+        try (CsvReader reader = CsvReader.open(path)) {
+            System.out.println(generateCreateTable(reader.getHeaders(), reader, "MY_TABLE", "코드"));
+        }
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try (CsvReader reader = CsvReader.open(path)) {
+            writeInsertStatements(reader.getHeaders(), reader, "MY_TABLE", 1, out);
+        }
+        out.flush();
     }
 }
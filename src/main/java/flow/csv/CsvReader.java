@@ -0,0 +1,147 @@
+package flow.csv;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+// CSV 파일을 스트리밍으로 읽는 RowCursor. 첫 레코드를 헤더로 쓰고,
+// 행을 Map으로 옮기지 않고 현재 레코드를 위치로 보여 주므로 파일 크기와 관계없이 메모리 사용이 일정하다.
+// 레코드를 읽다가 생긴 입출력 오류는 next()에서 UncheckedIOException으로 나온다.
+// gzip이나 zlib(deflate)으로 압축된 파일은 첫 바이트로 알아보고 별도 스레드에서 풀면서 읽는다.
+public class CsvReader implements RowCursor, Closeable {
+
+    private static final int INFLATE_BUFFER_SIZE = 1 << 16;
+    private static final int CHUNK_SIZE = 1 << 18;
+    private static final int CHUNK_QUEUE_SIZE = 4;
+
+    private static final int NONE = 0;
+    private static final int GZIP = 1;
+    private static final int ZLIB = 2;
+
+    static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .build();
+
+    private final CSVParser parser;
+    private final Iterator<CSVRecord> records;
+    private final List<String> headers;
+    private CSVRecord current;
+
+    private CsvReader(CSVParser parser) {
+        this.parser = parser;
+        this.records = parser.iterator();
+        this.headers = parser.getHeaderNames();
+    }
+
+    public static CsvReader open(String path) throws IOException {
+        InputStream in = new BufferedInputStream(new FileInputStream(path), INFLATE_BUFFER_SIZE);
+        try {
+            in = decompress(in);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        try {
+            return new CsvReader(FORMAT.parse(reader));
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    public static boolean isCompressed(String path) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(path), 2)) {
+            return compression(in) != NONE;
+        }
+    }
+
+    // 처음 두 바이트로 판별한다. zlib은 "x^"처럼 글자로 시작하는 평문과 헷갈리지 않도록
+    // 압축 수준별로 실제 쓰이는 헤더(78 01, 78 9C, 78 DA)만 인정한다.
+    private static int compression(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == 0x1F && second == 0x8B) {
+            return GZIP;
+        }
+        if (first == 0x78 && (second == 0x01 || second == 0x9C || second == 0xDA)) {
+            return ZLIB;
+        }
+        return NONE;
+    }
+
+    private static InputStream decompress(InputStream in) throws IOException {
+        switch (compression(in)) {
+            case GZIP:
+                return new BackgroundInputStream(new GZIPInputStream(in, INFLATE_BUFFER_SIZE),
+                        CHUNK_SIZE, CHUNK_QUEUE_SIZE, "csv-gunzip");
+            case ZLIB:
+                // Inflater를 직접 넘기면 close()가 end()를 부르지 않으므로 닫을 때 따로 해제한다.
+                Inflater inflater = new Inflater();
+                InputStream inflating = new InflaterInputStream(in, inflater, INFLATE_BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            inflater.end();
+                        }
+                    }
+                };
+                return new BackgroundInputStream(inflating, CHUNK_SIZE, CHUNK_QUEUE_SIZE, "csv-inflate");
+            default:
+                return in;
+        }
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public boolean next() {
+        if (!records.hasNext()) {
+            current = null;
+            return false;
+        }
+        current = records.next();
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return headers.size();
+    }
+
+    // 헤더보다 짧은 레코드의 빠진 칸도 빈 칸으로 본다.
+    @Override
+    public String get(int column) {
+        if (column >= current.size()) {
+            return null;
+        }
+        String value = current.get(column);
+        return value.isEmpty() ? null : value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,178 @@
+package flow.csv;
+
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.CharArrayReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+// 뒤에 추가만 되는 CSV 파일에서 지난 실행 이후에 붙은 레코드만 읽는 RowCursor.
+// 상태 파일(Properties)에 다음에 읽을 바이트 위치(offset), 지금까지 읽은 행 수(rows), 헤더(header)를 적어 둔다.
+// 줄바꿈으로 끝나지 않은 마지막 레코드는 아직 쓰는 중일 수 있으므로 다음 실행으로 미룬다.
+// 파일이 기록된 위치보다 짧아졌거나 헤더가 바뀌었으면 다른 파일로 보고 처음부터 읽는다.
+public class CsvTail implements RowCursor, Closeable {
+
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+
+    private final Path statePath;
+    private final List<String> headers;
+    private final long endOffset;
+    private final long previousRows;
+    private final CSVParser parser;
+    private final Iterator<CSVRecord> records;
+    private CSVRecord current;
+    private long rowsRead = 0;
+
+    private CsvTail(Path statePath, List<String> headers, long endOffset, long previousRows, CSVParser parser) {
+        this.statePath = statePath;
+        this.headers = headers;
+        this.endOffset = endOffset;
+        this.previousRows = previousRows;
+        this.parser = parser;
+        this.records = parser.iterator();
+    }
+
+    public static CsvTail open(String path, String statePath) throws IOException {
+        // 압축 파일은 바이트 위치로 이어 읽을 수 없다.
+        if (CsvReader.isCompressed(path)) {
+            throw new IOException("압축된 파일은 이어 읽을 수 없습니다: " + path);
+        }
+        Path state = Paths.get(statePath);
+        Properties saved = new Properties();
+        if (Files.exists(state)) {
+            try (Reader in = Files.newBufferedReader(state, StandardCharsets.UTF_8)) {
+                saved.load(in);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long headerEnd = lastRecordEnd(channel, 0, size, true);
+            List<String> headers = headerEnd < 0 ? Collections.emptyList() : parseHeader(channel, headerEnd);
+
+            long offset;
+            long rows;
+            try {
+                offset = Long.parseLong(saved.getProperty("offset", "0"));
+                rows = Long.parseLong(saved.getProperty("rows", "0"));
+            } catch (NumberFormatException e) {
+                throw new IOException("tail 상태 파일이 올바르지 않습니다: " + statePath);
+            }
+            if (offset > size || !String.join(",", headers).equals(saved.getProperty("header", String.join(",", headers)))) {
+                offset = 0;
+                rows = 0;
+            }
+            // 헤더 레코드도 아직 다 쓰이지 않았으면 읽을 것이 없다.
+            long start = headerEnd < 0 ? 0 : Math.max(offset, headerEnd);
+            long end = headerEnd < 0 ? 0 : lastRecordEnd(channel, start, size, false);
+            if (end < 0) {
+                end = start;
+            }
+
+            // 새 레코드는 헤더 없이 청크와 같은 형식으로 파싱한다.
+            char[] delta = ParallelCsvReader.decode(channel, start, end);
+            CSVParser parser = ParallelCsvReader.CHUNK_FORMAT.parse(new CharArrayReader(delta));
+            return new CsvTail(state, headers, end, rows, parser);
+        }
+    }
+
+    // start부터 size까지에서 마지막(first면 첫) 레코드가 끝나는 위치. start는 레코드 경계여야 하며, 없으면 -1이다.
+    private static long lastRecordEnd(FileChannel channel, long start, long size, boolean first) throws IOException {
+        ParallelCsvReader.BoundaryScanner scanner = new ParallelCsvReader.BoundaryScanner();
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = start;
+        long last = -1;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scanner.endsRecord(buffer.get(i))) {
+                    last = position + i + 1;
+                    if (first) {
+                        return last;
+                    }
+                }
+            }
+            position += read;
+        }
+        return last;
+    }
+
+    private static List<String> parseHeader(FileChannel channel, long headerEnd) throws IOException {
+        try (CSVParser header = CsvReader.FORMAT.parse(new CharArrayReader(ParallelCsvReader.decode(channel, 0, headerEnd)))) {
+            return header.getHeaderNames();
+        }
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public boolean next() {
+        if (!records.hasNext()) {
+            current = null;
+            return false;
+        }
+        current = records.next();
+        rowsRead++;
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return headers.size();
+    }
+
+    @Override
+    public String get(int column) {
+        if (column >= current.size()) {
+            return null;
+        }
+        String value = current.get(column);
+        return value.isEmpty() ? null : value;
+    }
+
+    // 이번에 읽은 레코드까지를 상태 파일에 기록한다. 새 레코드를 모두 읽은 뒤에 부른다.
+    // 임시 파일에 쓴 뒤 이름을 바꾸므로 도중에 멈춰도 이전 상태가 남는다.
+    public void commit() throws IOException {
+        Properties state = new Properties();
+        state.setProperty("offset", Long.toString(endOffset));
+        state.setProperty("rows", Long.toString(previousRows + rowsRead));
+        state.setProperty("header", String.join(",", headers));
+        Path directory = statePath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "tail", ".tmp");
+        try {
+            try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                state.store(out, null);
+            }
+            Files.move(temp, statePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,186 @@
+package flow.csv;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// 큰 CSV 파일을 메모리 매핑한 뒤 레코드 경계에서 청크로 나누어 fork/join 풀에서 병렬로 파싱한다.
+// 경계는 따옴표 안의 줄바꿈을 건너뛰도록 CSV 상태 기계로 한 번 훑어 찾고,
+// 각 청크는 commons-csv로 파싱하므로 결과는 CsvReader로 순서대로 읽은 것과 같다.
+public class ParallelCsvReader {
+
+    // 이보다 작은 파일은 나누는 비용이 더 커서 CsvReader로 읽는다. 압축 파일은 청크로 나눌 수 없으므로 언제나 CsvReader로 읽는다.
+    public static final long MIN_PARALLEL_SIZE = 16L << 20;
+
+    private static final long MIN_CHUNK_SIZE = 4L << 20;
+    private static final long MAX_CHUNK_SIZE = 64L << 20;
+    private static final long SCAN_WINDOW = 1L << 30;
+
+    static final CSVFormat CHUNK_FORMAT = CSVFormat.DEFAULT;
+
+    private ParallelCsvReader() {
+    }
+
+    public static boolean isWorthwhile(String path) throws IOException {
+        return Runtime.getRuntime().availableProcessors() > 1
+                && Files.size(Paths.get(path)) >= MIN_PARALLEL_SIZE
+                && !CsvReader.isCompressed(path);
+    }
+
+    // 청크마다 newPart(열 개수)로 결과 객체를 만들고 appendRow로 행을 넣는다. 결과는 파일 순서대로 돌려준다.
+    // appendRow에 넘기는 배열은 재사용되므로 보관하려면 복사해야 한다.
+    public static <T> List<T> read(String path, IntFunction<T> newPart, BiConsumer<T, String[]> appendRow) throws IOException {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        long size = Files.size(Paths.get(path));
+        long chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, size / (parallelism * 4L)));
+        return read(path, chunkSize, newPart, appendRow);
+    }
+
+    public static <T> List<T> read(String path, long chunkSize, IntFunction<T> newPart, BiConsumer<T, String[]> appendRow) throws IOException {
+        Path file = Paths.get(path);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] boundaries = findBoundaries(channel, chunkSize);
+            if (boundaries.length < 2) {
+                return new ArrayList<>();
+            }
+            int columnCount = parseHeader(channel, boundaries[0], boundaries[1]).size();
+
+            try {
+                return IntStream.range(1, boundaries.length - 1)
+                        .parallel()
+                        .mapToObj(i -> {
+                            T part = newPart.apply(columnCount);
+                            parseChunk(channel, boundaries[i], boundaries[i + 1], columnCount, part, appendRow);
+                            return part;
+                        })
+                        .collect(Collectors.toList());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    // 반환 값의 첫 구간은 헤더 레코드이고 나머지 구간이 데이터 청크다. 빈 파일이면 {0}이다.
+    private static long[] findBoundaries(FileChannel channel, long chunkSize) throws IOException {
+        long size = channel.size();
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        if (size == 0) {
+            return new long[]{0L};
+        }
+
+        BoundaryScanner scanner = new BoundaryScanner();
+        long nextTarget = -1; // 헤더는 첫 레코드 끝에서 바로 자른다.
+        for (long windowStart = 0; windowStart < size; windowStart += SCAN_WINDOW) {
+            long windowSize = Math.min(SCAN_WINDOW, size - windowStart);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+            for (int i = 0; i < windowSize; i++) {
+                if (scanner.endsRecord(window.get(i))) {
+                    long recordEnd = windowStart + i + 1;
+                    if (recordEnd >= nextTarget && recordEnd < size) {
+                        boundaries.add(recordEnd);
+                        nextTarget = recordEnd + chunkSize;
+                    }
+                }
+            }
+        }
+        boundaries.add(size);
+
+        long[] result = new long[boundaries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boundaries.get(i);
+        }
+        return result;
+    }
+
+    private static List<String> parseHeader(FileChannel channel, long start, long end) throws IOException {
+        try (CSVParser parser = CsvReader.FORMAT.parse(new CharArrayReader(decode(channel, start, end)))) {
+            return parser.getHeaderNames();
+        }
+    }
+
+    private static <T> void parseChunk(FileChannel channel, long start, long end, int columnCount,
+                                       T part, BiConsumer<T, String[]> appendRow) {
+        String[] cells = new String[columnCount];
+        try (CSVParser parser = CHUNK_FORMAT.parse(new CharArrayReader(decode(channel, start, end)))) {
+            for (CSVRecord record : parser) {
+                for (int i = 0; i < columnCount; i++) {
+                    String value = i < record.size() ? record.get(i) : null;
+                    cells[i] = value == null || value.isEmpty() ? null : value;
+                }
+                appendRow.accept(part, cells);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 청크는 '\n' 바이트 바로 뒤에서 자르므로 UTF-8 문자가 두 청크에 걸치지 않는다.
+    static char[] decode(FileChannel channel, long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException("CSV 레코드가 너무 깁니다.");
+        }
+        MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        CharBuffer chars = StandardCharsets.UTF_8.decode(bytes);
+        char[] result = new char[chars.remaining()];
+        chars.get(result);
+        return result;
+    }
+
+    // CSVFormat.DEFAULT와 같은 규칙으로 레코드 끝을 찾는다.
+    // 따옴표는 필드 첫 글자일 때만 인용을 시작하고, 인용 안의 ""는 따옴표 문자 하나다.
+    static final class BoundaryScanner {
+        private static final int FIELD_START = 0;
+        private static final int UNQUOTED = 1;
+        private static final int QUOTED = 2;
+        private static final int QUOTE_IN_QUOTED = 3;
+
+        private int state = FIELD_START;
+
+        boolean endsRecord(byte b) {
+            switch (state) {
+                case QUOTED:
+                    if (b == '"') state = QUOTE_IN_QUOTED;
+                    return false;
+                case QUOTE_IN_QUOTED:
+                    if (b == '"') {
+                        state = QUOTED;
+                        return false;
+                    }
+                    break;
+                case FIELD_START:
+                    if (b == '"') {
+                        state = QUOTED;
+                        return false;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            if (b == '\n') {
+                state = FIELD_START;
+                return true;
+            }
+            state = b == ',' || b == '\r' ? FIELD_START : UNQUOTED;
+            return false;
+        }
+    }
+}
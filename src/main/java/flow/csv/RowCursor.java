@@ -0,0 +1,13 @@
+package flow.csv;
+
+// 표 형태 데이터를 한 행씩 앞으로만 읽는 커서. 열은 헤더 순서의 위치로 접근한다.
+// get()의 결과는 다음 next() 호출 전까지만 현재 행의 값이다.
+public interface RowCursor {
+
+    boolean next();
+
+    int size();
+
+    // 빈 칸은 null로 돌려준다.
+    String get(int column);
+}
@@ -0,0 +1,17 @@
+package flow.csv;
+
+// 생성하는 DDL의 대상 데이터베이스. 같은 ColumnStats 추론 결과를 데이터베이스별 타입 이름으로 바꾼다.
+public enum SqlDialect {
+    ORACLE,
+    POSTGRES;
+
+    public String columnType(ColumnStats stats) {
+        if (stats.isDate()) {
+            return "DATE";
+        }
+        if (stats.isNumeric()) {
+            return this == ORACLE ? "NUMBER" : "NUMERIC";
+        }
+        return this == ORACLE ? "VARCHAR2(255)" : "VARCHAR(255)";
+    }
+}
@@ -0,0 +1,124 @@
+package flow.csv;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+// DDL의 열 타입을 정하는 방식.
+// full은 모든 값을 ColumnStats에 넣는다. head:N은 앞쪽 N행으로 타입을 정한 뒤,
+// 나머지 행은 ColumnStats.widen으로 정해진 타입에 어긋나는 값만 반영해 필요한 만큼 넓힌다.
+// 이때 최대 길이와 최솟값/최댓값은 앞쪽 행과 어긋난 값만으로 계산되므로 타입과 NULL 여부만 믿을 수 있다.
+// sample:N은 한 번 읽으며 무작위로 뽑은 N행의 셀만 읽고 그 표본만으로 타입과 NULL 여부를 정한다.
+// 나머지 행은 검사하지 않으므로 가장 빠르지만, 표본에 없는 값이 타입에 맞지 않거나 빈 칸이면 DDL이 그 값을 받지 못할 수 있다.
+public class TypeInference {
+
+    public static final TypeInference FULL = new TypeInference(Mode.FULL, 0);
+
+    // 같은 데이터에서 항상 같은 DDL이 나오도록 표본 추출의 시드를 고정한다.
+    private static final long SAMPLE_SEED = 0x5EEDL;
+
+    private enum Mode { FULL, HEAD, SAMPLE }
+
+    private final Mode mode;
+    private final int sampleSize;
+
+    private TypeInference(Mode mode, int sampleSize) {
+        this.mode = mode;
+        this.sampleSize = sampleSize;
+    }
+
+    // "full", "head:N", "sample:N" 형식을 읽는다. 빈 문자열은 full이다.
+    public static TypeInference parse(String spec) {
+        if (spec.isEmpty() || spec.equals("full")) {
+            return FULL;
+        }
+        int colon = spec.indexOf(':');
+        if (colon > 0) {
+            String name = spec.substring(0, colon);
+            int size;
+            try {
+                size = Integer.parseInt(spec.substring(colon + 1));
+            } catch (NumberFormatException e) {
+                size = -1;
+            }
+            if (size > 0 && name.equals("head")) {
+                return new TypeInference(Mode.HEAD, size);
+            }
+            if (size > 0 && name.equals("sample")) {
+                return new TypeInference(Mode.SAMPLE, size);
+            }
+        }
+        throw new IllegalArgumentException("타입 추론 방식이 올바르지 않습니다: " + spec + " (full, head:N, sample:N)");
+    }
+
+    // rows는 새 커서를 돌려주어야 한다. 어느 방식이든 한 번만 읽는다.
+    public ColumnStats[] infer(int columnCount, Supplier<RowCursor> rows) {
+        ColumnStats[] stats = new ColumnStats[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            stats[i] = new ColumnStats();
+        }
+        switch (mode) {
+            case HEAD: {
+                RowCursor cursor = rows.get();
+                long row = 0;
+                while (cursor.next()) {
+                    boolean sampled = row++ < sampleSize;
+                    for (int i = 0; i < columnCount; i++) {
+                        if (sampled) {
+                            stats[i].accept(cursor.get(i));
+                        } else {
+                            stats[i].widen(cursor.get(i));
+                        }
+                    }
+                }
+                break;
+            }
+            case SAMPLE: {
+                for (String[] sample : reservoir(columnCount, rows.get())) {
+                    for (int i = 0; i < columnCount; i++) {
+                        stats[i].accept(sample[i]);
+                    }
+                }
+                break;
+            }
+            default: {
+                RowCursor cursor = rows.get();
+                while (cursor.next()) {
+                    for (int i = 0; i < columnCount; i++) {
+                        stats[i].accept(cursor.get(i));
+                    }
+                }
+                break;
+            }
+        }
+        return stats;
+    }
+
+    // 알고리즘 R. 뽑힌 행만 셀을 읽어 복사한다.
+    private List<String[]> reservoir(int columnCount, RowCursor cursor) {
+        List<String[]> sample = new ArrayList<>();
+        Random random = new Random(SAMPLE_SEED);
+        long seen = 0;
+        while (cursor.next()) {
+            seen++;
+            int slot;
+            if (sample.size() < sampleSize) {
+                slot = sample.size();
+                sample.add(null);
+            } else {
+                long pick = (long) (random.nextDouble() * seen);
+                if (pick >= sampleSize) {
+                    continue;
+                }
+                slot = (int) pick;
+            }
+            String[] cells = new String[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                cells[i] = cursor.get(i);
+            }
+            sample.set(slot, cells);
+        }
+        return sample;
+    }
+}
@@ -1,21 +1,54 @@
 package flow.gui;
 
 import javax.swing.*;
-import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 
+// PrintStream이 넘기는 바이트를 UTF-8로 풀어 텍스트 영역에 덩어리째 붙인다.
+// 한 번에 받은 바이트 배열을 문자열 하나로 append하므로 글자마다 문서를 고치지 않는다.
+// 여러 바이트로 된 글자가 두 번의 write에 나뉘어 와도 남은 바이트를 다음 write까지 들고 있는다.
+// PrintStream은 UTF-8로 만들어야 한다.
 public class CustomOutputStream extends OutputStream {
-    private JTextArea textArea;
+    private final JTextArea textArea;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private ByteBuffer pending = ByteBuffer.allocate(0);
+    private CharBuffer chars = CharBuffer.allocate(8192);
 
     public CustomOutputStream(JTextArea textArea) {
         this.textArea = textArea;
     }
 
     @Override
-    public void write(int b) throws IOException {
-        
-        textArea.append(String.valueOf((char)b));
-        
-        textArea.setCaretPosition(textArea.getDocument().getLength());
+    public void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
     }
-}
\ No newline at end of file
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        ByteBuffer in;
+        if (pending.hasRemaining()) {
+            in = ByteBuffer.allocate(pending.remaining() + len);
+            in.put(pending).put(b, off, len).flip();
+        } else {
+            in = ByteBuffer.wrap(b, off, len);
+        }
+        if (chars.capacity() < in.remaining()) {
+            chars = CharBuffer.allocate(in.remaining());
+        }
+        chars.clear();
+        decoder.decode(in, chars, false);
+        // 끝에 남은 것은 잘린 글자의 앞부분이다.
+        pending = in.hasRemaining() ? ByteBuffer.allocate(in.remaining()).put(in).flip() : ByteBuffer.allocate(0);
+        chars.flip();
+        if (chars.hasRemaining()) {
+            textArea.append(chars.toString());
+            textArea.setCaretPosition(textArea.getDocument().getLength());
+        }
+    }
+}
@@ -8,9 +8,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.IOException;
 import java.io.PrintStream;
-import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 
 import flow.lexer.Lexer;
@@ -113,26 +112,9 @@ public class FlowEditor extends JFrame {
     }
 
 
-    private class CustomOutputStream extends OutputStream {
-        private JTextArea textArea;
-
-        public CustomOutputStream(JTextArea textArea) {
-            this.textArea = textArea;
-        }
-
-        @Override
-        public void write(int b) throws IOException {
-
-            textArea.append(String.valueOf((char)b));
-
-            textArea.setCaretPosition(textArea.getDocument().getLength());
-        }
-    }
-
-
     private void setupOutputRedirection() {
-        System.setOut(new PrintStream(new CustomOutputStream(outputArea)));
-        System.setErr(new PrintStream(new CustomOutputStream(outputArea)));
+        System.setOut(new PrintStream(new CustomOutputStream(outputArea), true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(new CustomOutputStream(outputArea), true, StandardCharsets.UTF_8));
     }
 
 
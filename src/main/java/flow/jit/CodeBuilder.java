@@ -0,0 +1,312 @@
+package flow.jit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 메서드 하나의 바이트코드를 쌓는다. 분기 대상은 Label로 두고 toByteArray에서 오프셋을 채운다.
+// 스택 깊이는 호출하는 쪽이 알려 주는 증감으로 추적해 max_stack을 계산한다.
+class CodeBuilder {
+
+    static final int ACONST_NULL = 0x01;
+    static final int ICONST_0 = 0x03;
+    static final int FCONST_0 = 0x0b;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC = 0x12;
+    static final int LDC_W = 0x13;
+    static final int ILOAD = 0x15;
+    static final int FLOAD = 0x17;
+    static final int ALOAD = 0x19;
+    static final int AALOAD = 0x32;
+    static final int ISTORE = 0x36;
+    static final int FSTORE = 0x38;
+    static final int ASTORE = 0x3a;
+    static final int AASTORE = 0x53;
+    static final int POP = 0x57;
+    static final int DUP = 0x59;
+    static final int DUP_X1 = 0x5a;
+    static final int SWAP = 0x5f;
+    static final int IADD = 0x60;
+    static final int FADD = 0x62;
+    static final int ISUB = 0x64;
+    static final int FSUB = 0x66;
+    static final int IMUL = 0x68;
+    static final int FMUL = 0x6a;
+    static final int IDIV = 0x6c;
+    static final int FDIV = 0x6e;
+    static final int IREM = 0x70;
+    static final int FREM = 0x72;
+    static final int INEG = 0x74;
+    static final int FNEG = 0x76;
+    static final int IAND = 0x7e;
+    static final int IOR = 0x80;
+    static final int IXOR = 0x82;
+    static final int I2F = 0x86;
+    static final int FCMPL = 0x95;
+    static final int FCMPG = 0x96;
+    static final int IFEQ = 0x99;
+    static final int IFNE = 0x9a;
+    static final int IFLT = 0x9b;
+    static final int IFGE = 0x9c;
+    static final int IFGT = 0x9d;
+    static final int IFLE = 0x9e;
+    static final int IF_ICMPEQ = 0x9f;
+    static final int IF_ICMPNE = 0xa0;
+    static final int IF_ICMPLT = 0xa1;
+    static final int IF_ICMPGE = 0xa2;
+    static final int IF_ICMPGT = 0xa3;
+    static final int IF_ICMPLE = 0xa4;
+    static final int GOTO = 0xa7;
+    static final int IRETURN = 0xac;
+    static final int FRETURN = 0xae;
+    static final int ARETURN = 0xb0;
+    static final int RETURN = 0xb1;
+    static final int GETSTATIC = 0xb2;
+    static final int PUTSTATIC = 0xb3;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int NEW = 0xbb;
+    static final int ANEWARRAY = 0xbd;
+    static final int ATHROW = 0xbf;
+    static final int CHECKCAST = 0xc0;
+
+    static final class Label {
+        private int position = -1;
+    }
+
+    private static final class Fixup {
+        final int opcodePosition;
+        final Label target;
+
+        Fixup(int opcodePosition, Label target) {
+            this.opcodePosition = opcodePosition;
+            this.target = target;
+        }
+    }
+
+    private final ClassFileWriter classFile;
+    private byte[] code = new byte[256];
+    private int length = 0;
+    private int stack = 0;
+    private int maxStack = 0;
+    private int maxLocals;
+    private final List<Fixup> fixups = new ArrayList<>();
+
+    CodeBuilder(ClassFileWriter classFile, int maxLocals) {
+        this.classFile = classFile;
+        this.maxLocals = maxLocals;
+    }
+
+    int getMaxStack() {
+        return maxStack;
+    }
+
+    int getMaxLocals() {
+        return maxLocals;
+    }
+
+    int getStack() {
+        return stack;
+    }
+
+    // 무조건 분기나 throw 뒤처럼 도달할 수 없는 위치에서 다음 코드의 스택 깊이를 다시 맞출 때 쓴다.
+    void setStack(int depth) {
+        stack = depth;
+    }
+
+    void op(int opcode, int stackDelta) {
+        writeByte(opcode);
+        adjust(stackDelta);
+    }
+
+    void pushInt(int value) {
+        if (value >= -1 && value <= 5) {
+            writeByte(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            writeByte(BIPUSH);
+            writeByte(value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            writeByte(SIPUSH);
+            writeShort(value);
+        } else {
+            ldc(classFile.integer(value));
+            return;
+        }
+        adjust(1);
+    }
+
+    void pushFloat(float value) {
+        if (Float.floatToRawIntBits(value) == 0 || value == 1.0f || value == 2.0f) {
+            writeByte(FCONST_0 + (int) value);
+            adjust(1);
+        } else {
+            ldc(classFile.floating(value));
+        }
+    }
+
+    void pushString(String value) {
+        ldc(classFile.string(value));
+    }
+
+    private void ldc(int index) {
+        if (index <= 0xFF) {
+            writeByte(LDC);
+            writeByte(index);
+        } else {
+            writeByte(LDC_W);
+            writeShort(index);
+        }
+        adjust(1);
+    }
+
+    void aload(int local) {
+        localOp(ALOAD, local);
+        adjust(1);
+    }
+
+    void astore(int local) {
+        localOp(ASTORE, local);
+        adjust(-1);
+    }
+
+    // opcode는 ILOAD, FLOAD, ALOAD 중 하나
+    void load(int opcode, int local) {
+        localOp(opcode, local);
+        adjust(1);
+    }
+
+    // opcode는 ISTORE, FSTORE, ASTORE 중 하나
+    void store(int opcode, int local) {
+        localOp(opcode, local);
+        adjust(-1);
+    }
+
+    private void localOp(int opcode, int local) {
+        if (local > 0xFF) {
+            throw new UnsupportedOperationException("지역 변수가 너무 많습니다.");
+        }
+        writeByte(opcode);
+        writeByte(local);
+        maxLocals = Math.max(maxLocals, local + 1);
+    }
+
+    void getStatic(String owner, String name, String descriptor) {
+        writeByte(GETSTATIC);
+        writeShort(classFile.fieldRef(owner, name, descriptor));
+        adjust(1);
+    }
+
+    void putStatic(String owner, String name, String descriptor) {
+        writeByte(PUTSTATIC);
+        writeShort(classFile.fieldRef(owner, name, descriptor));
+        adjust(-1);
+    }
+
+    void invokeStatic(String owner, String name, String descriptor) {
+        writeByte(INVOKESTATIC);
+        writeShort(classFile.methodRef(owner, name, descriptor));
+        adjust(returnSlots(descriptor) - argumentSlots(descriptor));
+    }
+
+    void invokeVirtual(String owner, String name, String descriptor) {
+        writeByte(INVOKEVIRTUAL);
+        writeShort(classFile.methodRef(owner, name, descriptor));
+        adjust(returnSlots(descriptor) - argumentSlots(descriptor) - 1);
+    }
+
+    void invokeSpecial(String owner, String name, String descriptor) {
+        writeByte(INVOKESPECIAL);
+        writeShort(classFile.methodRef(owner, name, descriptor));
+        adjust(returnSlots(descriptor) - argumentSlots(descriptor) - 1);
+    }
+
+    void newObject(String type) {
+        writeByte(NEW);
+        writeShort(classFile.classRef(type));
+        adjust(1);
+    }
+
+    void checkCast(String type) {
+        writeByte(CHECKCAST);
+        writeShort(classFile.classRef(type));
+    }
+
+    void newArray(String elementType) {
+        writeByte(ANEWARRAY);
+        writeShort(classFile.classRef(elementType));
+    }
+
+    void jump(int opcode, Label target) {
+        fixups.add(new Fixup(length, target));
+        writeByte(opcode);
+        writeShort(0);
+        if (opcode >= IF_ICMPEQ && opcode <= IF_ICMPLE) {
+            adjust(-2);
+        } else if (opcode != GOTO) {
+            adjust(-1);
+        }
+    }
+
+    void mark(Label label) {
+        label.position = length;
+    }
+
+    byte[] toByteArray() {
+        for (Fixup fixup : fixups) {
+            if (fixup.target.position < 0) {
+                throw new IllegalStateException("위치가 정해지지 않은 레이블입니다.");
+            }
+            int offset = fixup.target.position - fixup.opcodePosition;
+            if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+                throw new UnsupportedOperationException("분기 거리가 너무 깁니다.");
+            }
+            code[fixup.opcodePosition + 1] = (byte) (offset >> 8);
+            code[fixup.opcodePosition + 2] = (byte) offset;
+        }
+        if (length > 0xFFFF) {
+            throw new UnsupportedOperationException("메서드가 너무 큽니다.");
+        }
+        return Arrays.copyOf(code, length);
+    }
+
+    private void adjust(int delta) {
+        stack += delta;
+        maxStack = Math.max(maxStack, stack);
+    }
+
+    private void writeByte(int value) {
+        if (length == code.length) {
+            code = Arrays.copyOf(code, length * 2);
+        }
+        code[length++] = (byte) value;
+    }
+
+    private void writeShort(int value) {
+        writeByte(value >> 8);
+        writeByte(value);
+    }
+
+    // 이 JIT는 참조, int, float, boolean만 주고받으므로 모든 인자와 반환 값이 한 슬롯을 차지한다.
+    private static int argumentSlots(String descriptor) {
+        int count = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            char c = descriptor.charAt(i);
+            while (c == '[') {
+                c = descriptor.charAt(++i);
+            }
+            if (c == 'L') {
+                i = descriptor.indexOf(';', i);
+            }
+            i++;
+            count++;
+        }
+        return count;
+    }
+
+    private static int returnSlots(String descriptor) {
+        return descriptor.endsWith(")V") ? 0 : 1;
+    }
+}
@@ -0,0 +1,9 @@
+package flow.jit;
+
+import flow.runtime.interpreter.Interpreter;
+import flow.runtime.types.Value;
+
+// JIT가 생성한 클래스가 구현하는 진입점. 인자 개수는 호출하는 쪽이 이미 검사했다고 가정한다.
+public interface CompiledFunction {
+    Value invoke(Interpreter interpreter, Value[] args);
+}
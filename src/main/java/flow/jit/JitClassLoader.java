@@ -0,0 +1,13 @@
+package flow.jit;
+
+// 생성한 클래스를 정의하는 로더. 인터프리터마다 하나씩 두어 인터프리터와 함께 수거되게 한다.
+class JitClassLoader extends ClassLoader {
+
+    JitClassLoader() {
+        super(JitClassLoader.class.getClassLoader());
+    }
+
+    Class<?> define(String internalName, byte[] bytes) {
+        return defineClass(internalName.replace('/', '.'), bytes, 0, bytes.length);
+    }
+}
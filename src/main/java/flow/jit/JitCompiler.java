@@ -0,0 +1,846 @@
+package flow.jit;
+
+import flow.ast.BinaryOperator;
+import flow.ast.Param;
+import flow.ast.Type;
+import flow.ast.expr.*;
+import flow.ast.stmt.*;
+import flow.runtime.errors.RuntimeError;
+import flow.runtime.interpreter.Environment;
+import flow.runtime.interpreter.FunctionObject;
+import flow.runtime.types.FunctionValue;
+import flow.runtime.types.Value;
+import flow.utility.Pair;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 자주 호출되는 사용자 정의 함수 본문을 JVM 클래스로 컴파일한다.
+// int/float/bool/string 변수만 쓰고 자기 프레임과 전역만 참조하는 함수가 대상이다.
+// TypeChecker가 정한 타입대로 int, float, bool은 JVM의 int, float, boolean 지역 변수와 명령어로 계산하고 string만 Value로 둔다.
+// 함수마다 타입이 있는 static 메서드 call(Interpreter, 파라미터...)을 만들고, 컴파일된 사용자 함수끼리는 invokestatic으로 바로 호출한다.
+// Value로 박싱하는 곳은 인터프리터와 만나는 경계(invoke, 전역 변수, 내장 함수나 컴파일되지 않은 함수 호출, 문자열 연산)뿐이다.
+// 지원하지 않는 구문이 있으면 null을 돌려주고 호출하는 쪽은 기존 실행기를 계속 쓴다.
+public class JitCompiler {
+
+    private static final String VALUE = "flow/runtime/types/Value";
+    private static final String VALUE_DESC = "L" + VALUE + ";";
+    private static final String INT_VALUE = "flow/runtime/types/IntValue";
+    private static final String FLOAT_VALUE = "flow/runtime/types/FloatValue";
+    private static final String BOOL_VALUE = "flow/runtime/types/BoolValue";
+    private static final String VOID_VALUE = "flow/runtime/types/VoidValue";
+    private static final String INTERPRETER_DESC = "Lflow/runtime/interpreter/Interpreter;";
+    private static final String FUNCTION_OBJECT_DESC = "Lflow/runtime/interpreter/FunctionObject;";
+    private static final String RUNTIME = "flow/jit/JitRuntime";
+    private static final String BINARY_DESC = "(" + VALUE_DESC + VALUE_DESC + "II)" + VALUE_DESC;
+
+    private static final Set<String> SCALAR_TYPES = Set.of("int", "float", "bool", "string");
+
+    // call 메서드의 0번 지역 변수는 인터프리터, 그 뒤가 파라미터다.
+    private static final int INTERPRETER_LOCAL = 0;
+    // invoke(Interpreter, Value[])에서 0은 this, 1은 인터프리터, 2는 인자 배열이다.
+    private static final int INVOKE_INTERPRETER_LOCAL = 1;
+    private static final int INVOKE_ARGS_LOCAL = 2;
+
+    private static final AtomicInteger classCounter = new AtomicInteger();
+
+    private final JitClassLoader loader = new JitClassLoader();
+    private final Map<FunctionObject, String> classNames = new IdentityHashMap<>(); // 컴파일을 마친 함수의 클래스
+    private final Set<FunctionObject> compiling = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // 본문에서 호출하는 전역 사용자 함수도 함께 컴파일해 invokestatic으로 잇는다. globals는 전역 함수를 찾을 환경이다.
+    public CompiledFunction compile(FunctionObject function, Environment globals) {
+        if (!isSupportedSignature(function) || !compiling.add(function)) {
+            return null;
+        }
+        try {
+            String className = "flow/jit/gen/Fn" + classCounter.incrementAndGet() + "_" + function.getName();
+            FunctionEmitter emitter = new FunctionEmitter(className, function, globals);
+            byte[] bytes;
+            try {
+                bytes = emitter.emit();
+            } catch (UnsupportedOperationException e) {
+                return null;
+            }
+            try {
+                JitRuntime.registerConstants(className, emitter.constants.toArray(new Value[0]));
+                Class<?> cls = loader.define(className, bytes);
+                CompiledFunction compiled = (CompiledFunction) cls.getConstructor().newInstance();
+                classNames.put(function, className);
+                return compiled;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                JitRuntime.takeConstants(className);
+                return null;
+            }
+        } finally {
+            compiling.remove(function);
+        }
+    }
+
+    // 호출 대상 함수의 클래스. 아직 컴파일하지 않았으면 지금 컴파일하고, 컴파일 중이거나 할 수 없으면 null
+    private String classOf(FunctionObject callee, Environment globals) {
+        String className = classNames.get(callee);
+        if (className != null || callee.isJitRejected() || compiling.contains(callee)) {
+            return className;
+        }
+        CompiledFunction compiled = compile(callee, globals);
+        if (compiled == null) {
+            callee.rejectJit();
+            return null;
+        }
+        callee.setCompiled(compiled);
+        return classNames.get(callee);
+    }
+
+    private static boolean isSupportedSignature(FunctionObject function) {
+        if (function.isNative()) {
+            return false;
+        }
+        for (Param param : function.getParams()) {
+            if (!isScalar(param.getType())) {
+                return false;
+            }
+        }
+        Type returnType = function.getReturnType();
+        return isScalar(returnType) || (returnType.getDim() == 0 && returnType.getBaseType().equals("void"));
+    }
+
+    private static boolean isScalar(Type type) {
+        return type.getDim() == 0 && SCALAR_TYPES.contains(type.getBaseType());
+    }
+
+    // Flow 타입의 JVM 기술자. string은 StringValue를 그대로 쓴다.
+    private static String descriptor(String type) {
+        switch (type) {
+            case "int": return "I";
+            case "float": return "F";
+            case "bool": return "Z";
+            case "string": return VALUE_DESC;
+            case "void": return "V";
+            default: throw unsupported();
+        }
+    }
+
+    private static String callDescriptor(FunctionObject function) {
+        StringBuilder sb = new StringBuilder("(").append(INTERPRETER_DESC);
+        for (Param param : function.getParams()) {
+            sb.append(descriptor(param.getType().toString()));
+        }
+        return sb.append(')').append(descriptor(function.getReturnType().toString())).toString();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException();
+    }
+
+    private static final class Loop {
+        final CodeBuilder.Label continueTarget;
+        final CodeBuilder.Label breakTarget;
+
+        Loop(CodeBuilder.Label continueTarget, CodeBuilder.Label breakTarget) {
+            this.continueTarget = continueTarget;
+            this.breakTarget = breakTarget;
+        }
+    }
+
+    private final class FunctionEmitter {
+        private final String className;
+        private final FunctionObject function;
+        private final Environment globals;
+        private final ClassFileWriter classFile;
+        private final CodeBuilder code;
+        private final List<Value> constants = new ArrayList<>();
+        private final Deque<Loop> loops = new ArrayDeque<>();
+        // Flow 슬롯은 블록마다 다른 타입으로 다시 쓰일 수 있으므로 (슬롯, 타입)마다 JVM 지역 변수를 하나씩 둔다.
+        private final Map<String, Integer> locals = new HashMap<>();
+
+        FunctionEmitter(String className, FunctionObject function, Environment globals) {
+            this.className = className;
+            this.function = function;
+            this.globals = globals;
+            this.classFile = new ClassFileWriter(className, "java/lang/Object");
+            this.code = new CodeBuilder(classFile, 1);
+        }
+
+        byte[] emit() {
+            classFile.addInterface("flow/jit/CompiledFunction");
+
+            List<Param> params = function.getParams();
+            for (int slot = 0; slot < params.size(); slot++) {
+                declareLocal(slot, params.get(slot).getType().toString());
+            }
+            // 선언된 변수는 기본값으로 초기화해 검증기가 모든 경로에서 타입을 알 수 있게 한다.
+            collectLocals(function.getBody());
+            for (Map.Entry<String, Integer> local : locals.entrySet()) {
+                if (local.getValue() > params.size()) {
+                    String type = local.getKey().substring(local.getKey().indexOf(':') + 1);
+                    pushDefault(type);
+                    code.store(storeOp(type), local.getValue());
+                }
+            }
+            String returnType = function.getReturnType().toString();
+            if (emitBlock(function.getBody())) {
+                if (returnType.equals("void")) {
+                    code.op(CodeBuilder.RETURN, 0);
+                } else {
+                    // TypeChecker가 모든 경로의 반환을 검사하므로 실행되지 않는다.
+                    emitThrow("값이 반환되어야 하는 함수가 값을 반환하지 않았습니다.", function.getLine(), function.getCol());
+                }
+            }
+            String callDescriptor = callDescriptor(function);
+            classFile.addMethod(ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_STATIC, "call", callDescriptor, code);
+
+            // 인터프리터에서 들어오는 진입점. 인자를 풀고 결과를 다시 Value로 감싼다.
+            CodeBuilder invoke = new CodeBuilder(classFile, 3);
+            invoke.aload(INVOKE_INTERPRETER_LOCAL);
+            for (int i = 0; i < params.size(); i++) {
+                invoke.aload(INVOKE_ARGS_LOCAL);
+                invoke.pushInt(i);
+                invoke.op(CodeBuilder.AALOAD, -1);
+                unbox(invoke, params.get(i).getType().toString());
+            }
+            invoke.invokeStatic(className, "call", callDescriptor);
+            box(invoke, returnType);
+            invoke.op(CodeBuilder.ARETURN, -1);
+            classFile.addMethod(ClassFileWriter.ACC_PUBLIC, "invoke", "(" + INTERPRETER_DESC + "[" + VALUE_DESC + ")" + VALUE_DESC, invoke);
+
+            CodeBuilder init = new CodeBuilder(classFile, 1);
+            init.aload(0);
+            init.invokeSpecial("java/lang/Object", "<init>", "()V");
+            init.op(CodeBuilder.RETURN, 0);
+            classFile.addMethod(ClassFileWriter.ACC_PUBLIC, "<init>", "()V", init);
+
+            if (!constants.isEmpty()) {
+                CodeBuilder clinit = new CodeBuilder(classFile, 0);
+                clinit.pushString(className);
+                clinit.invokeStatic(RUNTIME, "takeConstants", "(Ljava/lang/String;)[" + VALUE_DESC);
+                for (int i = 0; i < constants.size(); i++) {
+                    classFile.addField(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_STATIC | ClassFileWriter.ACC_FINAL, constantField(i), VALUE_DESC);
+                    clinit.op(CodeBuilder.DUP, 1);
+                    clinit.pushInt(i);
+                    clinit.op(CodeBuilder.AALOAD, -1);
+                    clinit.putStatic(className, constantField(i), VALUE_DESC);
+                }
+                clinit.op(CodeBuilder.POP, -1);
+                clinit.op(CodeBuilder.RETURN, 0);
+                classFile.addMethod(ClassFileWriter.ACC_STATIC, "<clinit>", "()V", clinit);
+            }
+            return classFile.toByteArray();
+        }
+
+        private String constantField(int index) {
+            return "c" + index;
+        }
+
+        // --- 지역 변수 ---
+
+        private void declareLocal(int slot, String type) {
+            descriptor(type);
+            locals.putIfAbsent(slot + ":" + type, locals.size() + 1);
+        }
+
+        private int local(int slot, String type) {
+            Integer local = locals.get(slot + ":" + type);
+            if (local == null) {
+                throw unsupported();
+            }
+            return local;
+        }
+
+        private void collectLocals(Stmt stmt) {
+            if (stmt instanceof BlockStmt) {
+                for (Stmt inner : ((BlockStmt) stmt).getStatements()) {
+                    collectLocals(inner);
+                }
+            } else if (stmt instanceof VarDeclStmt) {
+                VarDeclStmt varDecl = (VarDeclStmt) stmt;
+                if (!isScalar(varDecl.getType()) || varDecl.getSlot() < 0) {
+                    throw unsupported();
+                }
+                declareLocal(varDecl.getSlot(), varDecl.getType().toString());
+            } else if (stmt instanceof IfStmt) {
+                IfStmt ifStmt = (IfStmt) stmt;
+                collectLocals(ifStmt.getThenBranch());
+                for (Pair<Expr, BlockStmt> elseIf : ifStmt.getElseIfBranches()) {
+                    collectLocals(elseIf.second());
+                }
+                if (ifStmt.getElseBranch() != null) {
+                    collectLocals(ifStmt.getElseBranch());
+                }
+            } else if (stmt instanceof WhileStmt) {
+                collectLocals(((WhileStmt) stmt).getBody());
+            } else if (stmt instanceof ForStmt) {
+                collectLocals(((ForStmt) stmt).getBody());
+            }
+        }
+
+        private void pushDefault(String type) {
+            switch (type) {
+                case "float": code.pushFloat(0.0f); break;
+                case "string": code.op(CodeBuilder.ACONST_NULL, 1); break;
+                default: code.pushInt(0); break;
+            }
+        }
+
+        private int loadOp(String type) {
+            switch (type) {
+                case "float": return CodeBuilder.FLOAD;
+                case "string": return CodeBuilder.ALOAD;
+                default: return CodeBuilder.ILOAD;
+            }
+        }
+
+        private int storeOp(String type) {
+            switch (type) {
+                case "float": return CodeBuilder.FSTORE;
+                case "string": return CodeBuilder.ASTORE;
+                default: return CodeBuilder.ISTORE;
+            }
+        }
+
+        // --- 문장 ---
+
+        // 블록 끝까지 정상적으로 흘러갈 수 있으면 true를 반환한다.
+        private boolean emitBlock(BlockStmt block) {
+            for (Stmt stmt : block.getStatements()) {
+                if (!emitStmt(stmt)) {
+                    // 뒤따르는 문장은 AST 실행기에서도 실행되지 않는다.
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean emitStmt(Stmt stmt) {
+            if (stmt instanceof BlockStmt) {
+                return emitBlock((BlockStmt) stmt);
+            } else if (stmt instanceof ExprStmt) {
+                emitEffect(((ExprStmt) stmt).getExpr());
+            } else if (stmt instanceof VarDeclStmt) {
+                VarDeclStmt varDecl = (VarDeclStmt) stmt;
+                String type = varDecl.getType().toString();
+                emitExpr(varDecl.getInit(), type);
+                code.store(storeOp(type), local(varDecl.getSlot(), type));
+            } else if (stmt instanceof IfStmt) {
+                emitIf((IfStmt) stmt);
+            } else if (stmt instanceof WhileStmt) {
+                emitWhile((WhileStmt) stmt);
+            } else if (stmt instanceof ForStmt) {
+                emitFor((ForStmt) stmt);
+            } else if (stmt instanceof ReturnStmt) {
+                Expr expr = ((ReturnStmt) stmt).getExpr();
+                String returnType = function.getReturnType().toString();
+                if (expr == null) {
+                    code.op(CodeBuilder.RETURN, 0);
+                } else {
+                    emitExpr(expr, returnType);
+                    code.op(returnType.equals("float") ? CodeBuilder.FRETURN
+                            : returnType.equals("string") ? CodeBuilder.ARETURN : CodeBuilder.IRETURN, -1);
+                }
+                return false;
+            } else if (stmt instanceof BreakStmt || stmt instanceof ContinueStmt) {
+                Loop loop = loops.peek();
+                if (loop == null) {
+                    emitThrow("루프 외부에서 'break' 또는 'continue' 문은 허용되지 않습니다.", stmt.line, stmt.col);
+                } else {
+                    code.jump(CodeBuilder.GOTO, stmt instanceof BreakStmt ? loop.breakTarget : loop.continueTarget);
+                }
+                return false;
+            } else {
+                // 중첩 함수 선언은 클로저 프레임이 필요하므로 컴파일하지 않는다.
+                throw unsupported();
+            }
+            return true;
+        }
+
+        // 값을 쓰지 않는 식. 지역 변수 할당은 값을 스택에 남기지 않고 바로 저장한다.
+        private void emitEffect(Expr expr) {
+            if (expr instanceof AssignExpr && ((AssignExpr) expr).getDepth() == 0) {
+                emitAssign((AssignExpr) expr, false);
+                return;
+            }
+            String type = typeOf(expr);
+            emitExpr(expr, type);
+            if (!type.equals("void")) {
+                code.op(CodeBuilder.POP, -1);
+            }
+        }
+
+        private void emitIf(IfStmt ifStmt) {
+            CodeBuilder.Label end = new CodeBuilder.Label();
+            CodeBuilder.Label next = new CodeBuilder.Label();
+            emitJumpUnless(ifStmt.getCondition(), next);
+            if (emitBlock(ifStmt.getThenBranch())) {
+                code.jump(CodeBuilder.GOTO, end);
+            }
+            for (Pair<Expr, BlockStmt> elseIf : ifStmt.getElseIfBranches()) {
+                code.mark(next);
+                next = new CodeBuilder.Label();
+                emitJumpUnless(elseIf.first(), next);
+                if (emitBlock(elseIf.second())) {
+                    code.jump(CodeBuilder.GOTO, end);
+                }
+            }
+            code.mark(next);
+            if (ifStmt.getElseBranch() != null) {
+                emitBlock(ifStmt.getElseBranch());
+            }
+            code.mark(end);
+        }
+
+        private void emitWhile(WhileStmt whileStmt) {
+            CodeBuilder.Label start = new CodeBuilder.Label();
+            CodeBuilder.Label end = new CodeBuilder.Label();
+            code.mark(start);
+            emitJumpUnless(whileStmt.getCondition(), end);
+            loops.push(new Loop(start, end));
+            emitBlock(whileStmt.getBody());
+            loops.pop();
+            code.jump(CodeBuilder.GOTO, start);
+            code.mark(end);
+        }
+
+        private void emitFor(ForStmt forStmt) {
+            CodeBuilder.Label start = new CodeBuilder.Label();
+            CodeBuilder.Label post = new CodeBuilder.Label();
+            CodeBuilder.Label end = new CodeBuilder.Label();
+            if (forStmt.getInit() != null) {
+                emitEffect(forStmt.getInit());
+            }
+            code.mark(start);
+            if (forStmt.getCond() != null) {
+                emitJumpUnless(forStmt.getCond(), end);
+            }
+            loops.push(new Loop(post, end));
+            emitBlock(forStmt.getBody());
+            loops.pop();
+            code.mark(post);
+            if (forStmt.getPost() != null) {
+                emitEffect(forStmt.getPost());
+            }
+            code.jump(CodeBuilder.GOTO, start);
+            code.mark(end);
+        }
+
+        // 조건이 거짓이면 whenFalse로 분기한다. 숫자 비교는 bool 값을 만들지 않고 비교 분기 명령어 하나로 처리한다.
+        private void emitJumpUnless(Expr condition, CodeBuilder.Label whenFalse) {
+            if (condition instanceof BinaryExpr) {
+                BinaryExpr binary = (BinaryExpr) condition;
+                String lhs = typeOf(binary.getLhs());
+                String rhs = typeOf(binary.getRhs());
+                if (isBranchComparison(binary) && isNumeric(lhs)) {
+                    if (lhs.equals("int") && rhs.equals("int")) {
+                        emitExpr(binary.getLhs(), "int");
+                        emitExpr(binary.getRhs(), "int");
+                        code.jump(intJumpUnless(binary.getOp()), whenFalse);
+                    } else {
+                        emitExpr(binary.getLhs(), "float");
+                        emitExpr(binary.getRhs(), "float");
+                        // NaN이 끼면 != 만 참이므로 NaN일 때 whenFalse로 가는 쪽의 비교 명령어를 고른다.
+                        BinaryOperator op = binary.getOp();
+                        code.op(op == BinaryOperator.LT || op == BinaryOperator.LE ? CodeBuilder.FCMPG : CodeBuilder.FCMPL, -1);
+                        code.jump(floatJumpUnless(op), whenFalse);
+                    }
+                    return;
+                }
+                if (isBranchComparison(binary)) {
+                    emitExpr(binary.getLhs(), "bool");
+                    emitExpr(binary.getRhs(), "bool");
+                    code.jump(binary.getOp() == BinaryOperator.EQ ? CodeBuilder.IF_ICMPNE : CodeBuilder.IF_ICMPEQ, whenFalse);
+                    return;
+                }
+            }
+            String type = typeOf(condition);
+            emitExpr(condition, type);
+            switch (type) {
+                case "int":
+                case "bool":
+                    break;
+                case "float":
+                    code.pushFloat(0.0f);
+                    code.op(CodeBuilder.FCMPL, -1);
+                    break;
+                case "string":
+                    code.invokeStatic(RUNTIME, "truth", "(" + VALUE_DESC + ")Z");
+                    break;
+                default:
+                    throw unsupported();
+            }
+            code.jump(CodeBuilder.IFEQ, whenFalse);
+        }
+
+        // 비교 분기 명령어 하나로 처리하는 비교: 숫자끼리의 비교와 bool끼리의 ==, !=
+        private boolean isBranchComparison(BinaryExpr binary) {
+            String lhs = typeOf(binary.getLhs());
+            String rhs = typeOf(binary.getRhs());
+            BinaryOperator op = binary.getOp();
+            if (isNumeric(lhs) && isNumeric(rhs)) {
+                return isComparison(op);
+            }
+            return (op == BinaryOperator.EQ || op == BinaryOperator.NE) && lhs.equals("bool") && rhs.equals("bool");
+        }
+
+        private void emitThrow(String message, int line, int col) {
+            code.pushString(message);
+            code.pushInt(line);
+            code.pushInt(col);
+            code.invokeStatic(RUNTIME, "error", "(Ljava/lang/String;II)Lflow/runtime/errors/RuntimeError;");
+            code.op(CodeBuilder.ATHROW, -1);
+        }
+
+        // --- 식 ---
+
+        private String typeOf(Expr expr) {
+            String type = expr.getResolvedType();
+            if (type == null) {
+                throw unsupported();
+            }
+            descriptor(type);
+            return type;
+        }
+
+        // 식의 값을 type의 JVM 표현으로 push한다. void면 아무것도 push하지 않는다.
+        private void emitExpr(Expr expr, String type) {
+            String actual = typeOf(expr);
+            emitExpr(expr);
+            if (type.equals("float") && actual.equals("int")) {
+                code.op(CodeBuilder.I2F, 0);
+            } else if (!type.equals(actual)) {
+                throw unsupported();
+            }
+        }
+
+        private void emitExpr(Expr expr) {
+            if (expr instanceof IntLiteralExpr) {
+                code.pushInt(literal(() -> ((IntLiteralExpr) expr).getConstant().intValue()));
+            } else if (expr instanceof FloatLiteralExpr) {
+                code.pushFloat(literal(() -> ((FloatLiteralExpr) expr).getConstant().floatValue()));
+            } else if (expr instanceof StringLiteralExpr) {
+                int index = constants.size();
+                constants.add(((StringLiteralExpr) expr).getConstant());
+                code.getStatic(className, constantField(index), VALUE_DESC);
+            } else if (expr instanceof BoolLiteralExpr) {
+                code.pushInt(((BoolLiteralExpr) expr).getConstant().boolValue() ? 1 : 0);
+            } else if (expr instanceof VoidExpr) {
+                return;
+            } else if (expr instanceof IdentifierExpr) {
+                emitIdentifier((IdentifierExpr) expr);
+            } else if (expr instanceof AssignExpr) {
+                emitAssign((AssignExpr) expr, true);
+            } else if (expr instanceof BinaryExpr) {
+                emitBinary((BinaryExpr) expr);
+            } else if (expr instanceof UnaryExpr) {
+                emitUnary((UnaryExpr) expr);
+            } else if (expr instanceof FunctionCallExpr) {
+                emitCall((FunctionCallExpr) expr);
+            } else if (expr instanceof IntToFloatExpr) {
+                emitExpr(((IntToFloatExpr) expr).getOperand(), "float");
+            } else {
+                // 배열 생성과 인덱스 접근은 대상 타입이 아니다.
+                throw unsupported();
+            }
+        }
+
+        private interface LiteralSupplier<T> {
+            T get();
+        }
+
+        // 범위를 벗어난 숫자 리터럴은 실행 시점에 오류가 나야 하므로 컴파일하지 않는다.
+        private <T> T literal(LiteralSupplier<T> supplier) {
+            try {
+                return supplier.get();
+            } catch (NumberFormatException e) {
+                throw unsupported();
+            }
+        }
+
+        private void emitPosition(Expr expr) {
+            code.pushInt(expr.line);
+            code.pushInt(expr.col);
+        }
+
+        private void emitIdentifier(IdentifierExpr identifier) {
+            String type = typeOf(identifier);
+            if (identifier.getDepth() == 0) {
+                code.load(loadOp(type), local(identifier.getSlot(), type));
+            } else if (identifier.getDepth() < 0) {
+                code.aload(INTERPRETER_LOCAL);
+                code.pushString(identifier.getName());
+                emitPosition(identifier);
+                code.invokeStatic(RUNTIME, "global", "(" + INTERPRETER_DESC + "Ljava/lang/String;II)" + VALUE_DESC);
+                unbox(code, type);
+            } else {
+                // 바깥 함수 프레임의 변수는 클로저 프레임이 필요하다.
+                throw unsupported();
+            }
+        }
+
+        private void emitAssign(AssignExpr assign, boolean keepValue) {
+            if (!(assign.getLhs() instanceof IdentifierExpr)) {
+                throw unsupported();
+            }
+            String type = typeOf(assign.getLhs());
+            emitExpr(assign.getRhs(), type);
+            if (keepValue) {
+                code.op(CodeBuilder.DUP, 1);
+            }
+            if (assign.getDepth() == 0) {
+                code.store(storeOp(type), local(assign.getSlot(), type));
+            } else if (assign.getDepth() < 0) {
+                box(code, type);
+                code.aload(INTERPRETER_LOCAL);
+                code.pushString(((IdentifierExpr) assign.getLhs()).getName());
+                emitPosition(assign);
+                code.invokeStatic(RUNTIME, "assignGlobal", "(" + VALUE_DESC + INTERPRETER_DESC + "Ljava/lang/String;II)" + VALUE_DESC);
+                code.op(CodeBuilder.POP, -1);
+            } else {
+                throw unsupported();
+            }
+        }
+
+        private void emitBinary(BinaryExpr binary) {
+            String result = typeOf(binary);
+            String lhs = typeOf(binary.getLhs());
+            BinaryOperator op = binary.getOp();
+            if (result.equals("int") || result.equals("float")) {
+                boolean floating = result.equals("float");
+                emitExpr(binary.getLhs(), result);
+                emitExpr(binary.getRhs(), result);
+                if (op == BinaryOperator.DIV || op == BinaryOperator.MOD) {
+                    emitDivisorCheck(floating, binary);
+                }
+                code.op(arithmeticOp(op, floating), -1);
+            } else if (result.equals("string") || lhs.equals("string")) {
+                if (op != BinaryOperator.ADD && op != BinaryOperator.EQ && op != BinaryOperator.NE) {
+                    throw unsupported();
+                }
+                // 문자열 연결과 비교는 Value의 연산을 그대로 쓴다.
+                emitExpr(binary.getLhs(), lhs);
+                box(code, lhs);
+                String rhs = typeOf(binary.getRhs());
+                emitExpr(binary.getRhs(), rhs);
+                box(code, rhs);
+                emitPosition(binary);
+                code.invokeStatic(RUNTIME, op.name().toLowerCase(), BINARY_DESC);
+                unbox(code, result);
+            } else if (op == BinaryOperator.AND || op == BinaryOperator.OR) {
+                // AST 실행기처럼 양쪽을 모두 계산한다.
+                emitExpr(binary.getLhs(), "bool");
+                emitExpr(binary.getRhs(), "bool");
+                code.op(op == BinaryOperator.AND ? CodeBuilder.IAND : CodeBuilder.IOR, -1);
+            } else if (isBranchComparison(binary)) {
+                // 비교 결과를 bool 값으로 만든다.
+                CodeBuilder.Label whenFalse = new CodeBuilder.Label();
+                CodeBuilder.Label end = new CodeBuilder.Label();
+                emitJumpUnless(binary, whenFalse);
+                code.pushInt(1);
+                code.jump(CodeBuilder.GOTO, end);
+                code.mark(whenFalse);
+                code.setStack(code.getStack() - 1);
+                code.pushInt(0);
+                code.mark(end);
+            } else {
+                throw unsupported();
+            }
+        }
+
+        // 0으로 나누면 AST 실행기와 같은 위치로 오류를 낸다. 스택 맨 위의 제수는 그대로 둔다.
+        private void emitDivisorCheck(boolean floating, BinaryExpr binary) {
+            CodeBuilder.Label ok = new CodeBuilder.Label();
+            code.op(CodeBuilder.DUP, 1);
+            if (floating) {
+                code.pushFloat(0.0f);
+                code.op(CodeBuilder.FCMPL, -1);
+            }
+            code.jump(CodeBuilder.IFNE, ok);
+            int depth = code.getStack();
+            emitThrow("0으로 나눌 수 없습니다.", binary.line, binary.col);
+            code.setStack(depth);
+            code.mark(ok);
+        }
+
+        private void emitUnary(UnaryExpr unary) {
+            String type = typeOf(unary);
+            emitExpr(unary.getOperand(), type);
+            switch (unary.getOp()) {
+                case NEG:
+                    code.op(type.equals("float") ? CodeBuilder.FNEG : CodeBuilder.INEG, 0);
+                    break;
+                case PLUS:
+                    break;
+                case NOT:
+                    code.pushInt(1);
+                    code.op(CodeBuilder.IXOR, -1);
+                    break;
+            }
+        }
+
+        private void emitCall(FunctionCallExpr call) {
+            if (!(call.getCallee() instanceof IdentifierExpr) || ((IdentifierExpr) call.getCallee()).getDepth() >= 0) {
+                // 지역 변수에 담긴 함수는 호출 대상이 아니다. 전역 함수만 이름으로 찾아 호출한다.
+                throw unsupported();
+            }
+            IdentifierExpr callee = (IdentifierExpr) call.getCallee();
+            String type = typeOf(call);
+            FunctionObject target = directTarget(callee.getName(), call);
+            String targetClass = target == function ? className : target != null ? classOf(target, globals) : null;
+            if (targetClass != null) {
+                code.aload(INTERPRETER_LOCAL);
+                List<Param> params = target.getParams();
+                for (int i = 0; i < params.size(); i++) {
+                    emitExpr(call.getArgs().get(i), params.get(i).getType().toString());
+                }
+                code.invokeStatic(targetClass, "call", callDescriptor(target));
+                return;
+            }
+
+            // 내장 함수와 컴파일할 수 없는 함수는 인터프리터를 거쳐 Value로 호출한다.
+            code.aload(INTERPRETER_LOCAL);
+            code.pushString(callee.getName());
+            emitPosition(callee);
+            emitPosition(call);
+            code.invokeStatic(RUNTIME, "function", "(" + INTERPRETER_DESC + "Ljava/lang/String;IIII)" + FUNCTION_OBJECT_DESC);
+
+            List<Expr> args = call.getArgs();
+            code.pushInt(args.size());
+            code.newArray(VALUE);
+            for (int i = 0; i < args.size(); i++) {
+                code.op(CodeBuilder.DUP, 1);
+                code.pushInt(i);
+                String argType = typeOf(args.get(i));
+                emitExpr(args.get(i), argType);
+                box(code, argType);
+                code.op(CodeBuilder.AASTORE, -3);
+            }
+            code.aload(INTERPRETER_LOCAL);
+            emitPosition(call);
+            code.invokeStatic(RUNTIME, "call", "(" + FUNCTION_OBJECT_DESC + "[" + VALUE_DESC + INTERPRETER_DESC + "II)" + VALUE_DESC);
+            unbox(code, type);
+        }
+
+        // 이름이 가리키는 전역 사용자 함수 중 타입이 맞아 static 메서드로 바로 부를 수 있는 것
+        private FunctionObject directTarget(String name, FunctionCallExpr call) {
+            Value value;
+            try {
+                value = globals.lookup(name, call.line, call.col);
+            } catch (RuntimeError e) {
+                return null; // 아직 정의되지 않은 함수는 실행 시점에 찾는다.
+            }
+            if (!value.isFunction()) {
+                return null;
+            }
+            FunctionObject target = ((FunctionValue) value).getFunctionObject();
+            if (!isSupportedSignature(target) || target.getParams().size() != call.getArgs().size()
+                    || !target.getReturnType().toString().equals(call.getResolvedType())) {
+                return null;
+            }
+            return target;
+        }
+    }
+
+    // --- 타입 변환 ---
+
+    private static boolean isNumeric(String type) {
+        return type.equals("int") || type.equals("float");
+    }
+
+    private static boolean isComparison(BinaryOperator op) {
+        switch (op) {
+            case EQ: case NE: case LT: case GT: case LE: case GE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int arithmeticOp(BinaryOperator op, boolean floating) {
+        switch (op) {
+            case ADD: return floating ? CodeBuilder.FADD : CodeBuilder.IADD;
+            case SUB: return floating ? CodeBuilder.FSUB : CodeBuilder.ISUB;
+            case MUL: return floating ? CodeBuilder.FMUL : CodeBuilder.IMUL;
+            case DIV: return floating ? CodeBuilder.FDIV : CodeBuilder.IDIV;
+            case MOD: return floating ? CodeBuilder.FREM : CodeBuilder.IREM;
+            default: throw new IllegalStateException("산술 연산자가 아닙니다: " + op);
+        }
+    }
+
+    // 비교가 거짓일 때 분기하는 명령어
+    private static int intJumpUnless(BinaryOperator op) {
+        switch (op) {
+            case EQ: return CodeBuilder.IF_ICMPNE;
+            case NE: return CodeBuilder.IF_ICMPEQ;
+            case LT: return CodeBuilder.IF_ICMPGE;
+            case GT: return CodeBuilder.IF_ICMPLE;
+            case LE: return CodeBuilder.IF_ICMPGT;
+            case GE: return CodeBuilder.IF_ICMPLT;
+            default: throw new IllegalStateException("비교 연산자가 아닙니다: " + op);
+        }
+    }
+
+    // FCMPL/FCMPG 결과에 대해 비교가 거짓일 때 분기하는 명령어
+    private static int floatJumpUnless(BinaryOperator op) {
+        switch (op) {
+            case EQ: return CodeBuilder.IFNE;
+            case NE: return CodeBuilder.IFEQ;
+            case LT: return CodeBuilder.IFGE;
+            case GT: return CodeBuilder.IFLE;
+            case LE: return CodeBuilder.IFGT;
+            case GE: return CodeBuilder.IFLT;
+            default: throw new IllegalStateException("비교 연산자가 아닙니다: " + op);
+        }
+    }
+
+    // 스택 맨 위의 type 값을 Value로 감싼다. void면 VoidValue를 push한다.
+    private static void box(CodeBuilder code, String type) {
+        switch (type) {
+            case "int":
+                code.invokeStatic(INT_VALUE, "of", "(I)L" + INT_VALUE + ";");
+                break;
+            case "float":
+                code.newObject(FLOAT_VALUE);
+                code.op(CodeBuilder.DUP_X1, 1);
+                code.op(CodeBuilder.SWAP, 0);
+                code.invokeSpecial(FLOAT_VALUE, "<init>", "(F)V");
+                break;
+            case "bool":
+                code.invokeStatic(BOOL_VALUE, "of", "(Z)L" + BOOL_VALUE + ";");
+                break;
+            case "void":
+                code.getStatic(VOID_VALUE, "INSTANCE", "L" + VOID_VALUE + ";");
+                break;
+            default:
+                break;
+        }
+    }
+
+    // 스택 맨 위의 Value를 type의 JVM 값으로 푼다. void면 버린다.
+    private static void unbox(CodeBuilder code, String type) {
+        switch (type) {
+            case "int":
+                code.checkCast(INT_VALUE);
+                code.invokeVirtual(INT_VALUE, "intValue", "()I");
+                break;
+            case "float":
+                code.checkCast(FLOAT_VALUE);
+                code.invokeVirtual(FLOAT_VALUE, "floatValue", "()F");
+                break;
+            case "bool":
+                code.checkCast(BOOL_VALUE);
+                code.invokeVirtual(BOOL_VALUE, "boolValue", "()Z");
+                break;
+            case "void":
+                code.op(CodeBuilder.POP, -1);
+                break;
+            default:
+                break;
+        }
+    }
+}
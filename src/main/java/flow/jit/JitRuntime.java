@@ -0,0 +1,77 @@
+package flow.jit;
+
+import flow.ast.BinaryOperator;
+import flow.runtime.errors.RuntimeError;
+import flow.runtime.interpreter.FunctionObject;
+import flow.runtime.interpreter.Interpreter;
+import flow.runtime.types.BoolValue;
+import flow.runtime.types.FunctionValue;
+import flow.runtime.types.Value;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// JIT가 생성한 코드가 호출하는 보조 메서드. 생성된 클래스는 다른 로더에 정의되므로 모두 public static이다.
+// 인터프리터와 만나는 경계(전역 변수, 컴파일되지 않은 함수 호출, 문자열 연산)에서만 쓰인다.
+public final class JitRuntime {
+
+    // 생성된 클래스의 <clinit>이 가져갈 리터럴 상수. 클래스 이름으로 찾는다.
+    private static final Map<String, Value[]> pendingConstants = new ConcurrentHashMap<>();
+
+    private JitRuntime() {
+    }
+
+    static void registerConstants(String className, Value[] constants) {
+        pendingConstants.put(className, constants);
+    }
+
+    public static Value[] takeConstants(String className) {
+        return pendingConstants.remove(className);
+    }
+
+    public static boolean truth(Value value) {
+        if (value == BoolValue.TRUE) return true;
+        if (value == BoolValue.FALSE) return false;
+        return value.isTruth();
+    }
+
+    public static Value global(Interpreter interpreter, String name, int line, int col) {
+        return interpreter.currentEnvironment.lookup(name, line, col);
+    }
+
+    public static Value assignGlobal(Value value, Interpreter interpreter, String name, int line, int col) {
+        interpreter.currentEnvironment.assign(name, value, line, col);
+        return value;
+    }
+
+    public static FunctionObject function(Interpreter interpreter, String name, int nameLine, int nameCol, int line, int col) {
+        Value callee = interpreter.currentEnvironment.lookup(name, nameLine, nameCol);
+        if (!callee.isFunction()) {
+            throw new RuntimeError("호출 가능한 함수가 아닙니다.", line, col);
+        }
+        return ((FunctionValue) callee).getFunctionObject();
+    }
+
+    public static Value call(FunctionObject function, Value[] args, Interpreter interpreter, int line, int col) {
+        return interpreter.callFunction(function, args, line, col);
+    }
+
+    public static RuntimeError error(String message, int line, int col) {
+        return new RuntimeError(message, line, col);
+    }
+
+    // --- 문자열 연산자 ---
+    // int, float, bool 연산은 생성된 코드가 JVM 명령어로 직접 하므로 문자열 연결과 비교만 여기로 온다.
+
+    public static Value add(Value lhs, Value rhs, int line, int col) {
+        return lhs.performBinaryOperation(rhs, BinaryOperator.ADD, line, col);
+    }
+
+    public static Value eq(Value lhs, Value rhs, int line, int col) {
+        return lhs.performBinaryOperation(rhs, BinaryOperator.EQ, line, col);
+    }
+
+    public static Value ne(Value lhs, Value rhs, int line, int col) {
+        return lhs.performBinaryOperation(rhs, BinaryOperator.NE, line, col);
+    }
+}
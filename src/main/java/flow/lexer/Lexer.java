@@ -2,89 +2,198 @@ package flow.lexer;
 
 import flow.runtime.errors.RuntimeError;
 import flow.token.Token;
-import flow.token.TokenPriority;
-import flow.token.TokenRegex;
 import flow.token.TokenType;
 import flow.utility.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class Lexer {
 
-    private HashMap<TokenType, Pattern> regexMap;
-    private HashMap<TokenType, Integer> tokenPriorityMap;
+    // 식별자 모양의 렉심 중 키워드/불리언 리터럴로 분류되는 것들 (TokenPriority상 식별자보다 우선)
+    private static final HashMap<String, TokenType> keywordMap = new HashMap<>();
+
+    static {
+        keywordMap.put("int", TokenType.KW_INT);
+        keywordMap.put("float", TokenType.KW_FLOAT);
+        keywordMap.put("bool", TokenType.KW_BOOL);
+        keywordMap.put("string", TokenType.KW_STRING);
+        keywordMap.put("if", TokenType.KW_IF);
+        keywordMap.put("void", TokenType.KW_VOID);
+        keywordMap.put("else", TokenType.KW_ELSE);
+        keywordMap.put("else_if", TokenType.KW_ELSE_IF);
+        keywordMap.put("for", TokenType.KW_FOR);
+        keywordMap.put("while", TokenType.KW_WHILE);
+        keywordMap.put("return", TokenType.KW_RETURN);
+        keywordMap.put("break", TokenType.KW_BREAK);
+        keywordMap.put("continue", TokenType.KW_CONTINUE);
+        keywordMap.put("true", TokenType.BOOL_LITERAL);
+        keywordMap.put("false", TokenType.BOOL_LITERAL);
+    }
+
     private int line = 1;
     private int col = 1;
     private int offset = 0;
     private final int tabWidth = 4;
     private Logger logger;
 
+    // 스캔 결과 (토큰 종류와 렉심의 끝 위치)
+    private TokenType scannedKind;
+    private int scannedEnd;
+
 
     public Lexer(Logger logger){
-        TokenRegex.initRegexMap();
-        TokenPriority.initTokenPriorityMap();
-        this.regexMap = TokenRegex.regexMap;
-        this.tokenPriorityMap = TokenPriority.tokenPriorityMap;
         this.logger = logger;
     }
 
     public Lexer(){
-        TokenRegex.initRegexMap();
-        TokenPriority.initTokenPriorityMap();
-        this.regexMap = TokenRegex.regexMap;
-        this.tokenPriorityMap = TokenPriority.tokenPriorityMap;
     }
 
     public void printLogs(){
         logger.printLogs();
     }
 
-    private Pair<TokenType, String> findLongestMatch(String input){
-        int maxLength = 0;
-        int selectedPriority = Integer.MAX_VALUE;
-        TokenType selectedType = TokenType.UNKNOWN;
-        String selectedLexeme = "";
-
-        for(Map.Entry<TokenType, Pattern> entry : regexMap.entrySet()){
-            TokenType curType = entry.getKey();
-            Pattern curRegex = entry.getValue();
-
-            Matcher matcher = curRegex.matcher(input);
-
-            if(matcher.find() && matcher.start() == 0){
-                String curLexeme = matcher.group();
-                int curLength = curLexeme.length();
-                int curPriority = tokenPriorityMap.getOrDefault(curType, Integer.MAX_VALUE);
-                if (curLength > maxLength) {
-                    maxLength = curLength;
-                    selectedType = curType;
-                    selectedLexeme = curLexeme;
-                    selectedPriority = curPriority;
-                } else if (curLength == maxLength) {
-                    if (curPriority < selectedPriority) {
-                        maxLength = curLength;
-                        selectedType = curType;
-                        selectedLexeme = curLexeme;
-                        selectedPriority = curPriority;
-                    }
-                }
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || isDigit(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    // 정규식 \b와 같은 기준의 단어 문자
+    private static boolean isWordCodePoint(int cp) {
+        return cp == '_' || Character.isLetterOrDigit(cp);
+    }
+
+    private void accept(TokenType kind, int end) {
+        scannedKind = kind;
+        scannedEnd = end;
+    }
+
+    // offset 위치에서 가장 긴 토큰 하나를 스캔한다. 길이가 같으면 TokenPriority 순서(키워드 > 연산자 > 구두점 > 리터럴 > 식별자)를 따른다.
+    private void scanToken(final String s) {
+        final int length = s.length();
+        final int start = offset;
+        final char c = s.charAt(start);
+        int i = start + 1;
+
+        if (isWhitespace(c)) {
+            while (i < length && isWhitespace(s.charAt(i))) i++;
+            accept(TokenType.WHITESPACE, i);
+            return;
+        }
+
+        if (isIdentifierStart(c)) {
+            while (i < length && isIdentifierPart(s.charAt(i))) i++;
+            TokenType keyword = keywordMap.get(s.substring(start, i));
+            boolean boundary = i >= length || !isWordCodePoint(s.codePointAt(i));
+            accept(keyword != null && boundary ? keyword : TokenType.IDENTIFIER, i);
+            return;
+        }
+
+        if (isDigit(c)) {
+            while (i < length && isDigit(s.charAt(i))) i++;
+            if (i + 1 < length && s.charAt(i) == '.' && isDigit(s.charAt(i + 1))) {
+                i += 2;
+                while (i < length && isDigit(s.charAt(i))) i++;
+                accept(TokenType.FLOAT_LITERAL, i);
+                return;
             }
+            accept(TokenType.INT_LITERAL, i);
+            return;
         }
 
-        return new Pair<>(selectedType, selectedLexeme);
+        switch (c) {
+            case '"':
+                scanString(s, start);
+                return;
+            case '#':
+                while (i < length && !isLineTerminator(s.charAt(i))) i++;
+                accept(TokenType.COMMENT, i);
+                return;
+            case '=':
+                if (i < length && s.charAt(i) == '=') accept(TokenType.EQUAL, i + 1);
+                else accept(TokenType.ASSIGN, i);
+                return;
+            case '!':
+                if (i < length && s.charAt(i) == '=') accept(TokenType.NOT_EQUAL, i + 1);
+                else accept(TokenType.NOT, i);
+                return;
+            case '<':
+                if (i < length && s.charAt(i) == '=') accept(TokenType.LESS_EQUAL, i + 1);
+                else accept(TokenType.LESS, i);
+                return;
+            case '>':
+                if (i < length && s.charAt(i) == '=') accept(TokenType.GREATER_EQUAL, i + 1);
+                else accept(TokenType.GREATER, i);
+                return;
+            case '&':
+                if (i < length && s.charAt(i) == '&') accept(TokenType.AND, i + 1);
+                else accept(TokenType.UNKNOWN, i);
+                return;
+            case '|':
+                if (i < length && s.charAt(i) == '|') accept(TokenType.OR, i + 1);
+                else accept(TokenType.UNKNOWN, i);
+                return;
+            case '+': accept(TokenType.PLUS, i); return;
+            case '-': accept(TokenType.MINUS, i); return;
+            case '*': accept(TokenType.MUL, i); return;
+            case '/': accept(TokenType.DIV, i); return;
+            case '%': accept(TokenType.MOD, i); return;
+            case '[': accept(TokenType.LBRACKET, i); return;
+            case ']': accept(TokenType.RBRACKET, i); return;
+            case '{': accept(TokenType.LBRACE, i); return;
+            case '}': accept(TokenType.RBRACE, i); return;
+            case '(': accept(TokenType.LPAREN, i); return;
+            case ')': accept(TokenType.RPAREN, i); return;
+            case ',': accept(TokenType.COMMA, i); return;
+            case ';': accept(TokenType.SEMICOLON, i); return;
+            default:
+                accept(TokenType.UNKNOWN, start + Character.charCount(s.codePointAt(start)));
+        }
+    }
+
+    // "..." 형태의 문자열 리터럴. 허용되는 이스케이프는 \" \\ \n \r \t 뿐이며, 닫히지 않으면 따옴표 한 글자짜리 UNKNOWN이 된다.
+    private void scanString(final String s, final int start) {
+        final int length = s.length();
+        int i = start + 1;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c == '"') {
+                accept(TokenType.STRING_LITERAL, i + 1);
+                return;
+            }
+            if (c == '\\') {
+                if (i + 1 >= length) break;
+                char escaped = s.charAt(i + 1);
+                if (escaped != '"' && escaped != '\\' && escaped != 'n' && escaped != 'r' && escaped != 't') break;
+                i += 2;
+                continue;
+            }
+            i++;
+        }
+        accept(TokenType.UNKNOWN, start + 1);
     }
 
-    private void advanceAtWhitespace(final String lex) {
-        for (int i = 0; i < lex.length(); i++) {
-            char c = lex.charAt(i);
+    private void advanceAtWhitespace(final String s, final int end) {
+        while (offset < end) {
+            char c = s.charAt(offset);
 
             if (c == '\r') {
-                if (i + 1 < lex.length() && lex.charAt(i + 1) == '\n') {
-                    i++;
+                if (offset + 1 < end && s.charAt(offset + 1) == '\n') {
                     offset++;
                 }
                 col = 1;
@@ -118,37 +227,31 @@ public class Lexer {
         List<Token> tokens = new ArrayList<>();
 
         while (offset < s.length()) {
-            String remainingInput = s.substring(offset);
-            Pair<TokenType, String> match = findLongestMatch(remainingInput);
-            TokenType kind = match.first();
-            String lexeme = match.second();
-
-            if (lexeme.length() > 256) {
-                
-                throw new RuntimeError("렉서 오류: 너무 긴 토큰입니다. (길이: " + lexeme.length() + ")", line, col);
+            scanToken(s);
+            TokenType kind = scannedKind;
+            int lexemeLength = scannedEnd - offset;
+
+            if (lexemeLength > 256) {
+
+                throw new RuntimeError("렉서 오류: 너무 긴 토큰입니다. (길이: " + lexemeLength + ")", line, col);
             }
 
-            if (kind == TokenType.UNKNOWN || lexeme.isEmpty()) {
-                
-                throw new RuntimeError("렉서 오류: 알 수 없는 토큰입니다. (렉심: '" + (lexeme.isEmpty() ? s.charAt(offset) : lexeme) + "')", line, col);
+            if (kind == TokenType.UNKNOWN) {
+
+                throw new RuntimeError("렉서 오류: 알 수 없는 토큰입니다. (렉심: '" + s.substring(offset, scannedEnd) + "')", line, col);
             }
 
             if (skipToken(kind)) {
-                advanceAtWhitespace(lexeme);
+                advanceAtWhitespace(s, scannedEnd);
                 continue;
             }
 
-            if (kind == TokenType.FLOAT_LITERAL) {
-                if (lexeme.charAt(0) == '.' || lexeme.charAt(lexeme.length() - 1) == '.') {
-                    
-                    throw new RuntimeError("렉서 오류: 유효하지 않은 실수 리터럴 형식입니다. (렉심: '" + lexeme + "')", line, col);
-                }
-            }
+            String lexeme = s.substring(offset, scannedEnd);
 
             if (kind == TokenType.STRING_LITERAL) {
                 long quoteCount = lexeme.chars().filter(ch -> ch == '"').count();
                 if (quoteCount % 2 == 1) {
-                    
+
                     throw new RuntimeError("렉서 오류: 닫히지 않은 문자열 리터럴입니다.", line, col);
                 }
             }
@@ -101,7 +101,7 @@ public class Parser {
                 currentToken.kind == TokenType.NOT) {
             tokens.next();
             Expr operand = parseUnaryExpr();
-            return new UnaryExpr(operand, currentToken.lexeme, line, col);
+            return new UnaryExpr(operand, UnaryOperator.fromToken(currentToken.kind), line, col);
         }
         return parsePostfixExpr();
     }
@@ -112,7 +112,7 @@ public class Parser {
             int line = operator.line;
             int col = operator.col;
             Expr rhs = parseUnaryExpr();
-            expr = new BinaryExpr(expr, operator.lexeme, rhs, line, col);
+            expr = new BinaryExpr(expr, BinaryOperator.fromToken(operator.kind), rhs, line, col);
         }
         return expr;
     }
@@ -123,7 +123,7 @@ public class Parser {
             int line = operator.line;
             int col = operator.col;
             Expr rhs = parseMulExpr();
-            expr = new BinaryExpr(expr, operator.lexeme, rhs, line, col);
+            expr = new BinaryExpr(expr, BinaryOperator.fromToken(operator.kind), rhs, line, col);
         }
         return expr;
     }
@@ -134,7 +134,7 @@ public class Parser {
             int line = operator.line;
             int col = operator.col;
             Expr rhs = parseAddExpr();
-            expr = new BinaryExpr(expr, operator.lexeme, rhs, line, col);
+            expr = new BinaryExpr(expr, BinaryOperator.fromToken(operator.kind), rhs, line, col);
         }
         return expr;
     }
@@ -145,7 +145,7 @@ public class Parser {
             int line = operator.line;
             int col = operator.col;
             Expr rhs = parseRelationalExpr();
-            expr = new BinaryExpr(expr, operator.lexeme, rhs, line, col);
+            expr = new BinaryExpr(expr, BinaryOperator.fromToken(operator.kind), rhs, line, col);
         }
         return expr;
     }
@@ -156,7 +156,7 @@ public class Parser {
             int line = operator.line;
             int col = operator.col;
             Expr rhs = parseEqualityExpr();
-            expr = new BinaryExpr(expr, operator.lexeme, rhs, line, col);
+            expr = new BinaryExpr(expr, BinaryOperator.fromToken(operator.kind), rhs, line, col);
         }
         return expr;
     }
@@ -167,7 +167,7 @@ public class Parser {
             int line = operator.line;
             int col = operator.col;
             Expr rhs = parseAndExpr();
-            expr = new BinaryExpr(expr, operator.lexeme, rhs, line, col);
+            expr = new BinaryExpr(expr, BinaryOperator.fromToken(operator.kind), rhs, line, col);
         }
         return expr;
     }
@@ -330,11 +330,6 @@ public class Parser {
             if (!type.getBaseType().equals("string")) {
                 throw new RuntimeError("배열의 기본 타입은 string만 가능합니다. (실제: " + type.getBaseType() + ")", type.line, type.col);
             }
-            if (!(initExpr instanceof FunctionCallExpr &&
-                    ((FunctionCallExpr)initExpr).getCallee() instanceof IdentifierExpr &&
-                    ((IdentifierExpr)((FunctionCallExpr)initExpr).getCallee()).getName().equals("csv_to_array"))) {
-                throw new RuntimeError("배열은 'csv_to_array()' 함수의 반환값으로만 초기화 가능합니다.", initExpr.line, initExpr.col);
-            }
         } else { 
             
             
@@ -488,6 +483,12 @@ public class Parser {
             case KW_RETURN:
                 stmt = parseReturnStmt();
                 break;
+            case KW_BREAK:
+                stmt = parseBreakStmt();
+                break;
+            case KW_CONTINUE:
+                stmt = parseContinueStmt();
+                break;
             default:
                 stmt = parseExprStmt();
                 break;
@@ -0,0 +1,46 @@
+package flow.runtime.interpreter;
+
+import flow.csv.RowCursor;
+import flow.runtime.types.ArrayValue;
+import flow.runtime.types.Value;
+
+// 2차원 배열의 행을 RowCursor로 읽는다. 행을 꺼내지 않고 셀에 바로 접근한다.
+// firstRow로 앞쪽 행(헤더 행 등)을 건너뛸 수 있다. csv_to_array가 빈 칸에 넣는 "NULL"은 null(빈 칸)로 돌려준다.
+class ArrayRowCursor implements RowCursor {
+
+    private final ArrayValue array;
+    private final int line;
+    private final int col;
+    private int row;
+
+    ArrayRowCursor(ArrayValue array, int line, int col) {
+        this(array, 0, line, col);
+    }
+
+    ArrayRowCursor(ArrayValue array, int firstRow, int line, int col) {
+        this.array = array;
+        this.row = firstRow - 1;
+        this.line = line;
+        this.col = col;
+    }
+
+    @Override
+    public boolean next() {
+        return ++row < array.getLength();
+    }
+
+    @Override
+    public int size() {
+        return array.getRowLength(row);
+    }
+
+    @Override
+    public String get(int column) {
+        Value cell = array.getElement(row, column);
+        if (cell.isVoid()) {
+            return null;
+        }
+        String value = cell.asString(line, col);
+        return value.equals("NULL") ? null : value;
+    }
+}
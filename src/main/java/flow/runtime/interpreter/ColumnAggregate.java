@@ -0,0 +1,199 @@
+package flow.runtime.interpreter;
+
+import flow.csv.ColumnStats;
+import flow.runtime.errors.RuntimeError;
+import flow.runtime.types.ArrayValue;
+import flow.runtime.types.TableValue;
+import flow.runtime.types.Value;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// 2차원 배열 한 열의 개수, 합계, 최솟값, 최댓값을 한 번에 모은다 (sum/avg/min/max/count/count_null).
+// 빈 칸("NULL", "", 없는 셀)은 count_null에만 들어가고, 합계 등을 구할 때(numeric) 나머지 값은 -?\d+ 또는 -?\d*\.\d+ 꼴이어야 한다.
+// count와 count_null만 구할 때는 값을 숫자로 읽지 않고, csv_to_array가 만든 표라면 열마다 세어 둔 빈 칸 개수를 쓴다.
+// 행이 많으면 구간을 반으로 나누어 fork/join 풀에서 모으고 결과를 합친다.
+final class ColumnAggregate {
+
+    // 이보다 짧은 구간은 나누지 않고 한 스레드에서 모은다.
+    private static final int SPLIT_THRESHOLD = 1 << 15;
+
+    private long count = 0;
+    private long nullCount = 0;
+    private long intSum = 0;
+    private double floatSum = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    // 숫자가 아닌 값을 만났을 때 그 행 번호. 여러 구간에서 나오면 가장 앞의 행을 알린다.
+    private int badRow = -1;
+
+    private ColumnAggregate() {
+    }
+
+    static ColumnAggregate of(ArrayValue array, int column, boolean numeric, int line, int col) {
+        if (array.getDimension() < 2) {
+            throw new RuntimeError("집계 함수는 2차원 배열에만 적용 가능합니다.", line, col);
+        }
+        if (column < 0 || (array.getLength() > 0 && column >= array.getRowLength(0))) {
+            throw new RuntimeError("열 인덱스가 범위를 벗어났습니다: " + column, line, col);
+        }
+        int rows = array.getLength();
+        if (!numeric && array instanceof TableValue) {
+            ColumnAggregate result = new ColumnAggregate();
+            result.nullCount = ((TableValue) array).getNullCount(column);
+            result.count = rows - result.nullCount;
+            return result;
+        }
+        ColumnAggregate result = rows < SPLIT_THRESHOLD
+                ? collect(array, column, numeric, 0, rows)
+                : ForkJoinPool.commonPool().invoke(new Task(array, column, numeric, 0, rows));
+        if (result.badRow >= 0) {
+            throw new RuntimeError("숫자가 아닌 값이 있습니다 (행 " + result.badRow + "): " + cell(array, result.badRow, column), line, col);
+        }
+        return result;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    long getNullCount() {
+        return nullCount;
+    }
+
+    double getSum() {
+        return intSum + floatSum;
+    }
+
+    // 숫자 값이 없으면 NaN
+    double getAverage() {
+        return count == 0 ? Double.NaN : getSum() / count;
+    }
+
+    double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    private static ColumnAggregate collect(ArrayValue array, int column, boolean numeric, int from, int to) {
+        ColumnAggregate result = new ColumnAggregate();
+        if (array instanceof TableValue && ((TableValue) array).isIntColumn(column)) {
+            TableValue table = (TableValue) array;
+            for (int row = from; row < to; row++) {
+                result.addInt(table.getInt(row, column));
+            }
+            return result;
+        }
+        // 표를 만들 때 int로 정해진 열은 빈 칸이 아닌 값이 모두 18자리까지의 정수이므로 다시 훑지 않고 바로 읽는다.
+        boolean knownInt = numeric && array instanceof TableValue && ((TableValue) array).getColumnType(column).equals("int");
+        for (int row = from; row < to; row++) {
+            String value = cell(array, row, column);
+            if (value == null || value.isEmpty() || value.equals("NULL")) {
+                result.nullCount++;
+            } else if (knownInt) {
+                result.addInt(Long.parseLong(value));
+            } else if (!numeric) {
+                result.count++;
+            } else if (!result.addNumber(value)) {
+                result.badRow = row;
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static String cell(ArrayValue array, int row, int column) {
+        if (array instanceof TableValue) {
+            return ((TableValue) array).getString(row, column);
+        }
+        if (column >= array.getRowLength(row)) {
+            return null;
+        }
+        Value value = array.getElement(row, column);
+        return value.isVoid() ? null : value.asString(0, 0);
+    }
+
+    // 정수 합이 long을 넘으면 넘친 값부터 실수 합에 더한다.
+    private void addInt(long value) {
+        count++;
+        try {
+            intSum = Math.addExact(intSum, value);
+        } catch (ArithmeticException e) {
+            floatSum += value;
+        }
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    private boolean addNumber(String s) {
+        switch (ColumnStats.numberKind(s)) {
+            case ColumnStats.SHORT_INTEGER:
+                addInt(Long.parseLong(s));
+                return true;
+            case ColumnStats.LONG_INTEGER:
+            case ColumnStats.DECIMAL:
+                addFloat(Double.parseDouble(s));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void addFloat(double value) {
+        count++;
+        floatSum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    private void merge(ColumnAggregate other) {
+        count += other.count;
+        nullCount += other.nullCount;
+        try {
+            intSum = Math.addExact(intSum, other.intSum);
+        } catch (ArithmeticException e) {
+            floatSum += other.intSum;
+        }
+        floatSum += other.floatSum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        if (badRow < 0) {
+            badRow = other.badRow;
+        }
+    }
+
+    private static final class Task extends RecursiveTask<ColumnAggregate> {
+        private static final long serialVersionUID = 1L;
+
+        private final ArrayValue array;
+        private final int column;
+        private final boolean numeric;
+        private final int from;
+        private final int to;
+
+        Task(ArrayValue array, int column, boolean numeric, int from, int to) {
+            this.array = array;
+            this.column = column;
+            this.numeric = numeric;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ColumnAggregate compute() {
+            if (to - from < SPLIT_THRESHOLD) {
+                return collect(array, column, numeric, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            Task right = new Task(array, column, numeric, middle, to);
+            right.fork();
+            ColumnAggregate result = new Task(array, column, numeric, from, middle).compute();
+            result.merge(right.join());
+            return result;
+        }
+    }
+}
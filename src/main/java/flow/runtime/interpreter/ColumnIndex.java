@@ -0,0 +1,96 @@
+package flow.runtime.interpreter;
+
+import flow.runtime.types.ArrayValue;
+import flow.runtime.types.TableValue;
+import flow.runtime.types.Value;
+
+import java.util.Arrays;
+
+// 2차원 배열 한 열의 값에서 행 번호를 찾는 해시 색인 (create_index/lookup/lookup_next).
+// 키마다 첫 행을 선형 탐사 해시 표(keys, firstRows)에 두고, 같은 키의 다음 행은 행마다 한 칸인 nextRows로 잇는다.
+// 행은 배열 순서대로 이어지므로 lookup은 가장 앞의 행을, lookup_next는 그 다음 행을 돌려준다.
+// 빈 칸("NULL")은 어떤 키와도 같지 않은 것으로 보고 색인에 넣지 않는다.
+final class ColumnIndex {
+
+    static final int NOT_FOUND = -1;
+
+    private final String[] keys;
+    private final int[] firstRows;
+    private final int[] nextRows;
+    private final int mask;
+
+    private ColumnIndex(int rowCount) {
+        // 채움 비율을 1/2 이하로 둔다.
+        int capacity = Integer.highestOneBit(Math.max(rowCount, 4) * 2 - 1) << 1;
+        keys = new String[capacity];
+        firstRows = new int[capacity];
+        nextRows = new int[rowCount];
+        Arrays.fill(nextRows, NOT_FOUND);
+        mask = capacity - 1;
+    }
+
+    static ColumnIndex build(ArrayValue array, int column) {
+        int rowCount = array.getLength();
+        ColumnIndex index = new ColumnIndex(rowCount);
+        // 행을 뒤에서부터 넣으면 각 키의 사슬이 앞 행부터 이어진다.
+        for (int row = rowCount - 1; row >= 0; row--) {
+            String key = keyOf(array, row, column);
+            if (key != null) {
+                index.insert(key, row);
+            }
+        }
+        return index;
+    }
+
+    // 셀 값. 빈 칸("NULL", 없는 셀)은 null이다.
+    static String keyOf(ArrayValue array, int row, int column) {
+        if (array instanceof TableValue) {
+            String value = ((TableValue) array).getString(row, column);
+            return value.equals("NULL") ? null : value;
+        }
+        if (column >= array.getRowLength(row)) {
+            return null;
+        }
+        Value value = array.getElement(row, column);
+        if (value.isVoid()) {
+            return null;
+        }
+        String text = value.asString(0, 0);
+        return text.equals("NULL") ? null : text;
+    }
+
+    private void insert(String key, int row) {
+        int slot = slotOf(key);
+        if (keys[slot] == null) {
+            keys[slot] = key;
+        } else {
+            nextRows[row] = firstRows[slot];
+        }
+        firstRows[slot] = row;
+    }
+
+    // key가 있는 칸 또는 key를 넣을 빈 칸
+    private int slotOf(String key) {
+        int slot = mix(key.hashCode()) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // String.hashCode의 아래 비트가 고르지 않은 경우(짧은 숫자 문자열 등)에 대비해 비트를 섞는다.
+    static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    int lookup(String key) {
+        int slot = slotOf(key);
+        return keys[slot] == null ? NOT_FOUND : firstRows[slot];
+    }
+
+    // row와 같은 키를 가진 다음 행. row가 색인한 배열의 행 범위를 벗어나면 NOT_FOUND
+    int next(int row) {
+        return row >= 0 && row < nextRows.length ? nextRows[row] : NOT_FOUND;
+    }
+}
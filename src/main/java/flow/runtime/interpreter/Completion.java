@@ -0,0 +1,9 @@
+package flow.runtime.interpreter;
+
+// 구문 실행이 끝난 방식. NORMAL이 아니면 블록과 루프는 남은 구문을 건너뛰고 바깥으로 전달한다.
+public enum Completion {
+    NORMAL,
+    BREAK,
+    CONTINUE,
+    RETURN
+}
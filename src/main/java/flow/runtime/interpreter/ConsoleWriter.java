@@ -0,0 +1,31 @@
+package flow.runtime.interpreter;
+
+import java.io.PrintStream;
+import java.io.Writer;
+
+// 내장 함수의 긴 출력을 모아 System.out에 덩어리로 넘긴다. 문자 인코딩은 System.out(PrintStream)에 맡긴다.
+// BufferedWriter로 감싸 쓰고, 끝나면 flush()해야 한다.
+class ConsoleWriter extends Writer {
+
+    private final PrintStream out = System.out;
+
+    @Override
+    public void write(char[] buffer, int offset, int length) {
+        out.print(new String(buffer, offset, length));
+    }
+
+    @Override
+    public void write(String text, int offset, int length) {
+        out.print(text.substring(offset, offset + length));
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
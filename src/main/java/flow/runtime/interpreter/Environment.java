@@ -24,61 +24,45 @@ public class Environment {
     }
 
     public void define(String name, Value value, int line, int col) {
-        String internedName = name.intern(); 
-        if (variables.containsKey(internedName)) {
-            throw new RuntimeError("현재 스코프에 변수 '" + internedName + "'가 이미 선언되었습니다.", line, col);
+        if (variables.containsKey(name)) {
+            throw new RuntimeError("현재 스코프에 변수 '" + name + "'가 이미 선언되었습니다.", line, col);
         }
-        if (functions.containsKey(internedName)) {
-            throw new RuntimeError("현재 스코프에 함수 '" + internedName + "'가 이미 선언되었습니다.", line, col);
+        if (functions.containsKey(name)) {
+            throw new RuntimeError("현재 스코프에 함수 '" + name + "'가 이미 선언되었습니다.", line, col);
         }
 
         if (value.isFunction()) {
-            functions.put(internedName, value);
+            functions.put(name, value);
         } else {
-            variables.put(internedName, value);
+            variables.put(name, value);
         }
     }
 
+    // 저장되는 값은 null이 될 수 없으므로 get 한 번으로 존재 여부를 함께 확인한다.
     public Value lookup(String name, int line, int col) {
-        String internedName = name.intern(); 
-        if (variables.containsKey(internedName)) {
-            return variables.get(internedName);
-        }
-        if (functions.containsKey(internedName)) {
-            return functions.get(internedName);
-        }
-
-        if (parent != null) {
-            return parent.lookup(name, line, col);
-        }
-        throw new RuntimeError("선언되지 않은 식별자 '" + internedName + "' 입니다.", line, col);
-    }
-
-    private Environment resolveEnvironment(String name) {
-        String internedName = name.intern(); 
-        if (variables.containsKey(internedName)) {
-            return this;
-        }
-        if (parent != null) {
-            return parent.resolveEnvironment(name);
+        for (Environment env = this; env != null; env = env.parent) {
+            Value value = env.variables.get(name);
+            if (value == null) {
+                value = env.functions.get(name);
+            }
+            if (value != null) {
+                return value;
+            }
         }
-        return null;
+        throw new RuntimeError("선언되지 않은 식별자 '" + name + "' 입니다.", line, col);
     }
 
     public void assign(String name, Value value, int line, int col) {
-        String internedName = name.intern(); 
-        Environment envToAssign = resolveEnvironment(internedName);
-
-        if (envToAssign != null) {
-            if (envToAssign.variables.containsKey(internedName)) {
-                envToAssign.variables.put(internedName, value);
+        for (Environment env = this; env != null; env = env.parent) {
+            if (env.variables.containsKey(name)) {
+                env.variables.put(name, value);
                 return;
             }
-            if (envToAssign.functions.containsKey(internedName)) {
-                throw new RuntimeError("함수 '" + internedName + "'에는 값을 할당할 수 없습니다.", line, col);
+            if (env.functions.containsKey(name)) {
+                throw new RuntimeError("함수 '" + name + "'에는 값을 할당할 수 없습니다.", line, col);
             }
         }
-        throw new RuntimeError("선언되지 않은 변수 '" + internedName + "'에 할당할 수 없습니다.", line, col);
+        throw new RuntimeError("선언되지 않은 변수 '" + name + "'에 할당할 수 없습니다.", line, col);
     }
 
     public Map<String, Value> getVariables() {
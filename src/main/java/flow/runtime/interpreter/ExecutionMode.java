@@ -0,0 +1,6 @@
+package flow.runtime.interpreter;
+
+public enum ExecutionMode {
+    AST, // 노드의 accept()를 따라가는 트리 순회 실행
+    VM   // flow.compiler로 바이트코드를 만든 뒤 flow.vm에서 실행
+}
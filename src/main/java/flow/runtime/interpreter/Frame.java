@@ -0,0 +1,51 @@
+package flow.runtime.interpreter;
+
+import flow.runtime.types.Value;
+
+// 함수 호출 하나에 대응하는 배열 기반 지역 변수 저장소. 슬롯 번호는 Resolver가 정적으로 배정한다.
+public class Frame {
+    private final Value[] slots;
+    private final Frame parent; // 함수가 선언된 위치의 프레임 (정적 링크)
+
+    public Frame(int size, Frame parent) {
+        this.slots = new Value[size];
+        this.parent = parent;
+    }
+
+    public Value get(int depth, int slot) {
+        return ancestor(depth).slots[slot];
+    }
+
+    public Value get(int slot) {
+        return slots[slot];
+    }
+
+    public void set(int depth, int slot, Value value) {
+        ancestor(depth).slots[slot] = value;
+    }
+
+    public void set(int slot, Value value) {
+        slots[slot] = value;
+    }
+
+    // VM이 현재 프레임의 슬롯에 직접 접근할 때 사용한다.
+    public Value[] getSlots() {
+        return slots;
+    }
+
+    public Frame getParent() {
+        return parent;
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    private Frame ancestor(int depth) {
+        Frame frame = this;
+        for (int i = 0; i < depth; i++) {
+            frame = frame.parent;
+        }
+        return frame;
+    }
+}
@@ -3,14 +3,20 @@ package flow.runtime.interpreter;
 import flow.ast.Param;
 import flow.ast.stmt.BlockStmt;
 import flow.ast.Type;
+import flow.compiler.Chunk;
+import flow.jit.CompiledFunction;
 
 import java.util.List;
 
 public class FunctionObject {
     private final String name;
     private final List<Param> params; // 사용자 정의 함수 파라미터 (AST Param)
+    private final List<Type> paramTypes; // 내장 함수 파라미터 타입 ("any"는 모든 타입을 받는다)
+    private final int requiredParamCount; // 내장 함수는 이 개수 뒤의 파라미터를 생략할 수 있다.
     private final BlockStmt body; // 사용자 정의 함수 본문
-    private final Environment closureEnv; // 사용자 정의 함수 클로저 환경
+    private final Frame closureFrame; // 사용자 정의 함수가 선언된 프레임 (정적 링크)
+    private final int frameSize; // 호출 시 만들 프레임의 슬롯 수
+    private final Chunk chunk; // 컴파일된 본문. null이면 AST로 실행한다.
     private final Type returnType;
     private final int line;
     private final int col;
@@ -18,12 +24,21 @@ public class FunctionObject {
     private final boolean isNative;
     private NativeFunctionExecutor nativeExecutor; // 내장 함수 실행기
 
+    // JIT 상태. 호출 횟수가 임계값을 넘으면 한 번 컴파일을 시도하고, 실패하면 다시 시도하지 않는다.
+    private int callCount;
+    private CompiledFunction compiled;
+    private boolean jitRejected;
+
     // 사용자 정의 함수용 생성자
-    public FunctionObject(String name, List<Param> params, BlockStmt body, Environment closureEnv, Type returnType, int line, int col) {
+    public FunctionObject(String name, List<Param> params, BlockStmt body, Frame closureFrame, int frameSize, Chunk chunk, Type returnType, int line, int col) {
         this.name = name;
         this.params = params;
+        this.paramTypes = null;
+        this.requiredParamCount = params.size();
         this.body = body;
-        this.closureEnv = closureEnv;
+        this.closureFrame = closureFrame;
+        this.frameSize = frameSize;
+        this.chunk = chunk;
         this.returnType = returnType;
         this.line = line;
         this.col = col;
@@ -33,11 +48,20 @@ public class FunctionObject {
 
     // 내장 함수용 생성자
     public FunctionObject(String name, List<Type> paramTypes, Type returnType, NativeFunctionExecutor executor, int line, int col) {
+        this(name, paramTypes, paramTypes.size(), returnType, executor, line, col);
+    }
+
+    // 뒤쪽 파라미터를 생략할 수 있는 내장 함수용 생성자. 생략 여부는 실행기가 인자 개수로 판단한다.
+    public FunctionObject(String name, List<Type> paramTypes, int requiredParamCount, Type returnType, NativeFunctionExecutor executor, int line, int col) {
         this.name = name;
-        // 내장 함수는 AST Param 노드 리스트가 필요 없으므로 null
-        this.params = null; // 여기서 params 대신 paramTypes를 따로 저장하는 것이 더 정확할 수 있습니다.
+        // 내장 함수는 AST Param 노드 리스트가 없으므로 타입만 저장한다.
+        this.params = null;
+        this.paramTypes = paramTypes;
+        this.requiredParamCount = requiredParamCount;
         this.body = null;
-        this.closureEnv = null;
+        this.closureFrame = null;
+        this.frameSize = 0;
+        this.chunk = null;
         this.returnType = returnType;
         this.line = line;
         this.col = col;
@@ -47,14 +71,24 @@ public class FunctionObject {
 
     public String getName() { return name; }
     public List<Param> getParams() { return params; } // 사용자 정의 함수용
+    public List<Type> getParamTypes() { return paramTypes; } // 내장 함수용
+    public int getRequiredParamCount() { return requiredParamCount; }
     public BlockStmt getBody() { return body; } // 사용자 정의 함수용
-    public Environment getClosureEnvironment() { return closureEnv; }
+    public Frame getClosureFrame() { return closureFrame; }
+    public int getFrameSize() { return frameSize; }
+    public Chunk getChunk() { return chunk; }
     public Type getReturnType() { return returnType; }
     public int getLine() { return line; }
     public int getCol() { return col; }
     public boolean isNative() { return isNative; }
     public NativeFunctionExecutor getExecutor() { return nativeExecutor; }
 
+    public int countCall() { return ++callCount; }
+    public CompiledFunction getCompiled() { return compiled; }
+    public void setCompiled(CompiledFunction compiled) { this.compiled = compiled; }
+    public boolean isJitRejected() { return jitRejected; }
+    public void rejectJit() { this.jitRejected = true; }
+
     @Override
     public String toString() {
         if (isNative) {
@@ -0,0 +1,271 @@
+package flow.runtime.interpreter;
+
+import flow.csv.ColumnStats;
+import flow.runtime.errors.RuntimeError;
+import flow.runtime.types.ArrayValue;
+import flow.runtime.types.TableValue;
+import flow.runtime.types.Value;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// join, group_count, group_sum. 해시 표로 한 번에 짝을 찾거나 묶는다.
+// 해시 표의 추정 크기가 메모리 한도를 넘으면 키의 해시로 입력을 임시 파일 파티션에 나눈 뒤
+// 파티션마다 따로 처리하고(Grace hash join), 결과를 원래 행 순서로 되돌린다.
+// 빈 칸("NULL") 키는 join에서 어떤 행과도 짝이 되지 않고, group에서는 "NULL" 그룹 하나로 묶인다.
+final class HashOperations {
+
+    // 해시 표 항목 하나가 키 문자 외에 차지하는 대략적인 바이트 수 (String, 표의 칸, 행 목록)
+    private static final long ENTRY_OVERHEAD = 64;
+    private static final int MAX_PARTITIONS = 1024;
+
+    private HashOperations() {
+    }
+
+    // a의 행 순서대로, 각 행에 짝이 되는 b의 행을 b의 순서대로 붙인다. 결과 행은 a의 열 뒤에 b의 열이 온다.
+    static ArrayValue join(ArrayValue a, ArrayValue b, int colA, int colB, long budget, int line, int col) {
+        int widthA = width(a, colA, "join", line, col);
+        int widthB = width(b, colB, "join", line, col);
+        TableValue.Builder out = new TableValue.Builder(widthA + widthB);
+        String[] cells = new String[widthA + widthB];
+
+        long buildBytes = estimate(b, colB);
+        if (buildBytes <= budget) {
+            ColumnIndex index = ColumnIndex.build(b, colB);
+            for (int rowA = 0; rowA < a.getLength(); rowA++) {
+                String key = ColumnIndex.keyOf(a, rowA, colA);
+                if (key == null) {
+                    continue;
+                }
+                for (int rowB = index.lookup(key); rowB >= 0; rowB = index.next(rowB)) {
+                    appendJoined(out, cells, a, rowA, widthA, b, rowB, widthB);
+                }
+            }
+            return result(out, line, col);
+        }
+
+        // 파티션마다 찾은 짝을 (a 행 << 32 | b 행)으로 모았다가 정렬해 원래 순서로 출력한다.
+        // 파티션 안에서 같은 키의 b 행은 firstAndLast[키]에서 시작해 nextRows로 잇는다.
+        PairList pairs = new PairList();
+        int[] nextRows = new int[b.getLength()];
+        try (SpillPartitions build = new SpillPartitions(partitionCount(buildBytes, budget));
+             SpillPartitions probe = new SpillPartitions(build.partitionCount())) {
+            spill(build, b, colB, false);
+            spill(probe, a, colA, false);
+            for (int p = 0; p < build.partitionCount(); p++) {
+                Map<String, int[]> firstAndLast = new HashMap<>();
+                build.forEach(p, (key, row) -> {
+                    nextRows[row] = ColumnIndex.NOT_FOUND;
+                    int[] chain = firstAndLast.get(key);
+                    if (chain == null) {
+                        firstAndLast.put(key, new int[]{row, row});
+                    } else {
+                        nextRows[chain[1]] = row;
+                        chain[1] = row;
+                    }
+                });
+                probe.forEach(p, (key, rowA) -> {
+                    int[] chain = firstAndLast.get(key);
+                    for (int rowB = chain != null ? chain[0] : ColumnIndex.NOT_FOUND; rowB >= 0; rowB = nextRows[rowB]) {
+                        pairs.add(((long) rowA << 32) | rowB);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new RuntimeError("join 임시 파일 오류: " + e.getMessage(), line, col);
+        }
+        pairs.sort();
+        for (int i = 0; i < pairs.size; i++) {
+            long pair = pairs.values[i];
+            appendJoined(out, cells, a, (int) (pair >>> 32), widthA, b, (int) pair, widthB);
+        }
+        return result(out, line, col);
+    }
+
+    // 키마다 [키, 개수] 또는 [키, 합계] 행을 키가 처음 나온 순서대로 돌려준다.
+    // 개수와 합계는 빈 칸이 아닌 값만 센다. 합계할 값이 하나도 없는 그룹의 합계는 "NULL"이다.
+    static ArrayValue group(ArrayValue arr, int keyCol, int valueCol, boolean sum, long budget, int line, int col) {
+        String name = sum ? "group_sum" : "group_count";
+        width(arr, keyCol, name, line, col);
+        width(arr, valueCol, name, line, col);
+
+        List<Group> groups = groupInMemory(arr, keyCol, valueCol, sum, budget, line, col);
+        if (groups == null) {
+            groups = new ArrayList<>();
+            try (SpillPartitions partitions = new SpillPartitions(partitionCount(estimate(arr, keyCol), budget))) {
+                spill(partitions, arr, keyCol, true);
+                for (int p = 0; p < partitions.partitionCount(); p++) {
+                    Map<String, Group> byKey = new HashMap<>();
+                    partitions.forEach(p, (key, row) ->
+                            byKey.computeIfAbsent(key, k -> new Group(k, row)).add(arr, row, valueCol, sum, line, col));
+                    groups.addAll(byKey.values());
+                }
+            } catch (IOException e) {
+                throw new RuntimeError(name + " 임시 파일 오류: " + e.getMessage(), line, col);
+            }
+            groups.sort(Comparator.comparingInt(g -> g.firstRow));
+        }
+
+        TableValue.Builder out = new TableValue.Builder(2);
+        for (Group group : groups) {
+            out.appendRow(new String[]{group.key, sum ? group.sumText() : Long.toString(group.count)});
+        }
+        return result(out, line, col);
+    }
+
+    // 그룹 표가 한도를 넘으면 null을 돌려주고 파티션으로 처리하게 한다.
+    private static List<Group> groupInMemory(ArrayValue arr, int keyCol, int valueCol, boolean sum, long budget, int line, int col) {
+        Map<String, Group> byKey = new LinkedHashMap<>();
+        long bytes = 0;
+        for (int row = 0; row < arr.getLength(); row++) {
+            String key = groupKey(arr, row, keyCol);
+            Group group = byKey.get(key);
+            if (group == null) {
+                bytes += ENTRY_OVERHEAD + 2L * key.length();
+                if (bytes > budget) {
+                    return null;
+                }
+                group = new Group(key, row);
+                byKey.put(key, group);
+            }
+            group.add(arr, row, valueCol, sum, line, col);
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    private static String groupKey(ArrayValue arr, int row, int column) {
+        String key = ColumnIndex.keyOf(arr, row, column);
+        return key != null ? key : "NULL";
+    }
+
+    private static final class Group {
+        final String key;
+        final int firstRow;
+        long count = 0;
+        long intSum = 0;
+        BigDecimal decimalSum; // 소수나 long을 넘는 값이 나오면 쓴다.
+
+        Group(String key, int firstRow) {
+            this.key = key;
+            this.firstRow = firstRow;
+        }
+
+        void add(ArrayValue arr, int row, int valueCol, boolean sum, int line, int col) {
+            String value = ColumnIndex.keyOf(arr, row, valueCol);
+            if (value == null) {
+                return;
+            }
+            count++;
+            if (!sum) {
+                return;
+            }
+            switch (ColumnStats.numberKind(value)) {
+                case ColumnStats.SHORT_INTEGER:
+                    long number = Long.parseLong(value);
+                    try {
+                        intSum = Math.addExact(intSum, number);
+                    } catch (ArithmeticException e) {
+                        addDecimal(BigDecimal.valueOf(number));
+                    }
+                    break;
+                case ColumnStats.LONG_INTEGER:
+                case ColumnStats.DECIMAL:
+                    addDecimal(new BigDecimal(value));
+                    break;
+                default:
+                    throw new RuntimeError("숫자가 아닌 값이 있습니다 (행 " + row + "): " + value, line, col);
+            }
+        }
+
+        private void addDecimal(BigDecimal value) {
+            decimalSum = decimalSum == null ? value : decimalSum.add(value);
+        }
+
+        String sumText() {
+            if (count == 0) {
+                return "NULL";
+            }
+            return decimalSum == null ? Long.toString(intSum) : decimalSum.add(BigDecimal.valueOf(intSum)).toPlainString();
+        }
+    }
+
+    private static int width(ArrayValue arr, int column, String name, int line, int col) {
+        if (arr.getDimension() < 2) {
+            throw new RuntimeError(name + " 함수는 2차원 배열에만 적용 가능합니다.", line, col);
+        }
+        int width = arr.getLength() > 0 ? arr.getRowLength(0) : 0;
+        if (column < 0 || (arr.getLength() > 0 && column >= width)) {
+            throw new RuntimeError("열 인덱스가 범위를 벗어났습니다: " + column, line, col);
+        }
+        return width;
+    }
+
+    // 키 열 전체를 해시 표에 넣었을 때의 대략적인 크기
+    private static long estimate(ArrayValue arr, int column) {
+        long bytes = 0;
+        for (int row = 0; row < arr.getLength(); row++) {
+            String key = ColumnIndex.keyOf(arr, row, column);
+            bytes += ENTRY_OVERHEAD + (key != null ? 2L * key.length() : 0);
+        }
+        return bytes;
+    }
+
+    // 파티션 하나가 한도의 절반 정도가 되도록 나눈다.
+    private static int partitionCount(long bytes, long budget) {
+        long count = (bytes * 2 + budget - 1) / Math.max(budget, 1);
+        return (int) Math.max(2, Math.min(MAX_PARTITIONS, count));
+    }
+
+    // 빈 칸 키는 join에서 짝이 없으므로 nullKeys일 때만 "NULL"로 쓴다.
+    private static void spill(SpillPartitions partitions, ArrayValue arr, int column, boolean nullKeys) throws IOException {
+        for (int row = 0; row < arr.getLength(); row++) {
+            String key = ColumnIndex.keyOf(arr, row, column);
+            if (key != null) {
+                partitions.add(key, row);
+            } else if (nullKeys) {
+                partitions.add("NULL", row);
+            }
+        }
+    }
+
+    private static final class PairList {
+        long[] values = new long[16];
+        int size = 0;
+
+        void add(long pair) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = pair;
+        }
+
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+    }
+
+    private static void appendJoined(TableValue.Builder out, String[] cells, ArrayValue a, int rowA, int widthA,
+                                     ArrayValue b, int rowB, int widthB) {
+        for (int i = 0; i < widthA; i++) {
+            cells[i] = ColumnIndex.keyOf(a, rowA, i);
+        }
+        for (int i = 0; i < widthB; i++) {
+            cells[widthA + i] = ColumnIndex.keyOf(b, rowB, i);
+        }
+        out.appendRow(cells);
+    }
+
+    private static ArrayValue result(TableValue.Builder out, int line, int col) {
+        if (out.getRowCount() == 0) {
+            return new ArrayValue(new ArrayList<Value>(), line, col);
+        }
+        return out.build();
+    }
+}
@@ -4,18 +4,34 @@ import flow.ast.Type;
 import flow.runtime.errors.RuntimeError;
 import flow.runtime.types.*;
 import flow.utility.Logger;
+import flow.csv.BulkLoadWriter;
+import flow.csv.ColumnStats;
 import flow.csv.CsvParser; 
+import flow.csv.CsvReader;
+import flow.csv.CsvTail;
+import flow.csv.ParallelCsvReader;
+import flow.csv.SqlDialect;
+import flow.csv.TypeInference;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public class NativeFunctions {
 
     private final Interpreter interpreter;
     private final Environment globalEnvironment;
     private Logger logger;
+    // create_index가 돌려주는 핸들은 이 목록의 위치다. drop_index한 자리는 null이고, 프로그램을 실행할 때마다 비운다.
+    private final List<ColumnIndex> indexes = new ArrayList<>();
 
     public NativeFunctions(Interpreter interpreter, Environment globalEnvironment, Logger logger) {
         this.interpreter = interpreter;
@@ -32,9 +48,28 @@ public class NativeFunctions {
         registerPrintFunction();
         registerImportCsvFunction();
         registerCsvToArrayFunction();
+        registerCsvTailFunction();
         registerRowLengthFunction();
         registerColLengthFunction();
+        registerCreateIndexFunction();
+        registerLookupFunction();
+        registerLookupNextFunction();
+        registerDropIndexFunction();
+        registerJoinFunction();
+        registerGroupFunction("group_count", false);
+        registerGroupFunction("group_sum", true);
+        registerSortByFunction();
+        registerSliceRowsFunction();
+        registerSelectColumnsFunction();
+        registerFilterRowsFunction();
         registerGenerateTableFunction();
+        registerExportTableFunction();
+        registerAggregateFunction("sum", true, new Type("float", 0, 0, 0), (a, line, col) -> new FloatValue((float) a.getSum()));
+        registerAggregateFunction("avg", true, new Type("float", 0, 0, 0), (a, line, col) -> new FloatValue((float) numeric(a.getAverage(), "avg", line, col)));
+        registerAggregateFunction("min", true, new Type("float", 0, 0, 0), (a, line, col) -> new FloatValue((float) numeric(a.getMin(), "min", line, col)));
+        registerAggregateFunction("max", true, new Type("float", 0, 0, 0), (a, line, col) -> new FloatValue((float) numeric(a.getMax(), "max", line, col)));
+        registerAggregateFunction("count", false, new Type("int", 0, 0, 0), (a, line, col) -> IntValue.of((int) a.getCount()));
+        registerAggregateFunction("count_null", false, new Type("int", 0, 0, 0), (a, line, col) -> IntValue.of((int) a.getNullCount()));
     }
 
     private void registerPrintFunction() {
@@ -44,7 +79,7 @@ public class NativeFunctions {
             }
             
             System.out.println(args.get(0).asString(line, col));
-            return new VoidValue();
+            return VoidValue.INSTANCE;
         };
         globalEnvironment.define(
                 "print",
@@ -61,42 +96,62 @@ public class NativeFunctions {
         );
     }
 
+    // 파일을 스트리밍으로 읽으며 offset행을 건너뛰고 limit행까지만 출력한다. limit까지 출력하면 나머지는 읽지 않는다.
     private void registerImportCsvFunction() {
         NativeFunctionExecutor executor = (args, line, col) -> {
-            if (args.size() != 1 || !args.get(0).isString()) {
-                throw new RuntimeError("import_csv 함수는 1개의 문자열 인자를 필요로 합니다.", line, col);
+            if (args.size() < 1 || args.size() > 3 || !args.get(0).isString()
+                    || (args.size() > 1 && !args.get(1).isInt()) || (args.size() > 2 && !args.get(2).isInt())) {
+                throw new RuntimeError("import_csv 함수는 1~3개의 인자(파일 경로, 최대 행 수, 건너뛸 행 수)를 필요로 합니다.", line, col);
             }
             String filePath = args.get(0).asString(line, col);
+            // 최대 행 수가 음수이면 끝까지 출력한다.
+            int limit = args.size() > 1 ? args.get(1).asInt(line, col) : -1;
+            int offset = args.size() > 2 ? args.get(2).asInt(line, col) : 0;
+            if (offset < 0) {
+                throw new RuntimeError("건너뛸 행 수는 0 이상이어야 합니다: " + offset, line, col);
+            }
 
-            try {
-                List<Map<String, String>> csvData = CsvParser.readCsv(filePath);
-                System.out.println("--- CSV Data from: " + filePath + " ---");
-                if (!csvData.isEmpty()) {
-                    System.out.println(String.join("\t|\t", csvData.get(0).keySet()));
-                    System.out.println("------------------------------------");
-                    for (Map<String, String> row : csvData) {
-                        List<String> values = new ArrayList<>();
-                        for (String header : csvData.get(0).keySet()) {
-                            values.add(row.get(header) != null ? row.get(header) : "NULL");
+            try (CsvReader reader = CsvReader.open(filePath);
+                 Writer out = new BufferedWriter(new ConsoleWriter(), 1 << 16)) {
+                out.write("--- CSV Data from: " + filePath + " ---\n");
+                boolean hasRow = reader.next();
+                if (hasRow) {
+                    out.write(String.join("\t|\t", reader.getHeaders()));
+                    out.write("\n------------------------------------\n");
+                    for (int skipped = 0; hasRow && skipped < offset; skipped++) {
+                        hasRow = reader.next();
+                    }
+                    for (int printed = 0; hasRow && printed != limit; printed++) {
+                        for (int i = 0; i < reader.size(); i++) {
+                            if (i > 0) {
+                                out.write("\t|\t");
+                            }
+                            String value = reader.get(i);
+                            out.write(value != null ? value : "NULL");
                         }
-                        System.out.println(String.join("\t|\t", values));
+                        out.write('\n');
+                        hasRow = reader.next();
+                    }
+                    if (hasRow) {
+                        out.write("... (이후 행 생략)\n");
                     }
                 } else {
-                    System.out.println("빈 CSV 파일입니다.");
+                    out.write("빈 CSV 파일입니다.\n");
                 }
-                System.out.println("------------------------------------");
+                out.write("------------------------------------\n");
 
-            } catch (IOException e) {
+            } catch (IOException | UncheckedIOException e) {
                 throw new RuntimeError("CSV 파일 읽기 오류: " + e.getMessage(), line, col);
             }
-            return new VoidValue();
+            return VoidValue.INSTANCE;
         };
         globalEnvironment.define(
                 "import_csv",
                 new FunctionValue(
                         new FunctionObject(
                                 "import_csv",
-                                List.of(new Type("string", 0, 0, 0)),
+                                List.of(new Type("string", 0, 0, 0), new Type("int", 0, 0, 0), new Type("int", 0, 0, 0)),
+                                1,
                                 new Type("void", 0, 0, 0),
                                 executor,
                                 0, 0
@@ -108,37 +163,38 @@ public class NativeFunctions {
 
     private void registerCsvToArrayFunction() {
         NativeFunctionExecutor executor = (args, line, col) -> {
-            if (args.size() != 1 || !args.get(0).isString()) {
-                throw new RuntimeError("csv_to_array 함수는 1개의 문자열 인자를 필요로 합니다.", line, col);
+            if (args.size() < 1 || args.size() > 2 || !args.get(0).isString()
+                    || (args.size() == 2 && !args.get(1).isString())) {
+                throw new RuntimeError("csv_to_array 함수는 (파일 경로, [캐시 디렉터리]) 문자열 인자를 필요로 합니다.", line, col);
             }
             String filePath = args.get(0).asString(line, col);
+            String cacheDir = args.size() == 2 ? args.get(1).asString(line, col) : "";
 
-            List<Map<String, String>> csvData;
+            TableCache cache = cacheDir.isEmpty() ? null : new TableCache(cacheDir);
+            TableCache.Key key = null;
+            TableValue.Builder table;
             try {
-                csvData = CsvParser.readCsv(filePath);
-            } catch (IOException e) {
+                if (cache != null) {
+                    key = cache.keyOf(filePath);
+                    TableValue cached = cache.load(key);
+                    if (cached != null) {
+                        return cached;
+                    }
+                }
+                table = ParallelCsvReader.isWorthwhile(filePath) ? loadTableInParallel(filePath) : loadTable(filePath);
+            } catch (IOException | UncheckedIOException e) {
                 throw new RuntimeError("CSV 파일 읽기 오류: " + e.getMessage(), line, col);
             }
 
-            List<Value> rows = new ArrayList<>();
-            if (csvData.isEmpty()) {
+            if (table.getRowCount() == 0) {
                 
                 return new ArrayValue(new ArrayList<>(), line, col);
             }
-
-            List<String> headers = new ArrayList<>(csvData.get(0).keySet());
-
-            for (Map<String, String> rowMap : csvData) {
-                List<Value> cols = new ArrayList<>();
-                for (String header : headers) {
-                    String value = rowMap.get(header);
-                    
-                    cols.add(new StringValue(value != null ? value : "NULL"));
-                }
-                rows.add(new ArrayValue(cols, line, col)); 
+            TableValue result = table.build();
+            if (cache != null) {
+                cache.store(key, result);
             }
-            
-            return new ArrayValue(rows, line, col);
+            return result;
         };
 
         globalEnvironment.define(
@@ -146,7 +202,8 @@ public class NativeFunctions {
                 new FunctionValue(
                         new FunctionObject(
                                 "csv_to_array",
-                                List.of(new Type("string", 0, 0, 0)),
+                                List.of(new Type("string", 0, 0, 0), new Type("string", 0, 0, 0)),
+                                1,
                                 new Type("string", 2, 0, 0), 
                                 executor,
                                 0, 0
@@ -156,13 +213,87 @@ public class NativeFunctions {
         );
     }
 
+    // 상태 파일에 기록된 위치 이후에 추가된 행만 csv_to_array와 같은 형태로 돌려준다.
+    // 돌려주기 전에 상태를 기록하므로, 스크립트가 이후에 실패해도 같은 행을 다시 받지 않는다.
+    private void registerCsvTailFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 2 || !args.get(0).isString() || !args.get(1).isString()) {
+                throw new RuntimeError("csv_tail 함수는 (파일 경로, 상태 파일 경로) 문자열 인자를 필요로 합니다.", line, col);
+            }
+            String filePath = args.get(0).asString(line, col);
+            String statePath = args.get(1).asString(line, col);
+
+            TableValue.Builder table;
+            try (CsvTail tail = CsvTail.open(filePath, statePath)) {
+                table = new TableValue.Builder(tail.size());
+                String[] cells = new String[tail.size()];
+                while (tail.next()) {
+                    for (int i = 0; i < cells.length; i++) {
+                        cells[i] = tail.get(i);
+                    }
+                    table.appendRow(cells);
+                }
+                tail.commit();
+            } catch (IOException | UncheckedIOException e) {
+                throw new RuntimeError("CSV 파일 읽기 오류: " + e.getMessage(), line, col);
+            }
+
+            if (table.getRowCount() == 0) {
+                return new ArrayValue(new ArrayList<>(), line, col);
+            }
+            return table.build();
+        };
+
+        globalEnvironment.define(
+                "csv_tail",
+                new FunctionValue(
+                        new FunctionObject(
+                                "csv_tail",
+                                List.of(new Type("string", 0, 0, 0), new Type("string", 0, 0, 0)),
+                                new Type("string", 2, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
+
+    // 행을 읽는 대로 열 단위로 저장한다. null(빈 칸)은 Builder가 "NULL"로 채운다.
+    private static TableValue.Builder loadTable(String filePath) throws IOException {
+        try (CsvReader reader = CsvReader.open(filePath)) {
+            TableValue.Builder table = new TableValue.Builder(reader.size());
+            String[] cells = new String[reader.size()];
+            while (reader.next()) {
+                for (int i = 0; i < cells.length; i++) {
+                    cells[i] = reader.get(i);
+                }
+                table.appendRow(cells);
+            }
+            return table;
+        }
+    }
+
+    // 청크마다 따로 채운 Builder를 파일 순서대로 이어 붙인다.
+    private static TableValue.Builder loadTableInParallel(String filePath) throws IOException {
+        List<TableValue.Builder> parts = ParallelCsvReader.read(filePath, TableValue.Builder::new, TableValue.Builder::appendRow);
+        if (parts.isEmpty()) {
+            return new TableValue.Builder(0);
+        }
+        TableValue.Builder table = parts.get(0);
+        for (int i = 1; i < parts.size(); i++) {
+            table.appendAll(parts.get(i));
+        }
+        return table;
+    }
+
     private void registerRowLengthFunction() {
         NativeFunctionExecutor executor = (args, line, col) -> {
             if (args.size() != 1 || !args.get(0).isArray()) {
                 throw new RuntimeError("row_length 함수는 1개의 배열 인자를 필요로 합니다.", line, col);
             }
             ArrayValue arr = (ArrayValue)args.get(0);
-            return new IntValue(arr.getElements().size());
+            return IntValue.of(arr.getLength());
         };
         globalEnvironment.define(
                 "row_length",
@@ -188,14 +319,10 @@ public class NativeFunctions {
             if (arr.getDimension() < 2) {
                 throw new RuntimeError("col_length 함수는 2차원 이상의 배열에만 적용 가능합니다.", line, col);
             }
-            if (arr.getElements().isEmpty()) { 
-                return new IntValue(0);
+            if (arr.getLength() == 0) { 
+                return IntValue.of(0);
             }
-            Value firstRow = arr.getElements().get(0);
-            if (!firstRow.isArray()) { 
-                throw new RuntimeError("col_length 함수는 2차원 이상의 배열에만 적용 가능합니다 (내부 요소가 배열이 아님).", line, col);
-            }
-            return new IntValue(((ArrayValue)firstRow).getElements().size());
+            return IntValue.of(arr.getRowLength(0));
         };
         globalEnvironment.define(
                 "col_length",
@@ -212,69 +339,374 @@ public class NativeFunctions {
         );
     }
 
-    private void registerGenerateTableFunction() {
+    private void registerCreateIndexFunction() {
         NativeFunctionExecutor executor = (args, line, col) -> {
             if (args.size() != 2 || !args.get(0).isArray() || !args.get(1).isInt()) {
-                throw new RuntimeError("generate_table 함수는 2개의 인자(배열, 정수-PK컬럼인덱스)를 필요로 합니다.", line, col);
+                throw new RuntimeError("create_index 함수는 2개의 인자(배열, 정수-열인덱스)를 필요로 합니다.", line, col);
             }
-            ArrayValue arr = (ArrayValue)args.get(0);
-            int pkColIndex = args.get(1).asInt(line, col);
-
+            ArrayValue arr = (ArrayValue) args.get(0);
+            int column = args.get(1).asInt(line, col);
             if (arr.getDimension() < 2) {
-                throw new RuntimeError("generate_table 함수는 2차원 이상의 배열에만 적용 가능합니다.", line, col);
+                throw new RuntimeError("create_index 함수는 2차원 배열에만 적용 가능합니다.", line, col);
             }
-            if (arr.getElements().isEmpty()) {
-                System.out.println("-- Empty data for table generation --");
-                return new VoidValue();
+            if (column < 0 || (arr.getLength() > 0 && column >= arr.getRowLength(0))) {
+                throw new RuntimeError("열 인덱스가 범위를 벗어났습니다: " + column, line, col);
+            }
+            indexes.add(ColumnIndex.build(arr, column));
+            return IntValue.of(indexes.size() - 1);
+        };
+        globalEnvironment.define(
+                "create_index",
+                new FunctionValue(
+                        new FunctionObject(
+                                "create_index",
+                                List.of(new Type("any", 2, 0, 0), new Type("int", 0, 0, 0)),
+                                new Type("int", 0, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
+
+    private void registerLookupFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 2 || !args.get(0).isInt() || !args.get(1).isString()) {
+                throw new RuntimeError("lookup 함수는 2개의 인자(정수-색인, 문자열-키)를 필요로 합니다.", line, col);
+            }
+            ColumnIndex index = index(args.get(0).asInt(line, col), line, col);
+            return IntValue.of(index.lookup(args.get(1).asString(line, col)));
+        };
+        globalEnvironment.define(
+                "lookup",
+                new FunctionValue(
+                        new FunctionObject(
+                                "lookup",
+                                List.of(new Type("int", 0, 0, 0), new Type("string", 0, 0, 0)),
+                                new Type("int", 0, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
+
+    private void registerLookupNextFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 2 || !args.get(0).isInt() || !args.get(1).isInt()) {
+                throw new RuntimeError("lookup_next 함수는 2개의 인자(정수-색인, 정수-행번호)를 필요로 합니다.", line, col);
+            }
+            ColumnIndex index = index(args.get(0).asInt(line, col), line, col);
+            return IntValue.of(index.next(args.get(1).asInt(line, col)));
+        };
+        globalEnvironment.define(
+                "lookup_next",
+                new FunctionValue(
+                        new FunctionObject(
+                                "lookup_next",
+                                List.of(new Type("int", 0, 0, 0), new Type("int", 0, 0, 0)),
+                                new Type("int", 0, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
+
+    private void registerDropIndexFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 1 || !args.get(0).isInt()) {
+                throw new RuntimeError("drop_index 함수는 1개의 인자(정수-색인)를 필요로 합니다.", line, col);
+            }
+            int handle = args.get(0).asInt(line, col);
+            index(handle, line, col);
+            indexes.set(handle, null);
+            // 마지막 자리부터 비었으면 목록을 줄여 만들고 지우기를 반복해도 목록이 자라지 않게 한다.
+            while (!indexes.isEmpty() && indexes.get(indexes.size() - 1) == null) {
+                indexes.remove(indexes.size() - 1);
+            }
+            return VoidValue.INSTANCE;
+        };
+        globalEnvironment.define(
+                "drop_index",
+                new FunctionValue(
+                        new FunctionObject(
+                                "drop_index",
+                                List.of(new Type("int", 0, 0, 0)),
+                                new Type("void", 0, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
+
+    private void registerJoinFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 4 || !args.get(0).isArray() || !args.get(1).isArray()
+                    || !args.get(2).isInt() || !args.get(3).isInt()) {
+                throw new RuntimeError("join 함수는 4개의 인자(배열, 배열, 정수-열인덱스, 정수-열인덱스)를 필요로 합니다.", line, col);
             }
+            return HashOperations.join((ArrayValue) args.get(0), (ArrayValue) args.get(1),
+                    args.get(2).asInt(line, col), args.get(3).asInt(line, col), interpreter.getHashMemoryBudget(), line, col);
+        };
+        globalEnvironment.define(
+                "join",
+                new FunctionValue(
+                        new FunctionObject(
+                                "join",
+                                List.of(new Type("any", 2, 0, 0), new Type("any", 2, 0, 0),
+                                        new Type("int", 0, 0, 0), new Type("int", 0, 0, 0)),
+                                new Type("string", 2, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
 
-            List<Map<String, String>> data = new ArrayList<>();
-            List<String> headers = new ArrayList<>();
+    // group_count/group_sum(배열, 정수-키열, 정수-값열)
+    private void registerGroupFunction(String name, boolean sum) {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 3 || !args.get(0).isArray() || !args.get(1).isInt() || !args.get(2).isInt()) {
+                throw new RuntimeError(name + " 함수는 3개의 인자(배열, 정수-키열인덱스, 정수-값열인덱스)를 필요로 합니다.", line, col);
+            }
+            return HashOperations.group((ArrayValue) args.get(0), args.get(1).asInt(line, col), args.get(2).asInt(line, col),
+                    sum, interpreter.getHashMemoryBudget(), line, col);
+        };
+        globalEnvironment.define(
+                name,
+                new FunctionValue(
+                        new FunctionObject(
+                                name,
+                                List.of(new Type("any", 2, 0, 0), new Type("int", 0, 0, 0), new Type("int", 0, 0, 0)),
+                                new Type("string", 2, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
+
+    private void registerSortByFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 4 || !args.get(0).isArray() || !args.get(1).isInt()
+                    || !args.get(2).isString() || !args.get(3).isBool()) {
+                throw new RuntimeError("sort_by 함수는 4개의 인자(배열, 정수-열인덱스, 문자열-정렬타입, 불리언-오름차순)를 필요로 합니다.", line, col);
+            }
+            return TableSort.sortBy((ArrayValue) args.get(0), args.get(1).asInt(line, col),
+                    args.get(2).asString(line, col), args.get(3).asBoolean(line, col), line, col);
+        };
+        globalEnvironment.define(
+                "sort_by",
+                new FunctionValue(
+                        new FunctionObject(
+                                "sort_by",
+                                List.of(new Type("any", 2, 0, 0), new Type("int", 0, 0, 0),
+                                        new Type("string", 0, 0, 0), new Type("bool", 0, 0, 0)),
+                                new Type("string", 2, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
 
-            Value firstRowValue = arr.getElements().get(0);
-            if (!firstRowValue.isArray()) {
-                throw new RuntimeError("generate_table의 첫 번째 인자는 2차원 배열이어야 합니다 (행이 배열이 아님).", line, col);
+    private void registerSliceRowsFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 3 || !args.get(0).isArray() || !args.get(1).isInt() || !args.get(2).isInt()) {
+                throw new RuntimeError("slice_rows 함수는 3개의 인자(배열, 정수-시작행, 정수-끝행)를 필요로 합니다.", line, col);
+            }
+            ArrayValue arr = viewSource(args.get(0), "slice_rows", line, col);
+            int from = args.get(1).asInt(line, col);
+            int to = args.get(2).asInt(line, col);
+            if (from < 0 || to < from || to > arr.getLength()) {
+                throw new RuntimeError("행 범위가 올바르지 않습니다: " + from + " ~ " + to, line, col);
             }
-            ArrayValue headerRow = (ArrayValue)firstRowValue;
-            for(Value headerVal : headerRow.getElements()){
-                headers.add(headerVal.asString(line, col));
+            if (from == to) {
+                return new ArrayValue(new ArrayList<>(), line, col);
             }
+            return ArrayView.slice(arr, from, to);
+        };
+        globalEnvironment.define(
+                "slice_rows",
+                new FunctionValue(
+                        new FunctionObject(
+                                "slice_rows",
+                                List.of(new Type("any", 2, 0, 0), new Type("int", 0, 0, 0), new Type("int", 0, 0, 0)),
+                                new Type("string", 2, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
 
-            for (int rowIndex = 0; rowIndex < arr.getElements().size(); rowIndex++) {
-                Value currentRowValue = arr.getElements().get(rowIndex);
-                if (!currentRowValue.isArray()) {
-                    throw new RuntimeError("배열 내의 행 요소가 배열이 아닙니다. (generate_table)", line, col);
+    // select_columns(배열, "2,0"): 쉼표로 나눈 열 인덱스 순서대로 열을 고른다.
+    private void registerSelectColumnsFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 2 || !args.get(0).isArray() || !args.get(1).isString()) {
+                throw new RuntimeError("select_columns 함수는 2개의 인자(배열, 문자열-열인덱스목록)를 필요로 합니다.", line, col);
+            }
+            ArrayValue arr = viewSource(args.get(0), "select_columns", line, col);
+            String[] parts = args.get(1).asString(line, col).split(",");
+            int[] columns = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                try {
+                    columns[i] = Integer.parseInt(parts[i].trim());
+                } catch (NumberFormatException e) {
+                    throw new RuntimeError("열 인덱스 목록이 올바르지 않습니다: " + args.get(1).asString(line, col), line, col);
                 }
-                ArrayValue currentRow = (ArrayValue) currentRowValue;
-                if (currentRow.getElements().size() != headers.size()) {
-                    throw new RuntimeError("CSV 데이터의 모든 행은 동일한 컬럼 개수를 가져야 합니다.", line, col);
+                if (columns[i] < 0 || (arr.getLength() > 0 && columns[i] >= arr.getRowLength(0))) {
+                    throw new RuntimeError("열 인덱스가 범위를 벗어났습니다: " + columns[i], line, col);
                 }
+            }
+            if (arr.getLength() == 0) {
+                return new ArrayValue(new ArrayList<>(), line, col);
+            }
+            return ArrayView.project(arr, columns);
+        };
+        globalEnvironment.define(
+                "select_columns",
+                new FunctionValue(
+                        new FunctionObject(
+                                "select_columns",
+                                List.of(new Type("any", 2, 0, 0), new Type("string", 0, 0, 0)),
+                                new Type("string", 2, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
 
-                Map<String, String> rowMap = new java.util.LinkedHashMap<>();
-                for (int colIndex = 0; colIndex < headers.size(); colIndex++) {
-                    String header = headers.get(colIndex);
-                    Value cellValue = currentRow.getElements().get(colIndex);
-                    rowMap.put(header, cellValue.isVoid() ? null : cellValue.asString(line, col));
+    // filter_rows(배열, 열, 값): 그 열의 값이 같은 행만 고른다. 값 "NULL"은 빈 칸과 같다.
+    private void registerFilterRowsFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 3 || !args.get(0).isArray() || !args.get(1).isInt() || !args.get(2).isString()) {
+                throw new RuntimeError("filter_rows 함수는 3개의 인자(배열, 정수-열인덱스, 문자열-값)를 필요로 합니다.", line, col);
+            }
+            ArrayValue arr = viewSource(args.get(0), "filter_rows", line, col);
+            int column = args.get(1).asInt(line, col);
+            String value = args.get(2).asString(line, col);
+            if (column < 0 || (arr.getLength() > 0 && column >= arr.getRowLength(0))) {
+                throw new RuntimeError("열 인덱스가 범위를 벗어났습니다: " + column, line, col);
+            }
+            int[] selected = new int[16];
+            int count = 0;
+            for (int row = 0; row < arr.getLength(); row++) {
+                String key = ColumnIndex.keyOf(arr, row, column);
+                if (value.equals(key != null ? key : "NULL")) {
+                    if (count == selected.length) {
+                        selected = Arrays.copyOf(selected, count * 2);
+                    }
+                    selected[count++] = row;
                 }
-                data.add(rowMap);
+            }
+            if (count == 0) {
+                return new ArrayValue(new ArrayList<>(), line, col);
+            }
+            return ArrayView.select(arr, Arrays.copyOf(selected, count));
+        };
+        globalEnvironment.define(
+                "filter_rows",
+                new FunctionValue(
+                        new FunctionObject(
+                                "filter_rows",
+                                List.of(new Type("any", 2, 0, 0), new Type("int", 0, 0, 0), new Type("string", 0, 0, 0)),
+                                new Type("string", 2, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
+
+    private static ArrayValue viewSource(Value value, String name, int line, int col) {
+        ArrayValue arr = (ArrayValue) value;
+        if (arr.getDimension() < 2) {
+            throw new RuntimeError(name + " 함수는 2차원 배열에만 적용 가능합니다.", line, col);
+        }
+        return arr;
+    }
+
+    private ColumnIndex index(int handle, int line, int col) {
+        if (handle < 0 || handle >= indexes.size() || indexes.get(handle) == null) {
+            throw new RuntimeError("create_index로 만든 색인이 아니거나 이미 삭제된 색인입니다: " + handle, line, col);
+        }
+        return indexes.get(handle);
+    }
+
+    // 이전 실행에서 만든 색인의 키 표와 행 번호 배열을 놓아준다. 색인은 원본 배열을 가리키지 않으므로 배열은 이와 관계없다.
+    void dropIndexes() {
+        indexes.clear();
+    }
+
+    private void registerGenerateTableFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() < 2 || args.size() > 5 || !args.get(0).isArray() || !args.get(1).isInt()
+                    || (args.size() > 2 && !args.get(2).isString()) || (args.size() > 3 && !args.get(3).isInt())
+                    || (args.size() > 4 && !args.get(4).isString())) {
+                throw new RuntimeError("generate_table 함수는 2~5개의 인자(배열, 정수-PK컬럼인덱스, 출력 파일 경로, 배치 크기, 타입 추론 방식)를 필요로 합니다.", line, col);
+            }
+            ArrayValue arr = (ArrayValue)args.get(0);
+            int pkColIndex = args.get(1).asInt(line, col);
+            // 출력 파일 경로가 빈 문자열이면 표준 출력에 쓴다.
+            String outputPath = args.size() > 2 ? args.get(2).asString(line, col) : "";
+            int batchSize = args.size() > 3 ? args.get(3).asInt(line, col) : 1;
+            if (batchSize < 1) {
+                throw new RuntimeError("배치 크기는 1 이상이어야 합니다: " + batchSize, line, col);
+            }
+            TypeInference inference;
+            try {
+                inference = TypeInference.parse(args.size() > 4 ? args.get(4).asString(line, col) : "");
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeError(e.getMessage(), line, col);
             }
 
-            if (pkColIndex < 0 || pkColIndex >= headers.size()) {
-                throw new RuntimeError("기본 키 컬럼 인덱스 범위 초과: " + pkColIndex, line, col);
+            if (arr.getDimension() < 2) {
+                throw new RuntimeError("generate_table 함수는 2차원 이상의 배열에만 적용 가능합니다.", line, col);
+            }
+            if (arr.getLength() == 0) {
+                System.out.println("-- Empty data for table generation --");
+                return VoidValue.INSTANCE;
             }
+
+            List<String> headers = tableHeaders(arr, pkColIndex, line, col);
             String pkColumnName = headers.get(pkColIndex);
 
             String tableName = "GENERATED_TABLE";
 
-            String ddl = CsvParser.generateCreateTable(data, tableName, pkColumnName);
-            List<String> dmlStatements = CsvParser.generateInsertStatements(data, tableName);
+            ColumnStats[] stats = inference.infer(headers.size(), () -> new ArrayRowCursor(arr, line, col));
+            String ddl = CsvParser.generateCreateTable(headers, stats, tableName, pkColumnName);
 
-            System.out.println("--- Generated SQL ---");
-            System.out.println(ddl + ";\n");
-            dmlStatements.forEach(System.out::println);
-            System.out.println("---------------------");
+            boolean toConsole = outputPath.isEmpty();
+            try (Writer out = toConsole
+                    ? new BufferedWriter(new ConsoleWriter(), 1 << 16)
+                    : Files.newBufferedWriter(Paths.get(outputPath), StandardCharsets.UTF_8)) {
+                if (toConsole) {
+                    out.write("--- Generated SQL ---\n");
+                }
+                out.write(ddl + ";\n\n");
+                CsvParser.writeInsertStatements(headers, new ArrayRowCursor(arr, line, col), tableName, batchSize, out);
+                if (toConsole) {
+                    out.write("---------------------\n");
+                }
+            } catch (IOException e) {
+                throw new RuntimeError("SQL 파일 쓰기 오류: " + e.getMessage(), line, col);
+            }
 
-            return new VoidValue();
+            return VoidValue.INSTANCE;
         };
 
         globalEnvironment.define(
@@ -282,7 +714,141 @@ public class NativeFunctions {
                 new FunctionValue(
                         new FunctionObject(
                                 "generate_table",
+                                List.of(new Type("any", 2, 0, 0), new Type("int", 0, 0, 0),
+                                        new Type("string", 0, 0, 0), new Type("int", 0, 0, 0),
+                                        new Type("string", 0, 0, 0)),
+                                2,
+                                new Type("void", 0, 0, 0),
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
+
+    // 집계 결과에서 돌려줄 값을 고른다.
+    private interface AggregateResult {
+        Value apply(ColumnAggregate aggregate, int line, int col);
+    }
+
+    // sum/avg/min/max/count/count_null(배열, 열 인덱스). 열의 값을 모으는 일은 모두 ColumnAggregate가 한다.
+    // numeric이면 빈 칸이 아닌 값이 모두 숫자여야 한다.
+    private void registerAggregateFunction(String name, boolean numeric, Type returnType, AggregateResult result) {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 2 || !args.get(0).isArray() || !args.get(1).isInt()) {
+                throw new RuntimeError(name + " 함수는 2개의 인자(배열, 정수-열인덱스)를 필요로 합니다.", line, col);
+            }
+            ColumnAggregate aggregate = ColumnAggregate.of((ArrayValue) args.get(0), args.get(1).asInt(line, col), numeric, line, col);
+            return result.apply(aggregate, line, col);
+        };
+        globalEnvironment.define(
+                name,
+                new FunctionValue(
+                        new FunctionObject(
+                                name,
                                 List.of(new Type("any", 2, 0, 0), new Type("int", 0, 0, 0)),
+                                returnType,
+                                executor,
+                                0, 0
+                        )
+                ),
+                0, 0
+        );
+    }
+
+    // 숫자 값이 하나도 없는 열의 avg/min/max는 NaN이 되므로 오류로 알린다.
+    private static double numeric(double value, String name, int line, int col) {
+        if (Double.isNaN(value)) {
+            throw new RuntimeError(name + " 함수: 열에 숫자 값이 없습니다.", line, col);
+        }
+        return value;
+    }
+
+    // 첫 행을 헤더로 읽고 모든 행의 열 개수와 기본 키 인덱스를 검사한다.
+    private static List<String> tableHeaders(ArrayValue arr, int pkColIndex, int line, int col) {
+        List<String> headers = new ArrayList<>();
+
+        int columnCount = arr.getRowLength(0);
+        for (int colIndex = 0; colIndex < columnCount; colIndex++) {
+            headers.add(arr.getElement(0, colIndex).asString(line, col));
+        }
+
+        for (int rowIndex = 0; rowIndex < arr.getLength(); rowIndex++) {
+            if (arr.getRowLength(rowIndex) != headers.size()) {
+                throw new RuntimeError("CSV 데이터의 모든 행은 동일한 컬럼 개수를 가져야 합니다.", line, col);
+            }
+        }
+
+        if (pkColIndex < 0 || pkColIndex >= headers.size()) {
+            throw new RuntimeError("기본 키 컬럼 인덱스 범위 초과: " + pkColIndex, line, col);
+        }
+        return headers;
+    }
+
+    private void registerExportTableFunction() {
+        NativeFunctionExecutor executor = (args, line, col) -> {
+            if (args.size() != 4 || !args.get(0).isArray() || !args.get(1).isInt()
+                    || !args.get(2).isString() || !args.get(3).isString()) {
+                throw new RuntimeError("export_table 함수는 4개의 인자(배열, 정수-PK컬럼인덱스, 형식, 출력 경로)를 필요로 합니다.", line, col);
+            }
+            ArrayValue arr = (ArrayValue)args.get(0);
+            int pkColIndex = args.get(1).asInt(line, col);
+            String format = args.get(2).asString(line, col);
+            String basePath = args.get(3).asString(line, col);
+
+            if (arr.getDimension() < 2) {
+                throw new RuntimeError("export_table 함수는 2차원 이상의 배열에만 적용 가능합니다.", line, col);
+            }
+            // generate_table과 같이 첫 행을 헤더로 쓰되, 헤더 행은 데이터로 내보내지 않는다.
+            if (arr.getLength() < 2) {
+                throw new RuntimeError("내보낼 데이터 행이 없습니다.", line, col);
+            }
+            List<String> headers = tableHeaders(arr, pkColIndex, line, col);
+            String pkColumnName = headers.get(pkColIndex);
+            String tableName = "GENERATED_TABLE";
+            ColumnStats[] stats = CsvParser.collectStats(headers.size(), new ArrayRowCursor(arr, 1, line, col));
+
+            try {
+                switch (format) {
+                    case "sqlldr": {
+                        // sqlldr control=<base>.ctl 로 적재한다. 데이터 파일은 제어 파일과 같은 디렉터리에 둔다.
+                        Path dataFile = Paths.get(basePath + ".dat");
+                        try (Writer out = Files.newBufferedWriter(Paths.get(basePath + ".sql"), StandardCharsets.UTF_8)) {
+                            out.write(CsvParser.generateCreateTable(headers, stats, tableName, pkColumnName, SqlDialect.ORACLE) + ";\n");
+                        }
+                        try (Writer out = Files.newBufferedWriter(Paths.get(basePath + ".ctl"), StandardCharsets.UTF_8)) {
+                            BulkLoadWriter.writeSqlLoaderControl(headers, stats, tableName, dataFile.getFileName().toString(), out);
+                        }
+                        try (Writer out = Files.newBufferedWriter(dataFile, StandardCharsets.UTF_8)) {
+                            BulkLoadWriter.writeSqlLoaderData(new ArrayRowCursor(arr, 1, line, col), headers.size(), out);
+                        }
+                        break;
+                    }
+                    case "copy": {
+                        // psql -f <base>.sql 로 테이블 생성과 적재를 한 번에 한다.
+                        try (Writer out = Files.newBufferedWriter(Paths.get(basePath + ".sql"), StandardCharsets.UTF_8)) {
+                            out.write(CsvParser.generateCreateTable(headers, stats, tableName, pkColumnName, SqlDialect.POSTGRES) + ";\n\n");
+                            BulkLoadWriter.writeCopy(headers, new ArrayRowCursor(arr, 1, line, col), tableName, out);
+                        }
+                        break;
+                    }
+                    default:
+                        throw new RuntimeError("지원하지 않는 내보내기 형식입니다: " + format + " (sqlldr, copy)", line, col);
+                }
+            } catch (IOException e) {
+                throw new RuntimeError("내보내기 파일 쓰기 오류: " + e.getMessage(), line, col);
+            }
+            return VoidValue.INSTANCE;
+        };
+
+        globalEnvironment.define(
+                "export_table",
+                new FunctionValue(
+                        new FunctionObject(
+                                "export_table",
+                                List.of(new Type("any", 2, 0, 0), new Type("int", 0, 0, 0),
+                                        new Type("string", 0, 0, 0), new Type("string", 0, 0, 0)),
                                 new Type("void", 0, 0, 0),
                                 executor,
                                 0, 0
@@ -0,0 +1,171 @@
+package flow.runtime.interpreter;
+
+import flow.ast.Param;
+import flow.ast.ProgramNode;
+import flow.ast.expr.*;
+import flow.ast.stmt.*;
+import flow.runtime.errors.RuntimeError;
+import flow.utility.Pair;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+// 실행 전에 AST를 한 번 순회하며 지역 변수마다 (깊이, 슬롯)을 배정한다.
+// 깊이는 거슬러 올라갈 함수 프레임 수이고, 어느 지역 스코프에서도 찾지 못한 이름은 전역 Environment에서 이름으로 찾는다.
+public class Resolver {
+
+    private static class FunctionScope {
+        private final FunctionScope enclosing;
+        private final Deque<Map<String, Integer>> blocks = new ArrayDeque<>();
+        private int slotCount = 0;
+
+        FunctionScope(FunctionScope enclosing) {
+            this.enclosing = enclosing;
+        }
+    }
+
+    private FunctionScope current;
+
+    // 최상위 제어문 블록에서 쓰일 프레임 크기를 반환한다.
+    public int resolve(ProgramNode program) {
+        current = new FunctionScope(null);
+        for (Stmt stmt : program.getStatements()) {
+            resolveStmt(stmt);
+        }
+        return current.slotCount;
+    }
+
+    private boolean isGlobalScope() {
+        return current.enclosing == null && current.blocks.isEmpty();
+    }
+
+    private int declare(String name, int line, int col) {
+        if (isGlobalScope()) {
+            return -1;
+        }
+        Map<String, Integer> scope = current.blocks.peek();
+        if (scope.containsKey(name)) {
+            throw new RuntimeError("현재 스코프에 변수 '" + name + "'가 이미 선언되었습니다.", line, col);
+        }
+        int slot = current.slotCount++;
+        scope.put(name, slot);
+        return slot;
+    }
+
+    private void resolveName(IdentifierExpr node) {
+        int depth = 0;
+        for (FunctionScope scope = current; scope != null; scope = scope.enclosing, depth++) {
+            for (Map<String, Integer> block : scope.blocks) {
+                Integer slot = block.get(node.getName());
+                if (slot != null) {
+                    node.resolve(depth, slot);
+                    return;
+                }
+            }
+        }
+        node.resolve(-1, -1);
+    }
+
+    private void resolveBlock(BlockStmt block) {
+        current.blocks.push(new HashMap<>());
+        for (Stmt stmt : block.getStatements()) {
+            resolveStmt(stmt);
+        }
+        current.blocks.pop();
+    }
+
+    private void resolveStmt(Stmt stmt) {
+        if (stmt instanceof BlockStmt) {
+            resolveBlock((BlockStmt) stmt);
+        } else if (stmt instanceof ExprStmt) {
+            resolveExpr(((ExprStmt) stmt).getExpr());
+        } else if (stmt instanceof VarDeclStmt) {
+            VarDeclStmt varDecl = (VarDeclStmt) stmt;
+            resolveExpr(varDecl.getInit());
+            varDecl.setSlot(declare(varDecl.getName(), varDecl.line, varDecl.col));
+        } else if (stmt instanceof FuncDeclStmt) {
+            resolveFunction((FuncDeclStmt) stmt);
+        } else if (stmt instanceof IfStmt) {
+            IfStmt ifStmt = (IfStmt) stmt;
+            resolveExpr(ifStmt.getCondition());
+            resolveBlock(ifStmt.getThenBranch());
+            for (Pair<Expr, BlockStmt> elseIf : ifStmt.getElseIfBranches()) {
+                resolveExpr(elseIf.first());
+                resolveBlock(elseIf.second());
+            }
+            if (ifStmt.getElseBranch() != null) {
+                resolveBlock(ifStmt.getElseBranch());
+            }
+        } else if (stmt instanceof WhileStmt) {
+            WhileStmt whileStmt = (WhileStmt) stmt;
+            resolveExpr(whileStmt.getCondition());
+            resolveBlock(whileStmt.getBody());
+        } else if (stmt instanceof ForStmt) {
+            ForStmt forStmt = (ForStmt) stmt;
+            resolveExpr(forStmt.getInit());
+            resolveExpr(forStmt.getCond());
+            resolveExpr(forStmt.getPost());
+            resolveBlock(forStmt.getBody());
+        } else if (stmt instanceof ReturnStmt) {
+            resolveExpr(((ReturnStmt) stmt).getExpr());
+        }
+    }
+
+    private void resolveFunction(FuncDeclStmt node) {
+        // 재귀 호출이 가능하도록 함수 이름을 먼저 선언한다.
+        node.setSlot(declare(node.getPrototype().getName(), node.line, node.col));
+
+        current = new FunctionScope(current);
+        current.blocks.push(new HashMap<>());
+        for (Param param : node.getPrototype().getParams()) {
+            declare(param.getName(), param.line, param.col);
+        }
+        resolveBlock(node.getBody());
+        node.setFrameSize(current.slotCount);
+        current = current.enclosing;
+    }
+
+    private void resolveExpr(Expr expr) {
+        if (expr == null) {
+            return;
+        }
+        if (expr instanceof IdentifierExpr) {
+            resolveName((IdentifierExpr) expr);
+        } else if (expr instanceof AssignExpr) {
+            AssignExpr assign = (AssignExpr) expr;
+            resolveExpr(assign.getRhs());
+            resolveExpr(assign.getLhs());
+            if (assign.getLhs() instanceof IdentifierExpr) {
+                IdentifierExpr target = (IdentifierExpr) assign.getLhs();
+                assign.resolve(target.getDepth(), target.getSlot());
+            }
+        } else if (expr instanceof BinaryExpr) {
+            resolveExpr(((BinaryExpr) expr).getLhs());
+            resolveExpr(((BinaryExpr) expr).getRhs());
+        } else if (expr instanceof UnaryExpr) {
+            resolveExpr(((UnaryExpr) expr).getOperand());
+        } else if (expr instanceof IntToFloatExpr) {
+            resolveExpr(((IntToFloatExpr) expr).getOperand());
+        } else if (expr instanceof FunctionCallExpr) {
+            FunctionCallExpr call = (FunctionCallExpr) expr;
+            resolveExpr(call.getCallee());
+            for (Expr arg : call.getArgs()) {
+                resolveExpr(arg);
+            }
+        } else if (expr instanceof Array2DAccessExpr) {
+            Array2DAccessExpr access = (Array2DAccessExpr) expr;
+            resolveExpr(access.getBase());
+            resolveExpr(access.getIndex1());
+            resolveExpr(access.getIndex2());
+        } else if (expr instanceof Array1DAccessExpr) {
+            resolveExpr(((Array1DAccessExpr) expr).getBase());
+            resolveExpr(((Array1DAccessExpr) expr).getIndex());
+        } else if (expr instanceof ArrayLiteralExpr) {
+            for (Expr element : ((ArrayLiteralExpr) expr).getElements()) {
+                resolveExpr(element);
+            }
+        }
+    }
+}
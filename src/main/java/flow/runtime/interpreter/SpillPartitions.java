@@ -0,0 +1,91 @@
+package flow.runtime.interpreter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 메모리 한도를 넘는 해시 연산을 위해 (키, 행 번호) 쌍을 키의 해시에 따라 임시 파일 여러 개에 나누어 쓴다.
+// 같은 키는 언제나 같은 파티션에 들어가므로 파티션을 하나씩 읽어 따로 처리할 수 있다.
+// 파티션 안의 쌍은 넣은 순서대로 읽힌다.
+final class SpillPartitions implements Closeable {
+
+    interface Consumer {
+        void accept(String key, int row) throws IOException;
+    }
+
+    private final Path[] files;
+    private final DataOutputStream[] outputs;
+    private final int[] counts;
+
+    SpillPartitions(int partitionCount) throws IOException {
+        files = new Path[partitionCount];
+        outputs = new DataOutputStream[partitionCount];
+        counts = new int[partitionCount];
+        try {
+            for (int i = 0; i < partitionCount; i++) {
+                files[i] = Files.createTempFile("flow-spill", ".part");
+                outputs[i] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(files[i]), 1 << 16));
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    int partitionCount() {
+        return files.length;
+    }
+
+    // 해시 표 안의 자리와 겹치지 않도록 섞은 해시의 위쪽 비트로 파티션을 고른다.
+    int partitionOf(String key) {
+        return (int) (((ColumnIndex.mix(key.hashCode()) >>> 8) & 0xFFFFFFL) % files.length);
+    }
+
+    void add(String key, int row) throws IOException {
+        int partition = partitionOf(key);
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        DataOutputStream out = outputs[partition];
+        out.writeInt(row);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        counts[partition]++;
+    }
+
+    void forEach(int partition, Consumer consumer) throws IOException {
+        outputs[partition].flush();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(files[partition]), 1 << 16))) {
+            for (int i = 0; i < counts[partition]; i++) {
+                int row = in.readInt();
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                consumer.accept(new String(bytes, StandardCharsets.UTF_8), row);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (int i = 0; i < files.length; i++) {
+            try {
+                if (outputs[i] != null) {
+                    outputs[i].close();
+                }
+                if (files[i] != null) {
+                    Files.deleteIfExists(files[i]);
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package flow.runtime.interpreter;
+
+import flow.csv.ColumnStats;
+import flow.runtime.errors.RuntimeError;
+import flow.runtime.types.ArrayValue;
+import flow.runtime.types.TableValue;
+import flow.runtime.types.Value;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// sort_by. 키 열을 한 번만 읽어 행마다 순위(int)를 매기고, (순위 << 32 | 행 번호)를 long 배열로 parallelSort한다.
+// 같은 키는 행 번호 순으로 남으므로 안정 정렬이고, 정렬 중에는 문자열을 비교하지 않는다.
+// 순위는 "int"는 long, "float"는 double, "string"은 한국어 Collator의 CollationKey로 서로 다른 키만 정렬해 매긴다.
+// 빈 칸("NULL")은 오름차순, 내림차순 모두 맨 뒤에 온다.
+final class TableSort {
+
+    private TableSort() {
+    }
+
+    static ArrayValue sortBy(ArrayValue arr, int column, String type, boolean ascending, int line, int col) {
+        if (arr.getDimension() < 2) {
+            throw new RuntimeError("sort_by 함수는 2차원 배열에만 적용 가능합니다.", line, col);
+        }
+        int rowCount = arr.getLength();
+        if (column < 0 || (rowCount > 0 && column >= arr.getRowLength(0))) {
+            throw new RuntimeError("열 인덱스가 범위를 벗어났습니다: " + column, line, col);
+        }
+        int[] ranks;
+        switch (type) {
+            case "int":
+                ranks = numberRanks(arr, column, false, line, col);
+                break;
+            case "float":
+                ranks = numberRanks(arr, column, true, line, col);
+                break;
+            case "string":
+                ranks = stringRanks(arr, column);
+                break;
+            default:
+                throw new RuntimeError("sort_by의 정렬 타입은 \"int\", \"float\", \"string\" 중 하나여야 합니다: " + type, line, col);
+        }
+        if (rowCount == 0) {
+            return new ArrayValue(new ArrayList<Value>(), line, col);
+        }
+
+        int distinct = 0;
+        for (int rank : ranks) {
+            distinct = Math.max(distinct, rank + 1);
+        }
+        long[] keys = new long[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            int rank = ranks[row];
+            if (rank < 0) {
+                rank = distinct; // 빈 칸
+            } else if (!ascending) {
+                rank = distinct - 1 - rank;
+            }
+            keys[row] = ((long) rank << 32) | row;
+        }
+        Arrays.parallelSort(keys);
+
+        int[] order = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            order[i] = (int) keys[i];
+        }
+        if (arr instanceof TableValue) {
+            return ((TableValue) arr).reorder(order);
+        }
+        // 행 배열은 그대로 두고 순서만 바꾼다.
+        List<Value> rows = new ArrayList<>(rowCount);
+        for (int row : order) {
+            rows.add(arr.getElement(row));
+        }
+        return ArrayValue.ofChecked(rows, line, col);
+    }
+
+    // 숫자 키를 정렬 가능한 long으로 바꾸고, 서로 다른 값의 정렬된 배열에서 찾은 위치를 순위로 쓴다. 빈 칸은 -1
+    private static int[] numberRanks(ArrayValue arr, int column, boolean floating, int line, int col) {
+        int rowCount = arr.getLength();
+        int[] ranks = new int[rowCount];
+        long[] values = new long[rowCount];
+        int valueCount = 0;
+        boolean intColumn = arr instanceof TableValue && ((TableValue) arr).isIntColumn(column);
+        // 표를 만들 때 정한 열 타입이 있으면 값이 숫자 꼴인지 다시 훑지 않는다.
+        String columnType = arr instanceof TableValue ? ((TableValue) arr).getColumnType(column) : "string";
+        boolean knownInt = columnType.equals("int");
+        boolean knownNumber = knownInt || columnType.equals("float");
+        for (int row = 0; row < rowCount; row++) {
+            long key;
+            if (intColumn) {
+                int value = ((TableValue) arr).getInt(row, column);
+                key = floating ? sortableBits(value) : value;
+            } else {
+                String value = ColumnIndex.keyOf(arr, row, column);
+                if (value == null || value.isEmpty()) {
+                    ranks[row] = -1;
+                    continue;
+                }
+                if (floating && (knownNumber || ColumnStats.numberKind(value) != ColumnStats.NOT_NUMBER)) {
+                    key = sortableBits(Double.parseDouble(value));
+                } else if (!floating && (knownInt || ColumnStats.numberKind(value) == ColumnStats.SHORT_INTEGER)) {
+                    key = Long.parseLong(value);
+                } else {
+                    throw new RuntimeError((floating ? "숫자" : "정수") + "가 아닌 값이 있습니다 (행 " + row + "): " + value, line, col);
+                }
+            }
+            values[valueCount++] = key;
+            ranks[row] = 0;
+        }
+
+        long[] sorted = Arrays.copyOf(values, valueCount);
+        Arrays.parallelSort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        for (int row = 0, i = 0; row < rowCount; row++) {
+            if (ranks[row] == 0) {
+                ranks[row] = Arrays.binarySearch(sorted, 0, distinct, values[i++]);
+            }
+        }
+        return ranks;
+    }
+
+    // double의 크기 순서와 같은 순서를 갖는 long. -0.0은 0.0과 같게 본다.
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value + 0.0);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    // CollationKey는 서로 다른 문자열마다 한 번만 만든다. 빈 칸은 -1
+    private static int[] stringRanks(ArrayValue arr, int column) {
+        int rowCount = arr.getLength();
+        int[] ranks = new int[rowCount];
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> distinct = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            String value = ColumnIndex.keyOf(arr, row, column);
+            if (value == null) {
+                ranks[row] = -1;
+                continue;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = distinct.size();
+                ids.put(value, id);
+                distinct.add(value);
+            }
+            ranks[row] = id;
+        }
+
+        Collator collator = Collator.getInstance(Locale.KOREAN);
+        CollationKey[] keys = new CollationKey[distinct.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = collator.getCollationKey(distinct.get(i));
+        }
+        Arrays.parallelSort(keys);
+        // Collator가 같다고 보는 문자열은 같은 순위를 받는다.
+        int[] rankOfId = new int[keys.length];
+        for (int i = 0, rank = -1; i < keys.length; i++) {
+            if (i == 0 || keys[i].compareTo(keys[i - 1]) != 0) {
+                rank++;
+            }
+            rankOfId[ids.get(keys[i].getSourceString())] = rank;
+        }
+        for (int row = 0; row < rowCount; row++) {
+            if (ranks[row] >= 0) {
+                ranks[row] = rankOfId[ranks[row]];
+            }
+        }
+        return ranks;
+    }
+}
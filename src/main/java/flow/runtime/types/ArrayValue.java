@@ -1,5 +1,7 @@
 package flow.runtime.types;
 
+import flow.ast.BinaryOperator;
+import flow.ast.UnaryOperator;
 import flow.runtime.errors.RuntimeError;
 import flow.ast.Type;
 import java.util.ArrayList;
@@ -14,6 +16,23 @@ public class ArrayValue extends Value {
     private final int dimension; 
 
     public ArrayValue(List<Value> elements, int line, int col) {
+        this(elements, line, col, true);
+    }
+
+    // 요소 타입과 차원이 이미 일관된 것으로 검사된 배열을 만든다 (TypeChecker를 통과한 배열 리터럴, 내장 함수가 만든 배열).
+    public static ArrayValue ofChecked(List<Value> elements, int line, int col) {
+        return new ArrayValue(elements, line, col, false);
+    }
+
+    // 요소를 List로 들고 있지 않은 하위 타입(TableValue)이 쓴다. 하위 타입은 요소 접근 메서드를 모두 재정의해야 한다.
+    protected ArrayValue(Type elementType, int dimension) {
+        super(null);
+        this.elements = null;
+        this.elementType = elementType;
+        this.dimension = dimension;
+    }
+
+    private ArrayValue(List<Value> elements, int line, int col, boolean validate) {
         super(elements);
         this.elements = new ArrayList<>(elements);
 
@@ -36,7 +55,7 @@ public class ArrayValue extends Value {
             }
 
             
-            for (int i = 1; i < elements.size(); i++) {
+            for (int i = 1; validate && i < elements.size(); i++) {
                 Value currentElement = elements.get(i);
 
                 
@@ -82,23 +101,40 @@ public class ArrayValue extends Value {
 
     @Override
     public List<Value> getValue() {
-        return elements;
+        return getElements();
     }
 
     public List<Value> getElements() {
         return elements;
     }
 
+    public int getLength() {
+        return elements.size();
+    }
+
+    public Value getElement(int index) {
+        return elements.get(index);
+    }
+
+    // 2차원 배열의 index번째 행 길이. 행을 꺼내지 않고 셀에 접근하는 getElement(row, column)과 함께 쓴다.
+    public int getRowLength(int row) {
+        return ((ArrayValue) elements.get(row)).getLength();
+    }
+
+    public Value getElement(int row, int column) {
+        return ((ArrayValue) elements.get(row)).getElement(column);
+    }
+
     @Override
     public String toString() {
-        return elements.stream()
+        return getElements().stream()
                 .map(Value::toString)
                 .collect(Collectors.joining(", ", "{", "}"));
     }
 
     @Override
     public boolean isTruth() {
-        return !elements.isEmpty();
+        return getLength() > 0;
     }
 
     @Override
@@ -125,23 +161,23 @@ public class ArrayValue extends Value {
     }
 
     @Override
-    public Value performBinaryOperation(Value other, String operator, int line, int col) {
+    public Value performBinaryOperation(Value other, BinaryOperator operator, int line, int col) {
         throw new RuntimeError("배열은 '" + operator + "' 연산을 지원하지 않습니다.", line, col);
     }
 
     @Override
-    public Value performUnaryOperation(String operator, int line, int col) {
+    public Value performUnaryOperation(UnaryOperator operator, int line, int col) {
         throw new RuntimeError("배열은 단항 연산자 '" + operator + "'를 지원하지 않습니다.", line, col);
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (!(o instanceof ArrayValue)) return false;
         ArrayValue that = (ArrayValue) o;
-        if (this.elements.size() != that.elements.size()) return false;
-        for (int i = 0; i < this.elements.size(); i++) {
-            if (!Objects.equals(this.elements.get(i), that.elements.get(i))) {
+        if (this.getLength() != that.getLength()) return false;
+        for (int i = 0; i < this.getLength(); i++) {
+            if (!Objects.equals(this.getElement(i), that.getElement(i))) {
                 return false;
             }
         }
@@ -150,6 +186,6 @@ public class ArrayValue extends Value {
 
     @Override
     public int hashCode() {
-        return Objects.hash(elements);
+        return Objects.hash(getElements());
     }
 }
\ No newline at end of file
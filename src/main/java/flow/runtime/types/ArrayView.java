@@ -0,0 +1,108 @@
+package flow.runtime.types;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 2차원 배열의 일부를 복사하지 않고 보여 주는 string[][] 값 (slice_rows/select_columns/filter_rows).
+// 행 구간, 골라낸 행 번호, 열 목록만 들고 셀은 부모 배열에서 읽는다.
+// 뷰의 뷰는 원래 배열을 부모로 하는 뷰 하나로 합쳐 접근이 여러 단계를 거치지 않게 한다.
+public final class ArrayView extends ArrayValue {
+
+    private final ArrayValue parent; // 뷰가 아닌 배열
+    private final int rowStart;
+    private final int rowCount;
+    private final int[] rows; // null이면 부모의 rowStart번째 행부터 연속, 아니면 rows[rowStart]부터
+    private final int[] columns; // null이면 부모의 열 전체
+    private List<Value> materialized; // getElements()가 처음 불릴 때 만든다.
+
+    private ArrayView(ArrayValue parent, int rowStart, int rowCount, int[] rows, int[] columns) {
+        super(parent.getElementType(), parent.getDimension());
+        this.parent = parent;
+        this.rowStart = rowStart;
+        this.rowCount = rowCount;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    // from번째부터 to번째 앞까지의 행
+    public static ArrayView slice(ArrayValue array, int from, int to) {
+        if (array instanceof ArrayView) {
+            ArrayView view = (ArrayView) array;
+            return new ArrayView(view.parent, view.rowStart + from, to - from, view.rows, view.columns);
+        }
+        return new ArrayView(array, from, to - from, null, null);
+    }
+
+    // selected에 적힌 행을 그 순서대로
+    public static ArrayView select(ArrayValue array, int[] selected) {
+        if (array instanceof ArrayView) {
+            ArrayView view = (ArrayView) array;
+            int[] parentRows = new int[selected.length];
+            for (int i = 0; i < selected.length; i++) {
+                parentRows[i] = view.parentRow(selected[i]);
+            }
+            return new ArrayView(view.parent, 0, parentRows.length, parentRows, view.columns);
+        }
+        return new ArrayView(array, 0, selected.length, selected, null);
+    }
+
+    // columns에 적힌 열을 그 순서대로
+    public static ArrayView project(ArrayValue array, int[] columns) {
+        if (array instanceof ArrayView) {
+            ArrayView view = (ArrayView) array;
+            int[] parentColumns = columns;
+            if (view.columns != null) {
+                parentColumns = new int[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    parentColumns[i] = view.columns[columns[i]];
+                }
+            }
+            return new ArrayView(view.parent, view.rowStart, view.rowCount, view.rows, parentColumns);
+        }
+        return new ArrayView(array, 0, array.getLength(), null, columns);
+    }
+
+    private int parentRow(int row) {
+        return rows == null ? rowStart + row : rows[rowStart + row];
+    }
+
+    @Override
+    public int getLength() {
+        return rowCount;
+    }
+
+    @Override
+    public Value getElement(int index) {
+        if (columns == null) {
+            return parent.getElement(parentRow(index));
+        }
+        List<Value> cells = new ArrayList<>(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            cells.add(getElement(index, i));
+        }
+        return ArrayValue.ofChecked(cells, 0, 0);
+    }
+
+    @Override
+    public int getRowLength(int row) {
+        return columns != null ? columns.length : parent.getRowLength(parentRow(row));
+    }
+
+    @Override
+    public Value getElement(int row, int column) {
+        return parent.getElement(parentRow(row), columns != null ? columns[column] : column);
+    }
+
+    // 배열 전체를 List로 다루는 경로(출력, 비교)를 위한 것으로, 이때만 행 목록을 만든다.
+    @Override
+    public List<Value> getElements() {
+        if (materialized == null) {
+            List<Value> elements = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                elements.add(getElement(i));
+            }
+            materialized = elements;
+        }
+        return materialized;
+    }
+}
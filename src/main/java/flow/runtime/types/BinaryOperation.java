@@ -0,0 +1,87 @@
+package flow.runtime.types;
+
+import flow.ast.BinaryOperator;
+import flow.runtime.errors.RuntimeError;
+
+// 피연산자 타입 쌍과 연산자가 정해진 이항 연산. BinaryExpr가 처음 본 타입 쌍에 대해 한 번 골라 두고 재사용한다.
+public interface BinaryOperation {
+
+    Value apply(Value lhs, Value rhs, int line, int col);
+
+    static BinaryOperation select(BinaryOperator op, Value lhs, Value rhs) {
+        BinaryOperation specialized = null;
+        if (lhs instanceof IntValue && rhs instanceof IntValue) {
+            specialized = intOperation(op);
+        } else if ((lhs instanceof IntValue || lhs instanceof FloatValue) && (rhs instanceof IntValue || rhs instanceof FloatValue)) {
+            specialized = floatOperation(op);
+        } else if (lhs instanceof BoolValue && rhs instanceof BoolValue) {
+            specialized = boolOperation(op);
+        }
+        if (specialized != null) {
+            return specialized;
+        }
+        // 그 밖의 조합(문자열, 타입 오류 등)은 값 타입의 일반 구현에 맡긴다.
+        return (l, r, line, col) -> l.performBinaryOperation(r, op, line, col);
+    }
+
+    private static BinaryOperation intOperation(BinaryOperator op) {
+        switch (op) {
+            case ADD: return (l, r, line, col) -> IntValue.of(((IntValue) l).intValue() + ((IntValue) r).intValue());
+            case SUB: return (l, r, line, col) -> IntValue.of(((IntValue) l).intValue() - ((IntValue) r).intValue());
+            case MUL: return (l, r, line, col) -> IntValue.of(((IntValue) l).intValue() * ((IntValue) r).intValue());
+            case DIV: return (l, r, line, col) -> {
+                int divisor = ((IntValue) r).intValue();
+                if (divisor == 0) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
+                return IntValue.of(((IntValue) l).intValue() / divisor);
+            };
+            case MOD: return (l, r, line, col) -> {
+                int divisor = ((IntValue) r).intValue();
+                if (divisor == 0) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
+                return IntValue.of(((IntValue) l).intValue() % divisor);
+            };
+            case EQ: return (l, r, line, col) -> BoolValue.of(((IntValue) l).intValue() == ((IntValue) r).intValue());
+            case NE: return (l, r, line, col) -> BoolValue.of(((IntValue) l).intValue() != ((IntValue) r).intValue());
+            case LT: return (l, r, line, col) -> BoolValue.of(((IntValue) l).intValue() < ((IntValue) r).intValue());
+            case GT: return (l, r, line, col) -> BoolValue.of(((IntValue) l).intValue() > ((IntValue) r).intValue());
+            case LE: return (l, r, line, col) -> BoolValue.of(((IntValue) l).intValue() <= ((IntValue) r).intValue());
+            case GE: return (l, r, line, col) -> BoolValue.of(((IntValue) l).intValue() >= ((IntValue) r).intValue());
+            default: return null;
+        }
+    }
+
+    // int와 float가 섞이면 float로 계산한다.
+    private static BinaryOperation floatOperation(BinaryOperator op) {
+        switch (op) {
+            case ADD: return (l, r, line, col) -> new FloatValue(l.asFloat(line, col) + r.asFloat(line, col));
+            case SUB: return (l, r, line, col) -> new FloatValue(l.asFloat(line, col) - r.asFloat(line, col));
+            case MUL: return (l, r, line, col) -> new FloatValue(l.asFloat(line, col) * r.asFloat(line, col));
+            case DIV: return (l, r, line, col) -> {
+                float divisor = r.asFloat(line, col);
+                if (divisor == 0.0f) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
+                return new FloatValue(l.asFloat(line, col) / divisor);
+            };
+            case MOD: return (l, r, line, col) -> {
+                float divisor = r.asFloat(line, col);
+                if (divisor == 0.0f) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
+                return new FloatValue(l.asFloat(line, col) % divisor);
+            };
+            case EQ: return (l, r, line, col) -> BoolValue.of(l.asFloat(line, col) == r.asFloat(line, col));
+            case NE: return (l, r, line, col) -> BoolValue.of(l.asFloat(line, col) != r.asFloat(line, col));
+            case LT: return (l, r, line, col) -> BoolValue.of(l.asFloat(line, col) < r.asFloat(line, col));
+            case GT: return (l, r, line, col) -> BoolValue.of(l.asFloat(line, col) > r.asFloat(line, col));
+            case LE: return (l, r, line, col) -> BoolValue.of(l.asFloat(line, col) <= r.asFloat(line, col));
+            case GE: return (l, r, line, col) -> BoolValue.of(l.asFloat(line, col) >= r.asFloat(line, col));
+            default: return null;
+        }
+    }
+
+    private static BinaryOperation boolOperation(BinaryOperator op) {
+        switch (op) {
+            case EQ: return (l, r, line, col) -> BoolValue.of(((BoolValue) l).boolValue() == ((BoolValue) r).boolValue());
+            case NE: return (l, r, line, col) -> BoolValue.of(((BoolValue) l).boolValue() != ((BoolValue) r).boolValue());
+            case AND: return (l, r, line, col) -> BoolValue.of(((BoolValue) l).boolValue() && ((BoolValue) r).boolValue());
+            case OR: return (l, r, line, col) -> BoolValue.of(((BoolValue) l).boolValue() || ((BoolValue) r).boolValue());
+            default: return null;
+        }
+    }
+}
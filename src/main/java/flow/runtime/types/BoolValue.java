@@ -1,15 +1,23 @@
 package flow.runtime.types;
 
+import flow.ast.BinaryOperator;
+import flow.ast.UnaryOperator;
 import flow.runtime.errors.RuntimeError;
-import java.util.Objects;
 
-public class BoolValue extends Value {
+public final class BoolValue extends Value {
 
-    public BoolValue(Boolean value) { super(value); }
+    public static final BoolValue TRUE = new BoolValue(true);
+    public static final BoolValue FALSE = new BoolValue(false);
+
+    private final boolean boolValue;
+
+    public BoolValue(boolean value) { super(null); this.boolValue = value; }
+    public static BoolValue of(boolean value) { return value ? TRUE : FALSE; }
     @Override public String getType() { return "bool"; }
-    @Override public Boolean getValue() { return (Boolean) value; }
-    @Override public String toString() { return String.valueOf(value); }
-    @Override public boolean isTruth() { return getValue(); }
+    @Override public Boolean getValue() { return boolValue; }
+    public boolean boolValue() { return boolValue; }
+    @Override public String toString() { return Boolean.toString(boolValue); }
+    @Override public boolean isTruth() { return boolValue; }
     @Override public boolean isBool() { return true; }
     @Override public int getDimension() { return 0; }
     @Override public int asInt(int line, int col) { throw new RuntimeError("타입 캐스팅 오류: bool 타입을 int로 캐스팅할 수 없습니다.", line, col); }
@@ -17,24 +25,25 @@ public class BoolValue extends Value {
     @Override public boolean asBoolean(int line, int col) { return isTruth(); }
     @Override public String asString(int line, int col) { return toString(); }
 
-    @Override public Value performBinaryOperation(Value other, String operator, int line, int col) {
+    @Override public Value performBinaryOperation(Value other, BinaryOperator operator, int line, int col) {
         if (other.isBool()) {
+            boolean otherVal = ((BoolValue) other).boolValue;
             switch (operator) {
-                case "==": return new BoolValue(Objects.equals(getValue(), other.getValue()));
-                case "!=": return new BoolValue(!Objects.equals(getValue(), other.getValue()));
-                case "&&": return new BoolValue(getValue() && other.asBoolean(line, col));
-                case "||": return new BoolValue(getValue() || other.asBoolean(line, col));
-                case "+": case "-": case "*": case "/": case "%": case "<": case ">": case "<=": case ">=":
+                case EQ: return of(boolValue == otherVal);
+                case NE: return of(boolValue != otherVal);
+                case AND: return of(boolValue && otherVal);
+                case OR: return of(boolValue || otherVal);
+                case ADD: case SUB: case MUL: case DIV: case MOD: case LT: case GT: case LE: case GE:
                     throw new RuntimeError("타입 불일치 오류: bool 타입은 산술 또는 대소 비교 연산을 할 수 없습니다.", line, col);
             }
         } throw new RuntimeError("타입 불일치 오류: bool와 " + other.getType() + "는 '" + operator + "' 연산을 할 수 없습니다.", line, col);
     }
-    @Override public Value performUnaryOperation(String operator, int line, int col) {
+    @Override public Value performUnaryOperation(UnaryOperator operator, int line, int col) {
         switch (operator) {
-            case "!": return new BoolValue(!getValue());
-            case "-": case "+": throw new RuntimeError("타입 불일치 오류: bool 타입에 산술 연산을 할 수 없습니다.", line, col);
+            case NOT: return of(!boolValue);
+            case NEG: case PLUS: throw new RuntimeError("타입 불일치 오류: bool 타입에 산술 연산을 할 수 없습니다.", line, col);
         } throw new RuntimeError("알 수 없는 단항 연산자 '" + operator + "' 입니다.", line, col);
     }
-    @Override public boolean equals(Object o) { if (this == o) return true; if (o == null || getClass() != o.getClass()) return false; BoolValue boolValue = (BoolValue) o; return Objects.equals(value, boolValue.value); }
-    @Override public int hashCode() { return Objects.hash(value); }
-}
\ No newline at end of file
+    @Override public boolean equals(Object o) { if (this == o) return true; if (o == null || getClass() != o.getClass()) return false; BoolValue boolValue = (BoolValue) o; return this.boolValue == boolValue.boolValue; }
+    @Override public int hashCode() { return Boolean.hashCode(boolValue); }
+}
@@ -1,53 +1,57 @@
 package flow.runtime.types;
 
+import flow.ast.BinaryOperator;
+import flow.ast.UnaryOperator;
 import flow.runtime.errors.RuntimeError;
-import java.util.Objects;
 
-public class FloatValue extends Value {
+public final class FloatValue extends Value {
 
-    public FloatValue(Float value) { super(value); }
+    private final float floatValue;
+
+    public FloatValue(float value) { super(null); this.floatValue = value; }
     @Override public String getType() { return "float"; }
-    @Override public Float getValue() { return (Float) value; }
-    @Override public String toString() { return String.valueOf(value); }
-    @Override public boolean isTruth() { return getValue() != 0.0f; }
+    @Override public Float getValue() { return floatValue; }
+    public float floatValue() { return floatValue; }
+    @Override public String toString() { return Float.toString(floatValue); }
+    @Override public boolean isTruth() { return floatValue != 0.0f; }
     @Override public boolean isFloat() { return true; }
     @Override public int getDimension() { return 0; }
-    @Override public int asInt(int line, int col) { return getValue().intValue(); }
-    @Override public float asFloat(int line, int col) { return getValue(); }
+    @Override public int asInt(int line, int col) { return (int) floatValue; }
+    @Override public float asFloat(int line, int col) { return floatValue; }
     @Override public boolean asBoolean(int line, int col) { return isTruth(); }
     @Override public String asString(int line, int col) { return toString(); }
 
-    @Override public Value performBinaryOperation(Value other, String operator, int line, int col) {
+    @Override public Value performBinaryOperation(Value other, BinaryOperator operator, int line, int col) {
         if (other.isInt() || other.isFloat()) {
-            float thisVal = getValue();
+            float thisVal = floatValue;
             float otherVal = other.asFloat(line, col);
             switch (operator) {
-                case "+": return new FloatValue(thisVal + otherVal);
-                case "-": return new FloatValue(thisVal - otherVal);
-                case "*": return new FloatValue(thisVal * otherVal);
-                case "/":
+                case ADD: return new FloatValue(thisVal + otherVal);
+                case SUB: return new FloatValue(thisVal - otherVal);
+                case MUL: return new FloatValue(thisVal * otherVal);
+                case DIV:
                     if (otherVal == 0.0f) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
                     return new FloatValue(thisVal / otherVal);
-                case "%":
+                case MOD:
                     if (otherVal == 0.0f) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
                     return new FloatValue(thisVal % otherVal);
-                case "==": return new BoolValue(thisVal == otherVal);
-                case "!=": return new BoolValue(thisVal != otherVal);
-                case "<": return new BoolValue(thisVal < otherVal);
-                case ">": return new BoolValue(thisVal > otherVal);
-                case "<=": return new BoolValue(thisVal <= otherVal);
-                case ">=": return new BoolValue(thisVal >= otherVal);
-                case "&&": case "||": throw new RuntimeError("타입 불일치 오류: float 타입은 논리 연산을 할 수 없습니다.", line, col);
+                case EQ: return BoolValue.of(thisVal == otherVal);
+                case NE: return BoolValue.of(thisVal != otherVal);
+                case LT: return BoolValue.of(thisVal < otherVal);
+                case GT: return BoolValue.of(thisVal > otherVal);
+                case LE: return BoolValue.of(thisVal <= otherVal);
+                case GE: return BoolValue.of(thisVal >= otherVal);
+                case AND: case OR: throw new RuntimeError("타입 불일치 오류: float 타입은 논리 연산을 할 수 없습니다.", line, col);
             }
         } throw new RuntimeError("타입 불일치 오류: float와 " + other.getType() + "는 '" + operator + "' 연산을 할 수 없습니다.", line, col);
     }
-    @Override public Value performUnaryOperation(String operator, int line, int col) {
+    @Override public Value performUnaryOperation(UnaryOperator operator, int line, int col) {
         switch (operator) {
-            case "-": return new FloatValue(-getValue());
-            case "+": return this;
-            case "!": throw new RuntimeError("타입 불일치 오류: float 타입에 논리 NOT 연산을 할 수 없습니다.", line, col);
+            case NEG: return new FloatValue(-floatValue);
+            case PLUS: return this;
+            case NOT: throw new RuntimeError("타입 불일치 오류: float 타입에 논리 NOT 연산을 할 수 없습니다.", line, col);
         } throw new RuntimeError("알 수 없는 단항 연산자 '" + operator + "' 입니다.", line, col);
     }
-    @Override public boolean equals(Object o) { if (this == o) return true; if (o == null || getClass() != o.getClass()) return false; FloatValue floatValue = (FloatValue) o; return Float.compare(getValue(), floatValue.getValue()) == 0; }
-    @Override public int hashCode() { return Objects.hash(value); }
-}
\ No newline at end of file
+    @Override public boolean equals(Object o) { if (this == o) return true; if (o == null || getClass() != o.getClass()) return false; FloatValue floatValue = (FloatValue) o; return Float.compare(this.floatValue, floatValue.floatValue) == 0; }
+    @Override public int hashCode() { return Float.hashCode(floatValue); }
+}
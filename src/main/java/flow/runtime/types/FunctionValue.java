@@ -1,5 +1,7 @@
 package flow.runtime.types;
 
+import flow.ast.BinaryOperator;
+import flow.ast.UnaryOperator;
 import flow.runtime.errors.RuntimeError;
 import flow.runtime.interpreter.FunctionObject;
 import java.util.Objects;
@@ -18,8 +20,8 @@ public class FunctionValue extends Value {
     @Override public boolean isTruth() { return true; }
     @Override public boolean isFunction() { return true; }
     @Override public int getDimension() { return 0; }
-    @Override public Value performBinaryOperation(Value other, String operator, int line, int col) { throw new RuntimeError("함수 타입은 연산을 할 수 없습니다.", line, col); }
-    @Override public Value performUnaryOperation(String operator, int line, int col) { throw new RuntimeError("함수 타입은 단항 연산을 할 수 없습니다.", line, col); }
+    @Override public Value performBinaryOperation(Value other, BinaryOperator operator, int line, int col) { throw new RuntimeError("함수 타입은 연산을 할 수 없습니다.", line, col); }
+    @Override public Value performUnaryOperation(UnaryOperator operator, int line, int col) { throw new RuntimeError("함수 타입은 단항 연산을 할 수 없습니다.", line, col); }
     @Override public int asInt(int line, int col) { throw new RuntimeError("타입 캐스팅 오류: 함수 타입을 int로 캐스팅할 수 없습니다.", line, col); }
     @Override public float asFloat(int line, int col) { throw new RuntimeError("타입 캐스팅 오류: 함수 타입을 float로 캐스팅할 수 없습니다.", line, col); }
     @Override public boolean asBoolean(int line, int col) { return isTruth(); }
@@ -1,55 +1,92 @@
 package flow.runtime.types;
 
+import flow.ast.BinaryOperator;
+import flow.ast.UnaryOperator;
 import flow.runtime.errors.RuntimeError;
-import java.util.Objects;
 
-public class IntValue extends Value {
+public final class IntValue extends Value {
 
-    public IntValue(Integer value) { super(value); }
+    // 루프 카운터나 인덱스처럼 자주 쓰이는 작은 정수는 미리 만들어 둔 인스턴스를 재사용한다.
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+    private static final IntValue[] CACHE = new IntValue[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new IntValue(i + CACHE_LOW);
+        }
+    }
+
+    private final int intValue;
+
+    public IntValue(int value) { super(null); this.intValue = value; }
+    public static IntValue of(int value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) return CACHE[value - CACHE_LOW];
+        return new IntValue(value);
+    }
     @Override public String getType() { return "int"; }
-    @Override public Integer getValue() { return (Integer) value; }
-    @Override public String toString() { return String.valueOf(value); }
-    @Override public boolean isTruth() { return getValue() != 0; }
+    @Override public Integer getValue() { return intValue; }
+    public int intValue() { return intValue; }
+    @Override public String toString() { return Integer.toString(intValue); }
+    @Override public boolean isTruth() { return intValue != 0; }
     @Override public boolean isInt() { return true; }
     @Override public int getDimension() { return 0; }
-    @Override public int asInt(int line, int col) { return getValue(); }
-    @Override public float asFloat(int line, int col) { return (float) getValue(); }
+    @Override public int asInt(int line, int col) { return intValue; }
+    @Override public float asFloat(int line, int col) { return (float) intValue; }
     @Override public boolean asBoolean(int line, int col) { return isTruth(); }
     @Override public String asString(int line, int col) { return toString(); }
 
-    @Override public Value performBinaryOperation(Value other, String operator, int line, int col) {
-        if (other.isInt() || other.isFloat()) {
+    @Override public Value performBinaryOperation(Value other, BinaryOperator operator, int line, int col) {
+        if (other.isInt()) {
+            int otherVal = ((IntValue) other).intValue;
+            switch (operator) {
+                case ADD: return of(intValue + otherVal);
+                case SUB: return of(intValue - otherVal);
+                case MUL: return of(intValue * otherVal);
+                case DIV:
+                    if (otherVal == 0) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
+                    return of(intValue / otherVal);
+                case MOD:
+                    if (otherVal == 0) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
+                    return of(intValue % otherVal);
+                case EQ: return BoolValue.of(intValue == otherVal);
+                case NE: return BoolValue.of(intValue != otherVal);
+                case LT: return BoolValue.of(intValue < otherVal);
+                case GT: return BoolValue.of(intValue > otherVal);
+                case LE: return BoolValue.of(intValue <= otherVal);
+                case GE: return BoolValue.of(intValue >= otherVal);
+                case AND: case OR: throw new RuntimeError("타입 불일치 오류: int 타입은 논리 연산을 할 수 없습니다.", line, col);
+            }
+        } else if (other.isFloat()) {
+            float thisVal = intValue;
+            float otherVal = ((FloatValue) other).floatValue();
             switch (operator) {
-                case "+": if (other.isInt()) return new IntValue(getValue() + other.asInt(line, col)); return new FloatValue(getValue() + other.asFloat(line, col));
-                case "-": if (other.isInt()) return new IntValue(getValue() - other.asInt(line, col)); return new FloatValue(getValue() - other.asFloat(line, col));
-                case "*": if (other.isInt()) return new IntValue(getValue() * other.asInt(line, col)); return new FloatValue(getValue() * other.asFloat(line, col));
-                case "/":
-                    if (other.asInt(line, col) == 0) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
-                    if (other.isInt()) return new IntValue(getValue() / other.asInt(line, col));
-                    if (other.asFloat(line, col) == 0.0f) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
-                    return new FloatValue(getValue() / other.asFloat(line, col));
-                case "%":
-                    if (other.asInt(line, col) == 0) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
-                    if (other.isInt()) return new IntValue(getValue() % other.asInt(line, col));
-                    if (other.asFloat(line, col) == 0.0f) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
-                    return new FloatValue(getValue() % other.asFloat(line, col));
-                case "==": if (other.isInt()) return new BoolValue(Objects.equals(getValue(), other.getValue())); return new BoolValue(getValue() == other.asFloat(line, col));
-                case "!=": if (other.isInt()) return new BoolValue(!Objects.equals(getValue(), other.getValue())); return new BoolValue(getValue() != other.asFloat(line, col));
-                case "<": if (other.isInt()) return new BoolValue(getValue() < other.asInt(line, col)); return new BoolValue(getValue() < other.asFloat(line, col));
-                case ">": if (other.isInt()) return new BoolValue(getValue() > other.asInt(line, col)); return new BoolValue(getValue() > other.asFloat(line, col));
-                case "<=": if (other.isInt()) return new BoolValue(getValue() <= other.asInt(line, col)); return new BoolValue(getValue() <= other.asFloat(line, col));
-                case ">=": if (other.isInt()) return new BoolValue(getValue() >= other.asInt(line, col)); return new BoolValue(getValue() >= other.asFloat(line, col));
-                case "&&": case "||": throw new RuntimeError("타입 불일치 오류: int 타입은 논리 연산을 할 수 없습니다.", line, col);
+                case ADD: return new FloatValue(thisVal + otherVal);
+                case SUB: return new FloatValue(thisVal - otherVal);
+                case MUL: return new FloatValue(thisVal * otherVal);
+                case DIV:
+                    if (otherVal == 0.0f) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
+                    return new FloatValue(thisVal / otherVal);
+                case MOD:
+                    if (otherVal == 0.0f) throw new RuntimeError("0으로 나눌 수 없습니다.", line, col);
+                    return new FloatValue(thisVal % otherVal);
+                case EQ: return BoolValue.of(thisVal == otherVal);
+                case NE: return BoolValue.of(thisVal != otherVal);
+                case LT: return BoolValue.of(thisVal < otherVal);
+                case GT: return BoolValue.of(thisVal > otherVal);
+                case LE: return BoolValue.of(thisVal <= otherVal);
+                case GE: return BoolValue.of(thisVal >= otherVal);
+                case AND: case OR: throw new RuntimeError("타입 불일치 오류: int 타입은 논리 연산을 할 수 없습니다.", line, col);
             }
         } throw new RuntimeError("타입 불일치 오류: int와 " + other.getType() + "는 '" + operator + "' 연산을 할 수 없습니다.", line, col);
     }
-    @Override public Value performUnaryOperation(String operator, int line, int col) {
+    @Override public Value performUnaryOperation(UnaryOperator operator, int line, int col) {
         switch (operator) {
-            case "-": return new IntValue(-getValue());
-            case "+": return this;
-            case "!": throw new RuntimeError("타입 불일치 오류: int 타입에 논리 NOT 연산을 할 수 없습니다.", line, col);
+            case NEG: return of(-intValue);
+            case PLUS: return this;
+            case NOT: throw new RuntimeError("타입 불일치 오류: int 타입에 논리 NOT 연산을 할 수 없습니다.", line, col);
         } throw new RuntimeError("알 수 없는 단항 연산자 '" + operator + "' 입니다.", line, col);
     }
-    @Override public boolean equals(Object o) { if (this == o) return true; if (o == null || getClass() != o.getClass()) return false; IntValue intValue = (IntValue) o; return Objects.equals(value, intValue.value); }
-    @Override public int hashCode() { return Objects.hash(value); }
-}
\ No newline at end of file
+    @Override public boolean equals(Object o) { if (this == o) return true; if (o == null || getClass() != o.getClass()) return false; IntValue intValue = (IntValue) o; return this.intValue == intValue.intValue; }
+    @Override public int hashCode() { return Integer.hashCode(intValue); }
+}
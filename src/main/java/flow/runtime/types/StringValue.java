@@ -1,5 +1,7 @@
 package flow.runtime.types;
 
+import flow.ast.BinaryOperator;
+import flow.ast.UnaryOperator;
 import flow.runtime.errors.RuntimeError;
 import java.util.Objects;
 
@@ -17,14 +19,15 @@ public class StringValue extends Value {
     @Override public boolean asBoolean(int line, int col) { return isTruth(); }
     @Override public String asString(int line, int col) { return getValue(); } 
 
-    @Override public Value performBinaryOperation(Value other, String operator, int line, int col) {
+    @Override public Value performBinaryOperation(Value other, BinaryOperator operator, int line, int col) {
         switch (operator) {
-            case "+": return new StringValue(getValue() + other.asString(line, col)); 
-            case "==": if (other.isString()) return new BoolValue(Objects.equals(getValue(), other.getValue())); return new BoolValue(false);
-            case "!=": if (other.isString()) return new BoolValue(!Objects.equals(getValue(), other.getValue())); return new BoolValue(true);
+            case ADD: return new StringValue(getValue() + other.asString(line, col)); 
+            // csv_to_array의 사전 열은 같은 값의 셀이 같은 객체이므로 equals 전에 참조부터 비교한다.
+            case EQ: if (other == this) return BoolValue.TRUE; if (other.isString()) return BoolValue.of(Objects.equals(getValue(), other.getValue())); return BoolValue.FALSE;
+            case NE: if (other == this) return BoolValue.FALSE; if (other.isString()) return BoolValue.of(!Objects.equals(getValue(), other.getValue())); return BoolValue.TRUE;
         } throw new RuntimeError("타입 불일치 오류: string은 '" + operator + "' 연산을 할 수 없습니다.", line, col);
     }
-    @Override public Value performUnaryOperation(String operator, int line, int col) { throw new RuntimeError("타입 불일치 오류: string 타입에 단항 연산을 할 수 없습니다.", line, col); }
+    @Override public Value performUnaryOperation(UnaryOperator operator, int line, int col) { throw new RuntimeError("타입 불일치 오류: string 타입에 단항 연산을 할 수 없습니다.", line, col); }
     @Override public boolean equals(Object o) { if (this == o) return true; if (o == null || getClass() != o.getClass()) return false; StringValue that = (StringValue) o; return Objects.equals(value, that.value); }
     @Override public int hashCode() { return Objects.hash(value); }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package flow.runtime.types;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// csv_to_array 결과를 캐시 디렉터리에 TableValue의 이진 열 형식으로 저장한다.
+// 파일 머리에 원본 CSV의 절대 경로, 크기, 수정 시각을 적어 두고, 셋이 모두 같을 때만 메모리 매핑해 읽는다.
+// 캐시는 없어도 결과가 같으므로 읽기/쓰기 오류는 모두 캐시가 없는 것으로 처리한다.
+public class TableCache {
+
+    private static final int MAGIC = 0x464C5754; // "FLWT"
+    private static final int VERSION = 2; // 2: 열 머리에 타입과 빈 칸 개수를 적는다.
+
+    private final Path directory;
+
+    public TableCache(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    // 원본 파일의 상태. 파싱 전에 만들어 두어야 파싱 중에 바뀐 파일을 바뀌기 전 상태로 저장하지 않는다.
+    public Key keyOf(String csvPath) throws IOException {
+        Path source = Paths.get(csvPath).toAbsolutePath().normalize();
+        return new Key(source, Files.size(source), Files.getLastModifiedTime(source).toMillis());
+    }
+
+    // 맞는 캐시가 없으면 null
+    public TableValue load(Key key) {
+        Path file = fileOf(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.getInt() != MAGIC || in.getInt() != VERSION
+                    || !TableValue.readString(in).equals(key.source.toString())
+                    || in.getLong() != key.size || in.getLong() != key.modified) {
+                return null;
+            }
+            return TableValue.readFrom(in);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // 임시 파일에 다 쓴 뒤 이름을 바꾸므로 같은 캐시를 읽는 다른 실행이 쓰다 만 파일을 보지 않는다.
+    public boolean store(Key key, TableValue table) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "table", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                TableValue.writeString(out, key.source.toString());
+                out.writeLong(key.size);
+                out.writeLong(key.modified);
+                table.writeTo(out);
+            }
+            Files.move(temp, fileOf(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            try {
+                if (temp != null) {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (IOException ignored) {
+            }
+            return false;
+        }
+    }
+
+    // 파일 이름이 겹쳐도 머리의 경로가 다르면 load가 버린다.
+    private Path fileOf(Key key) {
+        return directory.resolve(key.source.getFileName() + "-" + Integer.toHexString(key.source.toString().hashCode()) + ".flowtable");
+    }
+
+    public static final class Key {
+        private final Path source;
+        private final long size;
+        private final long modified;
+
+        private Key(Path source, long size, long modified) {
+            this.source = source;
+            this.size = size;
+            this.modified = modified;
+        }
+    }
+}
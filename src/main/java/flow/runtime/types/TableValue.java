@@ -0,0 +1,585 @@
+package flow.runtime.types;
+
+import flow.ast.Type;
+import flow.csv.ColumnStats;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// csv_to_array가 돌려주는 string[][] 값.
+// 셀마다 StringValue와 행 ArrayValue를 만들지 않고 열 단위 배열에 저장한다.
+// 모든 값이 정수 표기인 열은 int[]로, 서로 다른 값이 적은 열은 사전 번호로, 나머지 열은 String[]로 둔다.
+// 사전 열은 같은 값의 셀이 StringValue 하나를 함께 쓰고, 다른 열은 셀의 StringValue를 접근할 때 만든다.
+// 열마다 빈 칸("NULL", "") 개수와 값으로 정한 타입("int", "float", "string")을 만들 때 함께 세어 둔다.
+// 언어 쪽에서는 일반 2차원 배열과 구별되지 않는다.
+public final class TableValue extends ArrayValue {
+
+    // TableCache 파일에 적는 열 종류
+    private static final byte INT_COLUMN = 0;
+    private static final byte DICTIONARY_COLUMN = 1;
+    private static final byte STRING_COLUMN = 2;
+
+    // 열의 값 타입. 빈 칸을 뺀 값이 모두 -?\d+ 꼴(18자리까지)이면 int, -?\d*\.\d+ 꼴까지 섞이면 float, 아니면 string이다.
+    // 값이 하나도 없는 열은 string으로 본다.
+    private static final byte INT_TYPE = 0;
+    private static final byte FLOAT_TYPE = 1;
+    private static final byte STRING_TYPE = 2;
+    private static final String[] TYPE_NAMES = {"int", "float", "string"};
+
+    private final int rowCount;
+    private final Column[] columns;
+    private final int[] nullCounts;
+    private final byte[] types;
+    private List<Value> rows; // getElements()가 처음 불릴 때 만든다.
+
+    private TableValue(int rowCount, Column[] columns, int[] nullCounts, byte[] types) {
+        super(new Type("string", 0, 0, 0), 2);
+        this.rowCount = rowCount;
+        this.columns = columns;
+        this.nullCounts = nullCounts;
+        this.types = types;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public String getString(int row, int column) {
+        return columns[column].get(row);
+    }
+
+    // 정수 열은 문자열을 거치지 않고 getInt로 읽을 수 있다.
+    public boolean isIntColumn(int column) {
+        return columns[column] instanceof IntColumn;
+    }
+
+    public int getInt(int row, int column) {
+        return ((IntColumn) columns[column]).values[row];
+    }
+
+    public int getNullCount(int column) {
+        return nullCounts[column];
+    }
+
+    public String getColumnType(int column) {
+        return TYPE_NAMES[types[column]];
+    }
+
+    // order[i]번째 행을 i번째 행으로 둔 표. 셀 값은 새로 만들지 않고 열 배열의 칸만 옮긴다.
+    // order는 모든 행을 한 번씩 담으므로 열의 빈 칸 개수와 타입은 그대로이다.
+    public TableValue reorder(int[] order) {
+        Column[] reordered = new Column[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            reordered[i] = columns[i].reorder(order);
+        }
+        return new TableValue(order.length, reordered, nullCounts, types);
+    }
+
+    @Override
+    public int getLength() {
+        return rowCount;
+    }
+
+    @Override
+    public Value getElement(int index) {
+        List<Value> cells = new ArrayList<>(columns.length);
+        for (Column column : columns) {
+            cells.add(column.getValue(index));
+        }
+        return ArrayValue.ofChecked(cells, 0, 0);
+    }
+
+    @Override
+    public int getRowLength(int row) {
+        return columns.length;
+    }
+
+    @Override
+    public Value getElement(int row, int column) {
+        return columns[column].getValue(row);
+    }
+
+    // 배열 전체를 List로 다루는 경로(출력, 비교)를 위한 것으로, 이때만 행 객체를 만든다.
+    @Override
+    public List<Value> getElements() {
+        if (rows == null) {
+            List<Value> materialized = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                materialized.add(getElement(i));
+            }
+            rows = materialized;
+        }
+        return rows;
+    }
+
+    // TableCache가 쓰는 이진 형식. 행 수와 열 수 뒤에 열마다 머리(종류 바이트, 타입 바이트, 빈 칸 개수)와 값 배열을 적는다.
+    // 문자열은 UTF-8 바이트 수(int)와 바이트로 적고, 정수와 사전 번호는 ByteBuffer 기본값인 빅 엔디언이다.
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(rowCount);
+        out.writeInt(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            out.writeByte(columns[i].kind());
+            out.writeByte(types[i]);
+            out.writeInt(nullCounts[i]);
+            columns[i].writeTo(out);
+        }
+    }
+
+    static TableValue readFrom(ByteBuffer in) throws IOException {
+        int rowCount = in.getInt();
+        Column[] columns = new Column[in.getInt()];
+        int[] nullCounts = new int[columns.length];
+        byte[] types = new byte[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            byte kind = in.get();
+            types[i] = in.get();
+            nullCounts[i] = in.getInt();
+            if (types[i] < INT_TYPE || types[i] > STRING_TYPE) {
+                throw new IOException("알 수 없는 열 타입: " + types[i]);
+            }
+            switch (kind) {
+                case INT_COLUMN: {
+                    int[] values = new int[rowCount];
+                    in.asIntBuffer().get(values);
+                    in.position(in.position() + rowCount * Integer.BYTES);
+                    columns[i] = new IntColumn(values);
+                    break;
+                }
+                case DICTIONARY_COLUMN: {
+                    StringValue[] values = new StringValue[in.getInt()];
+                    for (int j = 0; j < values.length; j++) {
+                        values[j] = new StringValue(readString(in));
+                    }
+                    char[] codes = new char[rowCount];
+                    in.asCharBuffer().get(codes);
+                    in.position(in.position() + rowCount * Character.BYTES);
+                    columns[i] = new DictionaryColumn(codes, values);
+                    break;
+                }
+                case STRING_COLUMN: {
+                    String[] values = new String[rowCount];
+                    for (int j = 0; j < rowCount; j++) {
+                        values[j] = readString(in);
+                    }
+                    columns[i] = new StringColumn(values);
+                    break;
+                }
+                default:
+                    throw new IOException("알 수 없는 열 종류: " + kind);
+            }
+        }
+        return new TableValue(rowCount, columns, nullCounts, types);
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private interface Column {
+        String get(int row);
+
+        // 파일에 적는 열 종류
+        byte kind();
+
+        // 종류 바이트 뒤의 값 배열만 적는다.
+        void writeTo(DataOutputStream out) throws IOException;
+
+        Column reorder(int[] order);
+
+        default Value getValue(int row) {
+            return new StringValue(get(row));
+        }
+    }
+
+    private static final class IntColumn implements Column {
+        private final int[] values;
+
+        IntColumn(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public String get(int row) {
+            return Integer.toString(values[row]);
+        }
+
+        @Override
+        public Column reorder(int[] order) {
+            int[] reordered = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                reordered[i] = values[order[i]];
+            }
+            return new IntColumn(reordered);
+        }
+
+        @Override
+        public byte kind() {
+            return INT_COLUMN;
+        }
+
+        @Override
+        public void writeTo(DataOutputStream out) throws IOException {
+            for (int value : values) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    private static final class StringColumn implements Column {
+        private final String[] values;
+
+        StringColumn(String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public String get(int row) {
+            return values[row];
+        }
+
+        @Override
+        public Column reorder(int[] order) {
+            String[] reordered = new String[order.length];
+            for (int i = 0; i < order.length; i++) {
+                reordered[i] = values[order[i]];
+            }
+            return new StringColumn(reordered);
+        }
+
+        @Override
+        public byte kind() {
+            return STRING_COLUMN;
+        }
+
+        @Override
+        public void writeTo(DataOutputStream out) throws IOException {
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static final class DictionaryColumn implements Column {
+        private final char[] codes;
+        private final StringValue[] values;
+
+        DictionaryColumn(char[] codes, StringValue[] values) {
+            this.codes = codes;
+            this.values = values;
+        }
+
+        @Override
+        public String get(int row) {
+            return values[codes[row]].getValue();
+        }
+
+        @Override
+        public Value getValue(int row) {
+            return values[codes[row]];
+        }
+
+        // 사전은 원래 열과 함께 쓴다.
+        @Override
+        public Column reorder(int[] order) {
+            char[] reordered = new char[order.length];
+            for (int i = 0; i < order.length; i++) {
+                reordered[i] = codes[order[i]];
+            }
+            return new DictionaryColumn(reordered, values);
+        }
+
+        @Override
+        public byte kind() {
+            return DICTIONARY_COLUMN;
+        }
+
+        @Override
+        public void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(values.length);
+            for (StringValue value : values) {
+                writeString(out, value.getValue());
+            }
+            for (char code : codes) {
+                out.writeChar(code);
+            }
+        }
+    }
+
+    // 행 단위로 값을 받아 열 배열을 채운다. 열 개수보다 짧은 행은 "NULL"로 채우고 넘치는 값은 버린다.
+    public static final class Builder {
+        private final ColumnBuilder[] columns;
+        private int rowCount = 0;
+
+        public Builder(int columnCount) {
+            columns = new ColumnBuilder[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                columns[i] = new ColumnBuilder();
+            }
+        }
+
+        public void appendRow(String[] cells) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].add(i < cells.length && cells[i] != null ? cells[i] : "NULL");
+            }
+            rowCount++;
+        }
+
+        // 같은 열 구성의 다른 Builder가 모은 행을 이어 붙인다. 나누어 읽은 청크를 파일 순서대로 합칠 때 쓴다.
+        public void appendAll(Builder other) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].addAll(other.columns[i]);
+            }
+            rowCount += other.rowCount;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        public TableValue build() {
+            Column[] built = new Column[columns.length];
+            int[] nullCounts = new int[columns.length];
+            byte[] types = new byte[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                built[i] = columns[i].build(rowCount);
+                nullCounts[i] = columns[i].nullCount;
+                types[i] = columns[i].nullCount == rowCount ? STRING_TYPE : columns[i].type;
+            }
+            return new TableValue(rowCount, built, nullCounts, types);
+        }
+    }
+
+    // 정수로 시작해 정수 표기가 아닌 값을 만나면 사전 번호로 바꾸고,
+    // 서로 다른 값이 너무 많아져 나누어 쓸 값이 적으면 그때까지의 값을 String[]로 옮긴다.
+    // 빈 칸은 셀마다 세고, 타입은 사전 열이면 새 사전 값에서만, String[] 열이면 string이 될 때까지 셀마다 넓힌다.
+    private static final class ColumnBuilder {
+        // 번호를 char에 담으므로 사전은 65536개를 넘지 않는다.
+        private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+        // 이만큼 모인 뒤로는 서로 다른 값이 셀의 1/4을 넘으면 사전을 버린다.
+        private static final int MIN_DICTIONARY_CHECK = 1 << 10;
+
+        private int[] ints = new int[16];
+        private char[] codes;
+        private Map<String, Integer> dictionary;
+        private String[] entries;
+        private String[] strings;
+        private int size = 0;
+        private int nullCount = 0;
+        private byte type = INT_TYPE;
+
+        void add(String cell) {
+            if (ints != null) {
+                if (isCanonicalInt(cell)) {
+                    ensureCapacity(size + 1);
+                    ints[size++] = Integer.parseInt(cell);
+                    return;
+                }
+                switchToDictionary();
+            }
+            boolean isNull = cell.isEmpty() || cell.equals("NULL");
+            if (isNull) {
+                nullCount++;
+            }
+            if (codes != null) {
+                Integer code = dictionary.get(cell);
+                if (code == null && !isDictionaryFull()) {
+                    code = dictionary.size();
+                    dictionary.put(cell, code);
+                    if (code == entries.length) {
+                        entries = Arrays.copyOf(entries, code * 2);
+                    }
+                    entries[code] = cell;
+                    if (!isNull) {
+                        widenType(cell);
+                    }
+                }
+                if (code != null) {
+                    ensureCapacity(size + 1);
+                    codes[size++] = (char) code.intValue();
+                    return;
+                }
+                switchToStrings();
+            }
+            if (!isNull) {
+                widenType(cell);
+            }
+            ensureCapacity(size + 1);
+            strings[size++] = cell;
+        }
+
+        private void widenType(String cell) {
+            if (type != STRING_TYPE) {
+                type = (byte) Math.max(type, typeOf(cell));
+            }
+        }
+
+        // 다른 청크의 셀을 이어 붙인다. 사전 열은 그 청크의 사전을 한 번만 이 사전 번호로 바꿔 두고 번호를 옮기므로
+        // 셀마다 해시하지 않는다. 빈 칸 수와 타입은 청크가 세어 둔 것을 더한다.
+        void addAll(ColumnBuilder other) {
+            if (ints != null && other.ints != null) {
+                ensureCapacity(size + other.size);
+                System.arraycopy(other.ints, 0, ints, size, other.size);
+                size += other.size;
+                return;
+            }
+            if (other.ints != null) {
+                // 정수 청크는 사전 열이나 String[] 열에 붙일 때만 문자열로 바꾼다.
+                for (int i = 0; i < other.size; i++) {
+                    add(Integer.toString(other.ints[i]));
+                }
+                return;
+            }
+            if (ints != null) {
+                switchToDictionary();
+            }
+            if (codes != null && (other.codes == null || !mergeDictionary(other))) {
+                switchToStrings();
+            }
+            if (strings != null) {
+                ensureCapacity(size + other.size);
+                if (other.codes != null) {
+                    for (int i = 0; i < other.size; i++) {
+                        strings[size + i] = other.entries[other.codes[i]];
+                    }
+                } else {
+                    System.arraycopy(other.strings, 0, strings, size, other.size);
+                }
+                size += other.size;
+            }
+            nullCount += other.nullCount;
+            if (type != STRING_TYPE) {
+                type = (byte) Math.max(type, other.type);
+            }
+        }
+
+        // other의 사전 값을 이 사전에 넣고 번호를 옮긴다. 사전이 차면 아무것도 옮기지 않고 false를 돌려준다.
+        private boolean mergeDictionary(ColumnBuilder other) {
+            int distinct = other.dictionary.size();
+            char[] remap = new char[distinct];
+            for (int code = 0; code < distinct; code++) {
+                String value = other.entries[code];
+                Integer mapped = dictionary.get(value);
+                if (mapped == null) {
+                    if (isDictionaryFull(size + other.size)) {
+                        return false;
+                    }
+                    mapped = dictionary.size();
+                    dictionary.put(value, mapped);
+                    if (mapped == entries.length) {
+                        entries = Arrays.copyOf(entries, mapped * 2);
+                    }
+                    entries[mapped] = value;
+                }
+                remap[code] = (char) mapped.intValue();
+            }
+            ensureCapacity(size + other.size);
+            for (int i = 0; i < other.size; i++) {
+                codes[size + i] = remap[other.codes[i]];
+            }
+            size += other.size;
+            return true;
+        }
+
+        private boolean isDictionaryFull() {
+            return isDictionaryFull(size);
+        }
+
+        private boolean isDictionaryFull(int cells) {
+            int distinct = dictionary.size();
+            return distinct == MAX_DICTIONARY_SIZE || (distinct >= MIN_DICTIONARY_CHECK && distinct * 4L > cells);
+        }
+
+        private void ensureCapacity(int capacity) {
+            int length = ints != null ? ints.length : codes != null ? codes.length : strings.length;
+            if (capacity <= length) {
+                return;
+            }
+            int newLength = Math.max(capacity, length * 2);
+            if (ints != null) {
+                ints = Arrays.copyOf(ints, newLength);
+            } else if (codes != null) {
+                codes = Arrays.copyOf(codes, newLength);
+            } else {
+                strings = Arrays.copyOf(strings, newLength);
+            }
+        }
+
+        // 그때까지의 정수를 문자열로 다시 넣는다. 사전이 차면 add가 곧바로 String[]로 넘어간다.
+        private void switchToDictionary() {
+            int[] previous = ints;
+            int previousSize = size;
+            ints = null;
+            codes = new char[previous.length];
+            dictionary = new HashMap<>();
+            entries = new String[16];
+            size = 0;
+            for (int i = 0; i < previousSize; i++) {
+                add(Integer.toString(previous[i]));
+            }
+        }
+
+        private void switchToStrings() {
+            strings = new String[codes.length];
+            for (int i = 0; i < size; i++) {
+                strings[i] = entries[codes[i]];
+            }
+            codes = null;
+            dictionary = null;
+            entries = null;
+        }
+
+        Column build(int rowCount) {
+            if (ints != null) {
+                return new IntColumn(ints.length == rowCount ? ints : Arrays.copyOf(ints, rowCount));
+            }
+            if (codes != null) {
+                StringValue[] values = new StringValue[dictionary.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = new StringValue(entries[i]);
+                }
+                return new DictionaryColumn(codes.length == rowCount ? codes : Arrays.copyOf(codes, rowCount), values);
+            }
+            return new StringColumn(strings.length == rowCount ? strings : Arrays.copyOf(strings, rowCount));
+        }
+
+        // 18자리가 넘는 정수는 long에 담기지 않으므로 float이다.
+        private static byte typeOf(String s) {
+            switch (ColumnStats.numberKind(s)) {
+                case ColumnStats.SHORT_INTEGER: return INT_TYPE;
+                case ColumnStats.NOT_NUMBER: return STRING_TYPE;
+                default: return FLOAT_TYPE;
+            }
+        }
+
+        // Integer.toString으로 다시 만들었을 때 원래 문자열과 같아야 한다 ("007", "+1", "-0"은 제외).
+        private static boolean isCanonicalInt(String s) {
+            int length = s.length();
+            if (length == 0 || length > 11) return false;
+            int start = s.charAt(0) == '-' ? 1 : 0;
+            if (start == length) return false;
+            if (s.charAt(start) == '0' && (length > start + 1 || start == 1)) return false;
+            long value = 0;
+            for (int i = start; i < length; i++) {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9') return false;
+                value = value * 10 + (c - '0');
+            }
+            return start == 1 ? -value >= Integer.MIN_VALUE : value <= Integer.MAX_VALUE;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package flow.runtime.types;
 
+import flow.ast.BinaryOperator;
+import flow.ast.UnaryOperator;
 import flow.runtime.errors.RuntimeError;
 import java.util.Objects;
 
@@ -15,8 +17,8 @@ public abstract class Value {
     public abstract String toString();
     public abstract boolean isTruth();
 
-    public abstract Value performBinaryOperation(Value other, String operator, int line, int col);
-    public abstract Value performUnaryOperation(String operator, int line, int col);
+    public abstract Value performBinaryOperation(Value other, BinaryOperator operator, int line, int col);
+    public abstract Value performUnaryOperation(UnaryOperator operator, int line, int col);
 
     public abstract int getDimension();
 
@@ -1,10 +1,13 @@
 package flow.runtime.types;
 
+import flow.ast.BinaryOperator;
+import flow.ast.UnaryOperator;
 import flow.runtime.errors.RuntimeError;
-import java.util.Objects;
 
 public class VoidValue extends Value {
 
+    public static final VoidValue INSTANCE = new VoidValue();
+
     public VoidValue() { super(null); }
     @Override public String getType() { return "void"; }
     @Override public Object getValue() { return null; }
@@ -17,8 +20,8 @@ public class VoidValue extends Value {
     @Override public boolean asBoolean(int line, int col) { throw new RuntimeError("타입 캐스팅 오류: void 타입을 bool로 캐스팅할 수 없습니다.", line, col); }
     @Override public String asString(int line, int col) { return toString(); }
 
-    @Override public Value performBinaryOperation(Value other, String operator, int line, int col) { throw new RuntimeError("void 타입은 연산을 할 수 없습니다.", line, col); }
-    @Override public Value performUnaryOperation(String operator, int line, int col) { throw new RuntimeError("void 타입은 단항 연산을 할 수 없습니다.", line, col); }
+    @Override public Value performBinaryOperation(Value other, BinaryOperator operator, int line, int col) { throw new RuntimeError("void 타입은 연산을 할 수 없습니다.", line, col); }
+    @Override public Value performUnaryOperation(UnaryOperator operator, int line, int col) { throw new RuntimeError("void 타입은 단항 연산을 할 수 없습니다.", line, col); }
     @Override public boolean equals(Object o) { if (this == o) return true; return o instanceof VoidValue; }
-    @Override public int hashCode() { return Objects.hash(getValue()); }
+    @Override public int hashCode() { return 0; }
 }
\ No newline at end of file
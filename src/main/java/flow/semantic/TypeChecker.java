@@ -0,0 +1,552 @@
+package flow.semantic;
+
+import flow.ast.BinaryOperator;
+import flow.ast.FunctionPrototype;
+import flow.ast.FunctionSymbol;
+import flow.ast.Param;
+import flow.ast.ProgramNode;
+import flow.ast.Type;
+import flow.ast.expr.*;
+import flow.ast.stmt.*;
+import flow.runtime.errors.RuntimeError;
+import flow.runtime.interpreter.Environment;
+import flow.runtime.interpreter.FunctionObject;
+import flow.runtime.types.FunctionValue;
+import flow.runtime.types.Value;
+import flow.utility.Pair;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 실행 전에 프로그램 전체의 타입을 한 번 검사하고 각 식의 정적 타입을 Expr에 기록한다.
+// 타입은 "int", "string[][]"처럼 Type.toString()과 같은 문자열로 다루며, 대입과 인자 전달, 반환은 같은 타입만 허용한다.
+// 예외로 int 값은 float 자리에 쓸 수 있고, 이때 그 식을 IntToFloatExpr로 감싸 실행 시 float 값이 되게 한다.
+// 여기서 걸러낸 오류(반환 타입, 인자 타입, 연산자 타입, 배열 접근 타입)는 실행기가 다시 검사하지 않는다.
+public class TypeChecker {
+
+    private static final String UNKNOWN = "unknown";
+    private static final String ANY = "any";
+
+    // 이름 하나가 가리키는 대상. 변수면 type, 함수면 function이 채워진다.
+    private static final class Symbol {
+        final String type;
+        final FunctionSymbol function;
+
+        Symbol(String type, FunctionSymbol function) {
+            this.type = type;
+            this.function = function;
+        }
+    }
+
+    // 검사 중인 함수. 최상위 코드를 검사할 때는 null이다.
+    private static final class FunctionContext {
+        final FunctionPrototype prototype;
+        final int loopDepthOutside;
+
+        FunctionContext(FunctionPrototype prototype, int loopDepthOutside) {
+            this.prototype = prototype;
+            this.loopDepthOutside = loopDepthOutside;
+        }
+    }
+
+    // 최상위 문장은 실행 순서대로 선언된 전역만 볼 수 있고, 함수 본문은 main이 실행될 때 존재하는 모든 전역을 볼 수 있다.
+    private final Map<String, Symbol> declaredGlobals = new HashMap<>();
+    private final Map<String, Symbol> allGlobals = new HashMap<>();
+    private final Deque<Map<String, Symbol>> scopes = new ArrayDeque<>();
+    private FunctionContext function;
+    private int loopDepth;
+
+    public TypeChecker(Environment globalEnvironment) {
+        // 내장 함수와 이미 정의된 전역을 먼저 등록한다.
+        for (Map.Entry<String, Value> entry : globalEnvironment.getFunctions().entrySet()) {
+            FunctionObject funcObj = ((FunctionValue) entry.getValue()).getFunctionObject();
+            Symbol symbol = new Symbol(null, new FunctionSymbol(prototypeOf(funcObj), funcObj.getBody(), funcObj.getRequiredParamCount()));
+            declaredGlobals.put(entry.getKey(), symbol);
+            allGlobals.put(entry.getKey(), symbol);
+        }
+        for (Map.Entry<String, Value> entry : globalEnvironment.getVariables().entrySet()) {
+            Symbol symbol = new Symbol(entry.getValue().getType(), null);
+            declaredGlobals.put(entry.getKey(), symbol);
+            allGlobals.put(entry.getKey(), symbol);
+        }
+    }
+
+    private static FunctionPrototype prototypeOf(FunctionObject funcObj) {
+        List<Param> params = funcObj.getParams();
+        if (params == null) {
+            params = new ArrayList<>();
+            List<Type> paramTypes = funcObj.getParamTypes();
+            for (int i = 0; i < paramTypes.size(); i++) {
+                params.add(new Param(paramTypes.get(i), "arg" + i, funcObj.getLine(), funcObj.getCol()));
+            }
+        }
+        return new FunctionPrototype(funcObj.getName(), params, funcObj.getReturnType(), funcObj.getLine(), funcObj.getCol());
+    }
+
+    public void check(ProgramNode program) {
+        for (Stmt stmt : program.getStatements()) {
+            if (stmt instanceof FuncDeclStmt) {
+                FuncDeclStmt funcDecl = (FuncDeclStmt) stmt;
+                allGlobals.putIfAbsent(funcDecl.getPrototype().getName(), new Symbol(null, new FunctionSymbol(funcDecl.getPrototype(), funcDecl.getBody())));
+            } else if (stmt instanceof VarDeclStmt) {
+                VarDeclStmt varDecl = (VarDeclStmt) stmt;
+                allGlobals.putIfAbsent(varDecl.getName(), new Symbol(varDecl.getType().toString(), null));
+            }
+        }
+        for (Stmt stmt : program.getStatements()) {
+            checkStmt(stmt);
+        }
+    }
+
+    // --- 이름 ---
+
+    private void declare(String name, Symbol symbol, int line, int col) {
+        if (scopes.isEmpty()) {
+            Symbol existing = declaredGlobals.get(name);
+            if (existing != null) {
+                String kind = existing.function != null ? "함수" : "변수";
+                throw new RuntimeError("현재 스코프에 " + kind + " '" + name + "'가 이미 선언되었습니다.", line, col);
+            }
+            declaredGlobals.put(name, symbol);
+        } else {
+            // 같은 블록 안의 중복 선언은 Resolver가 이미 오류로 처리했다.
+            scopes.peek().put(name, symbol);
+        }
+    }
+
+    private Symbol lookup(String name) {
+        for (Map<String, Symbol> scope : scopes) {
+            Symbol symbol = scope.get(name);
+            if (symbol != null) {
+                return symbol;
+            }
+        }
+        return function != null ? allGlobals.get(name) : declaredGlobals.get(name);
+    }
+
+    // --- 문장 ---
+
+    private void checkBlock(BlockStmt block) {
+        scopes.push(new HashMap<>());
+        for (Stmt stmt : block.getStatements()) {
+            checkStmt(stmt);
+        }
+        scopes.pop();
+    }
+
+    private void checkStmt(Stmt stmt) {
+        if (stmt instanceof BlockStmt) {
+            checkBlock((BlockStmt) stmt);
+        } else if (stmt instanceof ExprStmt) {
+            checkExpr(((ExprStmt) stmt).getExpr());
+        } else if (stmt instanceof VarDeclStmt) {
+            checkVarDecl((VarDeclStmt) stmt);
+        } else if (stmt instanceof FuncDeclStmt) {
+            checkFunction((FuncDeclStmt) stmt);
+        } else if (stmt instanceof IfStmt) {
+            IfStmt ifStmt = (IfStmt) stmt;
+            checkExpr(ifStmt.getCondition());
+            checkBlock(ifStmt.getThenBranch());
+            for (Pair<Expr, BlockStmt> elseIf : ifStmt.getElseIfBranches()) {
+                checkExpr(elseIf.first());
+                checkBlock(elseIf.second());
+            }
+            if (ifStmt.getElseBranch() != null) {
+                checkBlock(ifStmt.getElseBranch());
+            }
+        } else if (stmt instanceof WhileStmt) {
+            WhileStmt whileStmt = (WhileStmt) stmt;
+            checkExpr(whileStmt.getCondition());
+            checkLoopBody(whileStmt.getBody());
+        } else if (stmt instanceof ForStmt) {
+            ForStmt forStmt = (ForStmt) stmt;
+            checkOptionalExpr(forStmt.getInit());
+            checkOptionalExpr(forStmt.getCond());
+            checkOptionalExpr(forStmt.getPost());
+            checkLoopBody(forStmt.getBody());
+        } else if (stmt instanceof ReturnStmt) {
+            checkReturn((ReturnStmt) stmt);
+        } else if (stmt instanceof BreakStmt || stmt instanceof ContinueStmt) {
+            if (loopDepth == 0) {
+                throw new RuntimeError("루프 외부에서 'break' 또는 'continue' 문은 허용되지 않습니다.", stmt.line, stmt.col);
+            }
+        }
+    }
+
+    private void checkLoopBody(BlockStmt body) {
+        loopDepth++;
+        checkBlock(body);
+        loopDepth--;
+    }
+
+    private void checkVarDecl(VarDeclStmt varDecl) {
+        String declared = varDecl.getType().toString();
+        if (declared.equals("void")) {
+            throw new RuntimeError("void 타입 변수 '" + varDecl.getName() + "'는 선언할 수 없습니다.", varDecl.line, varDecl.col);
+        }
+        String actual = checkExpr(varDecl.getInit());
+        if (dimensionOf(declared) == 2 && dimensionOf(actual) != 2) {
+            throw new RuntimeError("배열 '" + varDecl.getName() + "'는 2차원 배열 값으로만 초기화 가능합니다. (실제: " + actual + ")", varDecl.getInit().line, varDecl.getInit().col);
+        }
+        if (!isAssignable(declared, actual)) {
+            throw new RuntimeError("타입 불일치 오류: '" + declared + "' 변수 '" + varDecl.getName() + "'를 '" + actual + "' 값으로 초기화할 수 없습니다.", varDecl.line, varDecl.col);
+        }
+        varDecl.setInit(widen(declared, varDecl.getInit()));
+        declare(varDecl.getName(), new Symbol(declared, null), varDecl.line, varDecl.col);
+    }
+
+    private void checkFunction(FuncDeclStmt funcDecl) {
+        FunctionPrototype prototype = funcDecl.getPrototype();
+        // 재귀 호출이 가능하도록 본문보다 먼저 선언한다.
+        declare(prototype.getName(), new Symbol(null, new FunctionSymbol(prototype, funcDecl.getBody())), funcDecl.line, funcDecl.col);
+
+        FunctionContext enclosing = function;
+        function = new FunctionContext(prototype, loopDepth);
+        loopDepth = 0;
+        scopes.push(new HashMap<>());
+        for (Param param : prototype.getParams()) {
+            scopes.peek().put(param.getName(), new Symbol(param.getType().toString(), null));
+        }
+        checkBlock(funcDecl.getBody());
+        scopes.pop();
+        loopDepth = function.loopDepthOutside;
+        function = enclosing;
+
+        if (!prototype.getReturnType().toString().equals("void") && !alwaysReturns(funcDecl.getBody())) {
+            throw new RuntimeError("함수 '" + prototype.getName() + "'가 모든 경로에서 값을 반환하지 않습니다.", funcDecl.line, funcDecl.col);
+        }
+    }
+
+    private void checkReturn(ReturnStmt returnStmt) {
+        if (function == null) {
+            throw new RuntimeError("최상위 레벨에서 'return' 문은 허용되지 않습니다.", returnStmt.line, returnStmt.col);
+        }
+        String expected = function.prototype.getReturnType().toString();
+        String actual = returnStmt.getExpr() != null ? checkExpr(returnStmt.getExpr()) : "void";
+        if (expected.equals("void") && !actual.equals("void")) {
+            throw new RuntimeError("void 함수가 값을 반환했습니다.", returnStmt.line, returnStmt.col);
+        }
+        if (!expected.equals("void") && actual.equals("void")) {
+            throw new RuntimeError("값이 반환되어야 하는 함수가 값을 반환하지 않았습니다.", returnStmt.line, returnStmt.col);
+        }
+        if (!isAssignable(expected, actual)) {
+            throw new RuntimeError("함수 '" + function.prototype.getName() + "'의 반환 타입이 일치하지 않습니다. 기대: " + expected + ", 실제: " + actual, returnStmt.line, returnStmt.col);
+        }
+        if (returnStmt.getExpr() != null) {
+            returnStmt.setExpr(widen(expected, returnStmt.getExpr()));
+        }
+    }
+
+    // 문장을 실행한 뒤 다음 문장으로 흘러갈 수 없으면(반드시 return하거나 끝나지 않으면) true를 반환한다.
+    private static boolean alwaysReturns(Stmt stmt) {
+        if (stmt instanceof ReturnStmt) {
+            return true;
+        } else if (stmt instanceof BlockStmt) {
+            for (Stmt inner : ((BlockStmt) stmt).getStatements()) {
+                if (alwaysReturns(inner)) {
+                    return true;
+                }
+            }
+            return false;
+        } else if (stmt instanceof IfStmt) {
+            IfStmt ifStmt = (IfStmt) stmt;
+            if (ifStmt.getElseBranch() == null || !alwaysReturns(ifStmt.getThenBranch()) || !alwaysReturns(ifStmt.getElseBranch())) {
+                return false;
+            }
+            for (Pair<Expr, BlockStmt> elseIf : ifStmt.getElseIfBranches()) {
+                if (!alwaysReturns(elseIf.second())) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (stmt instanceof WhileStmt) {
+            WhileStmt whileStmt = (WhileStmt) stmt;
+            return isTrueLiteral(whileStmt.getCondition()) && !containsBreak(whileStmt.getBody());
+        } else if (stmt instanceof ForStmt) {
+            ForStmt forStmt = (ForStmt) stmt;
+            return (forStmt.getCond() == null || isTrueLiteral(forStmt.getCond())) && !containsBreak(forStmt.getBody());
+        }
+        return false;
+    }
+
+    private static boolean isTrueLiteral(Expr expr) {
+        return expr instanceof BoolLiteralExpr && ((BoolLiteralExpr) expr).getConstant().boolValue();
+    }
+
+    // 이 루프를 빠져나가는 break가 있는지 본다. 안쪽 루프와 중첩 함수의 break는 제외한다.
+    private static boolean containsBreak(Stmt stmt) {
+        if (stmt instanceof BreakStmt) {
+            return true;
+        } else if (stmt instanceof BlockStmt) {
+            for (Stmt inner : ((BlockStmt) stmt).getStatements()) {
+                if (containsBreak(inner)) {
+                    return true;
+                }
+            }
+        } else if (stmt instanceof IfStmt) {
+            IfStmt ifStmt = (IfStmt) stmt;
+            if (containsBreak(ifStmt.getThenBranch())) {
+                return true;
+            }
+            for (Pair<Expr, BlockStmt> elseIf : ifStmt.getElseIfBranches()) {
+                if (containsBreak(elseIf.second())) {
+                    return true;
+                }
+            }
+            return ifStmt.getElseBranch() != null && containsBreak(ifStmt.getElseBranch());
+        }
+        return false;
+    }
+
+    // --- 식 ---
+
+    private void checkOptionalExpr(Expr expr) {
+        if (expr != null) {
+            checkExpr(expr);
+        }
+    }
+
+    private String checkExpr(Expr expr) {
+        String type = typeOf(expr);
+        expr.setResolvedType(type);
+        return type;
+    }
+
+    private String typeOf(Expr expr) {
+        if (expr instanceof IntLiteralExpr) {
+            return "int";
+        } else if (expr instanceof FloatLiteralExpr) {
+            return "float";
+        } else if (expr instanceof StringLiteralExpr) {
+            return "string";
+        } else if (expr instanceof BoolLiteralExpr) {
+            return "bool";
+        } else if (expr instanceof VoidExpr) {
+            return "void";
+        } else if (expr instanceof IdentifierExpr) {
+            return typeOfIdentifier((IdentifierExpr) expr);
+        } else if (expr instanceof AssignExpr) {
+            return typeOfAssign((AssignExpr) expr);
+        } else if (expr instanceof BinaryExpr) {
+            BinaryExpr binary = (BinaryExpr) expr;
+            String lhs = checkExpr(binary.getLhs());
+            String rhs = checkExpr(binary.getRhs());
+            String result = binaryResult(binary.getOp(), lhs, rhs);
+            if (result == null) {
+                throw new RuntimeError("타입 불일치 오류: " + lhs + "와 " + rhs + "는 '" + binary.getOp() + "' 연산을 할 수 없습니다.", expr.line, expr.col);
+            }
+            return result;
+        } else if (expr instanceof UnaryExpr) {
+            UnaryExpr unary = (UnaryExpr) expr;
+            String operand = checkExpr(unary.getOperand());
+            boolean numeric = operand.equals("int") || operand.equals("float");
+            switch (unary.getOp()) {
+                case NEG:
+                case PLUS:
+                    if (numeric) return operand;
+                    break;
+                case NOT:
+                    if (operand.equals("bool")) return "bool";
+                    break;
+            }
+            throw new RuntimeError("타입 불일치 오류: " + operand + " 타입에 단항 연산자 '" + unary.getOp() + "'를 적용할 수 없습니다.", expr.line, expr.col);
+        } else if (expr instanceof FunctionCallExpr) {
+            return typeOfCall((FunctionCallExpr) expr);
+        } else if (expr instanceof IntToFloatExpr) {
+            // 같은 프로그램을 다시 검사할 때 이전 검사가 넣은 변환 식을 만난다.
+            checkExpr(((IntToFloatExpr) expr).getOperand());
+            return "float";
+        } else if (expr instanceof Array2DAccessExpr) {
+            Array2DAccessExpr access = (Array2DAccessExpr) expr;
+            String base = checkExpr(access.getBase());
+            if (dimensionOf(base) < 2) {
+                throw new RuntimeError("2차원 배열 접근 연산자는 2차원 배열 타입에만 적용 가능합니다.", expr.line, expr.col);
+            }
+            checkIndex(access.getIndex1());
+            checkIndex(access.getIndex2());
+            return base.substring(0, base.length() - 4);
+        } else if (expr instanceof Array1DAccessExpr) {
+            Array1DAccessExpr access = (Array1DAccessExpr) expr;
+            String base = checkExpr(access.getBase());
+            if (dimensionOf(base) < 1) {
+                throw new RuntimeError("배열 접근 연산자는 배열 타입에만 적용 가능합니다.", expr.line, expr.col);
+            }
+            checkIndex(access.getIndex());
+            return base.substring(0, base.length() - 2);
+        } else if (expr instanceof ArrayLiteralExpr) {
+            List<Expr> elements = ((ArrayLiteralExpr) expr).getElements();
+            if (elements.isEmpty()) {
+                return UNKNOWN + "[]";
+            }
+            String elementType = checkExpr(elements.get(0));
+            for (int i = 1; i < elements.size(); i++) {
+                String other = checkExpr(elements.get(i));
+                if (!other.equals(elementType)) {
+                    throw new RuntimeError("배열 요소들의 타입이 일관되지 않습니다. (예상: " + elementType + ", 실제: " + other + ")", elements.get(i).line, elements.get(i).col);
+                }
+            }
+            return elementType + "[]";
+        }
+        throw new RuntimeError("알 수 없는 식입니다: " + expr, expr.line, expr.col);
+    }
+
+    private String typeOfIdentifier(IdentifierExpr identifier) {
+        Symbol symbol = lookup(identifier.getName());
+        if (symbol == null) {
+            throw new RuntimeError("선언되지 않은 식별자 '" + identifier.getName() + "' 입니다.", identifier.line, identifier.col);
+        }
+        if (symbol.function != null) {
+            throw new RuntimeError("함수 '" + identifier.getName() + "'는 값으로 사용할 수 없습니다.", identifier.line, identifier.col);
+        }
+        return symbol.type;
+    }
+
+    private String typeOfAssign(AssignExpr assign) {
+        String rhs = checkExpr(assign.getRhs());
+        Expr lhsNode = assign.getLhs();
+        String target;
+        if (lhsNode instanceof IdentifierExpr) {
+            String name = ((IdentifierExpr) lhsNode).getName();
+            Symbol symbol = lookup(name);
+            if (symbol == null) {
+                throw new RuntimeError("선언되지 않은 변수 '" + name + "'에 할당할 수 없습니다.", assign.line, assign.col);
+            }
+            if (symbol.function != null) {
+                throw new RuntimeError("함수 '" + name + "'에는 값을 할당할 수 없습니다.", assign.line, assign.col);
+            }
+            target = symbol.type;
+            lhsNode.setResolvedType(target);
+        } else if (lhsNode instanceof Array1DAccessExpr || lhsNode instanceof Array2DAccessExpr) {
+            target = checkExpr(lhsNode);
+        } else {
+            throw new RuntimeError("유효하지 않은 할당 좌변입니다.", assign.line, assign.col);
+        }
+        if (!isAssignable(target, rhs)) {
+            throw new RuntimeError("타입 불일치 오류: '" + target + "' 대상에 '" + rhs + "' 값을 할당할 수 없습니다.", assign.line, assign.col);
+        }
+        assign.setRhs(widen(target, assign.getRhs()));
+        return target;
+    }
+
+    private String typeOfCall(FunctionCallExpr call) {
+        if (!(call.getCallee() instanceof IdentifierExpr)) {
+            throw new RuntimeError("호출 가능한 함수가 아닙니다.", call.line, call.col);
+        }
+        IdentifierExpr callee = (IdentifierExpr) call.getCallee();
+        Symbol symbol = lookup(callee.getName());
+        if (symbol == null) {
+            throw new RuntimeError("선언되지 않은 식별자 '" + callee.getName() + "' 입니다.", callee.line, callee.col);
+        }
+        if (symbol.function == null) {
+            throw new RuntimeError("호출 가능한 함수가 아닙니다.", call.line, call.col);
+        }
+        FunctionPrototype prototype = symbol.function.getPrototype();
+        List<Param> params = prototype.getParams();
+        List<Expr> args = call.getArgs();
+        int required = symbol.function.getRequiredParamCount();
+        if (args.size() < required || args.size() > params.size()) {
+            String expected = required == params.size() ? String.valueOf(required) : required + "~" + params.size();
+            throw new RuntimeError("함수 '" + prototype.getName() + "'의 인자 개수가 일치하지 않습니다. 기대: " + expected + ", 실제: " + args.size(), call.line, call.col);
+        }
+        for (int i = 0; i < args.size(); i++) {
+            String expected = params.get(i).getType().toString();
+            String actual = checkExpr(args.get(i));
+            if (!isAssignable(expected, actual)) {
+                throw new RuntimeError("함수 '" + prototype.getName() + "'의 " + (i + 1) + "번째 인자 타입이 일치하지 않습니다. 기대: " + expected + ", 실제: " + actual, args.get(i).line, args.get(i).col);
+            }
+            call.setArg(i, widen(expected, args.get(i)));
+        }
+        return prototype.getReturnType().toString();
+    }
+
+    private void checkIndex(Expr index) {
+        if (!checkExpr(index).equals("int")) {
+            throw new RuntimeError("배열 인덱스는 정수 타입이어야 합니다.", index.line, index.col);
+        }
+    }
+
+    // --- 타입 규칙 ---
+
+    private static int dimensionOf(String type) {
+        int dim = 0;
+        for (int end = type.length(); end >= 2 && type.startsWith("[]", end - 2); end -= 2) {
+            dim++;
+        }
+        return dim;
+    }
+
+    private static String baseOf(String type) {
+        return type.substring(0, type.length() - 2 * dimensionOf(type));
+    }
+
+    // 타입은 같아야 한다. int 값을 float 자리에 쓰는 것, 내장 함수의 "any" 파라미터, 원소 타입을 알 수 없는 빈 배열 리터럴만 예외다.
+    private static boolean isAssignable(String target, String value) {
+        if (target.equals(value) || (target.equals("float") && value.equals("int"))) {
+            return true;
+        }
+        String targetBase = baseOf(target);
+        int targetDim = dimensionOf(target);
+        int valueDim = dimensionOf(value);
+        if (targetBase.equals(ANY)) {
+            return targetDim == 0 ? !value.equals("void") : valueDim >= targetDim;
+        }
+        return baseOf(value).equals(UNKNOWN) && valueDim == targetDim && targetDim > 0;
+    }
+
+    // isAssignable을 통과한 값을 target 자리에 넣을 식. int를 float 자리에 넣을 때만 변환 식으로 감싼다.
+    private static Expr widen(String target, Expr expr) {
+        if (target.equals("float") && "int".equals(expr.getResolvedType())) {
+            return new IntToFloatExpr(expr);
+        }
+        return expr;
+    }
+
+    // 값 타입들의 performBinaryOperation과 같은 규칙이다. 허용되지 않는 조합이면 null을 반환한다.
+    private static String binaryResult(BinaryOperator op, String lhs, String rhs) {
+        boolean lhsNumeric = isNumeric(lhs);
+        boolean rhsNumeric = isNumeric(rhs);
+        switch (op) {
+            case ADD:
+                if (lhs.equals("string")) {
+                    return dimensionOf(rhs) == 0 && !rhs.equals("void") ? "string" : null;
+                }
+                return arithmeticResult(lhs, rhs);
+            case SUB:
+            case MUL:
+            case DIV:
+            case MOD:
+                return arithmeticResult(lhs, rhs);
+            case EQ:
+            case NE:
+                if (lhs.equals("string") || (lhsNumeric && rhsNumeric) || (lhs.equals("bool") && rhs.equals("bool"))) {
+                    return "bool";
+                }
+                return null;
+            case LT:
+            case GT:
+            case LE:
+            case GE:
+                return lhsNumeric && rhsNumeric ? "bool" : null;
+            case AND:
+            case OR:
+                return lhs.equals("bool") && rhs.equals("bool") ? "bool" : null;
+        }
+        return null;
+    }
+
+    private static boolean isNumeric(String type) {
+        return type.equals("int") || type.equals("float");
+    }
+
+    // 두 피연산자가 모두 int면 int, 하나라도 float면 float이다.
+    private static String arithmeticResult(String lhs, String rhs) {
+        if (!isNumeric(lhs) || !isNumeric(rhs)) {
+            return null;
+        }
+        return lhs.equals("int") && rhs.equals("int") ? "int" : "float";
+    }
+}
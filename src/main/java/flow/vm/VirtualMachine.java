@@ -0,0 +1,600 @@
+package flow.vm;
+
+import flow.ast.BinaryOperator;
+import flow.ast.UnaryOperator;
+import flow.ast.stmt.FuncDeclStmt;
+import flow.compiler.Chunk;
+import flow.compiler.OpCode;
+import flow.jit.CompiledFunction;
+import flow.runtime.errors.RuntimeError;
+import flow.runtime.interpreter.Frame;
+import flow.runtime.interpreter.FunctionObject;
+import flow.runtime.interpreter.Interpreter;
+import flow.runtime.types.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Compiler가 만든 Chunk를 실행하는 스택 머신.
+// 지역 변수는 AST 실행기와 같은 Frame 슬롯을 쓰므로 두 실행 방식 사이를 오가는 호출과 클로저가 그대로 동작한다.
+// int 명령어는 TypeChecker가 정한 타입을 믿고 값 스택 옆의 int[] 스택에서 박싱 없이 계산한다.
+// 사용자 함수 호출은 JIT 컴파일된 코드가 있으면 그것을, 없으면 인터프리터를 거치지 않고 그 함수의 Chunk를 바로 실행한다.
+// 값 스택과 int 스택은 호출마다 만들지 않고 VM의 배열 하나를 호출 깊이에 따라 나눠 쓴다.
+public class VirtualMachine {
+
+    private final Interpreter interpreter;
+    private Value[] values = new Value[256];
+    private int[] intValues = new int[256];
+    private int valueTop; // 실행 중인 run들이 쓰고 있는 칸의 끝
+    private int intTop;
+
+    public VirtualMachine(Interpreter interpreter) {
+        this.interpreter = interpreter;
+    }
+
+    public Value run(Chunk chunk, Frame frame) {
+        final int[] code = chunk.getCode();
+        final Object[] constants = chunk.getConstants();
+        final Value[] locals = frame.getSlots();
+        final Value[] globalFunctions = chunk.globalFunctions(interpreter.currentEnvironment);
+        // 이 호출의 값 스택은 values[base]부터, int 지역 변수는 intValues[ib]부터이고 int 스택이 그 뒤에 이어진다.
+        final int base = valueTop;
+        final int ib = intTop;
+        if (base + chunk.getMaxStack() > values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, base + chunk.getMaxStack()));
+        }
+        if (ib + chunk.getIntLocalCount() + chunk.getMaxIntStack() > intValues.length) {
+            intValues = Arrays.copyOf(intValues, Math.max(intValues.length * 2, ib + chunk.getIntLocalCount() + chunk.getMaxIntStack()));
+        }
+        // 안쪽 호출이 배열을 늘려도 이 호출은 원래 배열의 자기 칸만 쓰므로 그대로 둔다.
+        final Value[] stack = values;
+        final int[] ints = intValues;
+        valueTop = base + chunk.getMaxStack();
+        intTop = ib + chunk.getIntLocalCount() + chunk.getMaxIntStack();
+        for (int slot : chunk.getIntParams()) {
+            ints[ib + slot] = ((IntValue) locals[slot]).intValue();
+        }
+        // 내장 함수 등에서 런타임 오류가 나도 칸을 돌려주어, 같은 VM으로 다시 실행할 때 스택이 밀려 있지 않게 한다.
+        try {
+            return execute(chunk, frame, locals, code, constants, globalFunctions, stack, ints, base, ib);
+        } finally {
+            valueTop = base;
+            intTop = ib;
+        }
+    }
+
+    private Value execute(Chunk chunk, Frame frame, Value[] locals, int[] code, Object[] constants, Value[] globalFunctions,
+                          Value[] stack, int[] ints, int stackBase, int ib) {
+        int sp = stackBase;
+        int isp = ib + chunk.getIntLocalCount();
+        int pc = 0;
+
+        while (true) {
+            final int op = code[pc];
+            switch (op) {
+                case OpCode.CONST:
+                    stack[sp++] = (Value) constants[code[pc + 1]];
+                    pc += 2;
+                    break;
+                case OpCode.POP:
+                    stack[--sp] = null;
+                    pc += 1;
+                    break;
+                case OpCode.LOAD_LOCAL: {
+                    Value value = locals[code[pc + 1]];
+                    if (value == null) {
+                        throw new RuntimeError("선언되지 않은 식별자 '" + constants[code[pc + 2]] + "' 입니다.", chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    stack[sp++] = value;
+                    pc += 3;
+                    break;
+                }
+                case OpCode.LOAD_OUTER: {
+                    Value value = frame.get(code[pc + 1], code[pc + 2]);
+                    if (value == null) {
+                        throw new RuntimeError("선언되지 않은 식별자 '" + constants[code[pc + 3]] + "' 입니다.", chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    stack[sp++] = value;
+                    pc += 4;
+                    break;
+                }
+                case OpCode.STORE_LOCAL: {
+                    int slot = code[pc + 1];
+                    checkAssignable(locals[slot], constants[code[pc + 2]], chunk, pc);
+                    locals[slot] = stack[sp - 1];
+                    pc += 3;
+                    break;
+                }
+                case OpCode.STORE_OUTER: {
+                    int depth = code[pc + 1];
+                    int slot = code[pc + 2];
+                    checkAssignable(frame.get(depth, slot), constants[code[pc + 3]], chunk, pc);
+                    frame.set(depth, slot, stack[sp - 1]);
+                    pc += 4;
+                    break;
+                }
+                case OpCode.SET_LOCAL: {
+                    int slot = code[pc + 1];
+                    checkAssignable(locals[slot], constants[code[pc + 2]], chunk, pc);
+                    locals[slot] = stack[--sp];
+                    stack[sp] = null;
+                    pc += 3;
+                    break;
+                }
+                case OpCode.DEFINE_LOCAL:
+                    locals[code[pc + 1]] = stack[--sp];
+                    stack[sp] = null;
+                    pc += 2;
+                    break;
+                case OpCode.LOAD_GLOBAL: {
+                    Value value = global(globalFunctions, constants, code[pc + 1], chunk, pc);
+                    stack[sp++] = value;
+                    pc += 2;
+                    break;
+                }
+                case OpCode.STORE_GLOBAL:
+                    interpreter.currentEnvironment.assign((String) constants[code[pc + 1]], stack[sp - 1], chunk.lineAt(pc), chunk.colAt(pc));
+                    pc += 2;
+                    break;
+                case OpCode.DEFINE_GLOBAL:
+                    interpreter.currentEnvironment.define((String) constants[code[pc + 1]], stack[--sp], chunk.lineAt(pc), chunk.colAt(pc));
+                    stack[sp] = null;
+                    pc += 2;
+                    break;
+
+                case OpCode.ADD: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue) {
+                        stack[sp - 1] = IntValue.of(((IntValue) lhs).intValue() + ((IntValue) rhs).intValue());
+                    } else {
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, BinaryOperator.ADD, chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.SUB: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue) {
+                        stack[sp - 1] = IntValue.of(((IntValue) lhs).intValue() - ((IntValue) rhs).intValue());
+                    } else {
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, BinaryOperator.SUB, chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.MUL: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue) {
+                        stack[sp - 1] = IntValue.of(((IntValue) lhs).intValue() * ((IntValue) rhs).intValue());
+                    } else {
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, BinaryOperator.MUL, chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.EQ: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue) {
+                        stack[sp - 1] = BoolValue.of(((IntValue) lhs).intValue() == ((IntValue) rhs).intValue());
+                    } else {
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, BinaryOperator.EQ, chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.NE: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue) {
+                        stack[sp - 1] = BoolValue.of(((IntValue) lhs).intValue() != ((IntValue) rhs).intValue());
+                    } else {
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, BinaryOperator.NE, chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.LT: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue) {
+                        stack[sp - 1] = BoolValue.of(((IntValue) lhs).intValue() < ((IntValue) rhs).intValue());
+                    } else {
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, BinaryOperator.LT, chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.GT: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue) {
+                        stack[sp - 1] = BoolValue.of(((IntValue) lhs).intValue() > ((IntValue) rhs).intValue());
+                    } else {
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, BinaryOperator.GT, chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.LE: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue) {
+                        stack[sp - 1] = BoolValue.of(((IntValue) lhs).intValue() <= ((IntValue) rhs).intValue());
+                    } else {
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, BinaryOperator.LE, chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.GE: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue) {
+                        stack[sp - 1] = BoolValue.of(((IntValue) lhs).intValue() >= ((IntValue) rhs).intValue());
+                    } else {
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, BinaryOperator.GE, chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.DIV:
+                case OpCode.MOD: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    if (lhs instanceof IntValue && rhs instanceof IntValue && ((IntValue) rhs).intValue() != 0) {
+                        int a = ((IntValue) lhs).intValue();
+                        int b = ((IntValue) rhs).intValue();
+                        stack[sp - 1] = IntValue.of(op == OpCode.DIV ? a / b : a % b);
+                    } else {
+                        // 0으로 나누기 오류도 값 타입의 구현이 보고한다.
+                        stack[sp - 1] = lhs.performBinaryOperation(rhs, binaryOperator(op), chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    pc += 1;
+                    break;
+                }
+                case OpCode.AND:
+                case OpCode.OR: {
+                    Value rhs = stack[--sp];
+                    Value lhs = stack[sp - 1];
+                    stack[sp] = null;
+                    stack[sp - 1] = lhs.performBinaryOperation(rhs, binaryOperator(op), chunk.lineAt(pc), chunk.colAt(pc));
+                    pc += 1;
+                    break;
+                }
+                case OpCode.NEG:
+                    stack[sp - 1] = stack[sp - 1].performUnaryOperation(UnaryOperator.NEG, chunk.lineAt(pc), chunk.colAt(pc));
+                    pc += 1;
+                    break;
+                case OpCode.PLUS:
+                    stack[sp - 1] = stack[sp - 1].performUnaryOperation(UnaryOperator.PLUS, chunk.lineAt(pc), chunk.colAt(pc));
+                    pc += 1;
+                    break;
+                case OpCode.NOT:
+                    stack[sp - 1] = stack[sp - 1].performUnaryOperation(UnaryOperator.NOT, chunk.lineAt(pc), chunk.colAt(pc));
+                    pc += 1;
+                    break;
+
+                case OpCode.JUMP:
+                    pc = code[pc + 1];
+                    break;
+                case OpCode.JUMP_IF_FALSE: {
+                    Value condition = stack[--sp];
+                    stack[sp] = null;
+                    boolean truth = condition == BoolValue.TRUE || (condition != BoolValue.FALSE && condition.isTruth());
+                    pc = truth ? pc + 2 : code[pc + 1];
+                    break;
+                }
+                case OpCode.CALL: {
+                    int argc = code[pc + 1];
+                    int base = sp - argc - 1;
+                    stack[base] = call(stack[base], stack, base + 1, argc, chunk.lineAt(pc), chunk.colAt(pc));
+                    for (int i = base + 1; i < sp; i++) {
+                        stack[i] = null;
+                    }
+                    sp = base + 1;
+                    pc += 2;
+                    break;
+                }
+                case OpCode.RETURN:
+                    return stack[--sp];
+                case OpCode.RETURN_VOID:
+                    return VoidValue.INSTANCE;
+                case OpCode.MAKE_FUNCTION: {
+                    FuncDeclStmt decl = (FuncDeclStmt) constants[code[pc + 1]];
+                    stack[sp++] = new FunctionValue(decl.instantiate(frame));
+                    pc += 2;
+                    break;
+                }
+                case OpCode.ARRAY_LITERAL: {
+                    int count = code[pc + 1];
+                    List<Value> elements = new ArrayList<>(count);
+                    for (int i = sp - count; i < sp; i++) {
+                        elements.add(stack[i]);
+                        stack[i] = null;
+                    }
+                    sp -= count;
+                    stack[sp++] = ArrayValue.ofChecked(elements, chunk.lineAt(pc), chunk.colAt(pc));
+                    pc += 2;
+                    break;
+                }
+                case OpCode.INDEX1: {
+                    Value indexValue = stack[--sp];
+                    stack[sp] = null;
+                    stack[sp - 1] = index1(stack[sp - 1], indexValue, chunk.lineAt(pc), chunk.colAt(pc));
+                    pc += 1;
+                    break;
+                }
+                case OpCode.INDEX2: {
+                    Value index2Value = stack[--sp];
+                    Value index1Value = stack[--sp];
+                    stack[sp] = null;
+                    stack[sp + 1] = null;
+                    stack[sp - 1] = index2(stack[sp - 1], index1Value, index2Value, chunk.lineAt(pc), chunk.colAt(pc));
+                    pc += 1;
+                    break;
+                }
+                case OpCode.ICONST:
+                    ints[isp++] = code[pc + 1];
+                    pc += 2;
+                    break;
+                case OpCode.ILOAD:
+                    ints[isp++] = ints[ib + code[pc + 1]];
+                    pc += 2;
+                    break;
+                case OpCode.ISTORE:
+                    ints[ib + code[pc + 1]] = ints[--isp];
+                    pc += 2;
+                    break;
+                case OpCode.ILOAD2:
+                    ints[isp++] = ints[ib + code[pc + 1]];
+                    ints[isp++] = ints[ib + code[pc + 2]];
+                    pc += 3;
+                    break;
+                case OpCode.JUMP_UNLESS_ICMP_LOCALS:
+                    pc = compare(code[pc + 1], ints[ib + code[pc + 2]], ints[ib + code[pc + 3]]) ? pc + 5 : code[pc + 4];
+                    break;
+                case OpCode.IADD_TO_LOCAL:
+                    ints[ib + code[pc + 1]] += ints[--isp];
+                    pc += 2;
+                    break;
+                case OpCode.IOP_LOCAL_CONST:
+                    ints[isp++] = arithmetic(code[pc + 1], ints[ib + code[pc + 2]], code[pc + 3]);
+                    pc += 4;
+                    break;
+                case OpCode.JUMP_UNLESS_ICMP_CONST:
+                    pc = compare(code[pc + 1], ints[--isp], code[pc + 2]) ? pc + 4 : code[pc + 3];
+                    break;
+                case OpCode.CALL_GLOBAL:
+                case OpCode.ICALL_GLOBAL: {
+                    int argc = code[pc + 2];
+                    int first = sp - argc;
+                    Value callee = global(globalFunctions, constants, code[pc + 1], chunk, pc);
+                    Value result = call(callee, stack, first, argc, chunk.lineAt(pc), chunk.colAt(pc));
+                    for (int i = first; i < sp; i++) {
+                        stack[i] = null;
+                    }
+                    sp = first;
+                    if (op == OpCode.CALL_GLOBAL) {
+                        stack[sp++] = result;
+                    } else {
+                        ints[isp++] = ((IntValue) result).intValue();
+                    }
+                    pc += 3;
+                    break;
+                }
+                case OpCode.IRETURN:
+                    return IntValue.of(ints[--isp]);
+                case OpCode.UNBOX:
+                    ints[isp++] = ((IntValue) stack[--sp]).intValue();
+                    stack[sp] = null;
+                    pc += 1;
+                    break;
+                case OpCode.BOX:
+                    stack[sp++] = IntValue.of(ints[--isp]);
+                    pc += 1;
+                    break;
+                case OpCode.IADD:
+                    isp--;
+                    ints[isp - 1] += ints[isp];
+                    pc += 1;
+                    break;
+                case OpCode.ISUB:
+                    isp--;
+                    ints[isp - 1] -= ints[isp];
+                    pc += 1;
+                    break;
+                case OpCode.IMUL:
+                    isp--;
+                    ints[isp - 1] *= ints[isp];
+                    pc += 1;
+                    break;
+                case OpCode.IDIV:
+                case OpCode.IMOD: {
+                    int b = ints[--isp];
+                    if (b == 0) {
+                        throw new RuntimeError("0으로 나눌 수 없습니다.", chunk.lineAt(pc), chunk.colAt(pc));
+                    }
+                    ints[isp - 1] = op == OpCode.IDIV ? ints[isp - 1] / b : ints[isp - 1] % b;
+                    pc += 1;
+                    break;
+                }
+                case OpCode.IEQ:
+                case OpCode.INE:
+                case OpCode.ILT:
+                case OpCode.IGT:
+                case OpCode.ILE:
+                case OpCode.IGE:
+                    isp -= 2;
+                    stack[sp++] = BoolValue.of(compare(op, ints[isp], ints[isp + 1]));
+                    pc += 1;
+                    break;
+                case OpCode.IADD_LOCAL_CONST:
+                    stack[sp++] = IntValue.of(ints[ib + code[pc + 1]] + code[pc + 2]);
+                    pc += 3;
+                    break;
+                case OpCode.ISUB_LOCAL_CONST:
+                    stack[sp++] = IntValue.of(ints[ib + code[pc + 1]] - code[pc + 2]);
+                    pc += 3;
+                    break;
+                case OpCode.JUMP_UNLESS_ICMP:
+                    isp -= 2;
+                    pc = compare(code[pc + 1], ints[isp], ints[isp + 1]) ? pc + 3 : code[pc + 2];
+                    break;
+                case OpCode.JUMP_UNLESS_ICMP_LOCAL_CONST:
+                    pc = compare(code[pc + 1], ints[ib + code[pc + 2]], code[pc + 3]) ? pc + 5 : code[pc + 4];
+                    break;
+                case OpCode.INC_LOCAL:
+                    ints[ib + code[pc + 1]] += code[pc + 2];
+                    pc += 3;
+                    break;
+                case OpCode.TO_FLOAT:
+                    stack[sp - 1] = new FloatValue(stack[sp - 1].asFloat(chunk.lineAt(pc), chunk.colAt(pc)));
+                    pc += 1;
+                    break;
+                case OpCode.ERROR:
+                    throw new RuntimeError((String) constants[code[pc + 1]], chunk.lineAt(pc), chunk.colAt(pc));
+                default:
+                    throw new IllegalStateException("알 수 없는 명령어: " + op);
+            }
+        }
+    }
+
+    // op는 IADD ~ IMOD 중 하나. b가 0이 아닐 때만 쓴다.
+    private static int arithmetic(int op, int a, int b) {
+        switch (op) {
+            case OpCode.IADD: return a + b;
+            case OpCode.ISUB: return a - b;
+            case OpCode.IMUL: return a * b;
+            case OpCode.IDIV: return a / b;
+            case OpCode.IMOD: return a % b;
+            default: throw new IllegalStateException("int 산술 명령어가 아닙니다: " + op);
+        }
+    }
+
+    // cmp는 IEQ ~ IGE 중 하나
+    private static boolean compare(int cmp, int a, int b) {
+        switch (cmp) {
+            case OpCode.IEQ: return a == b;
+            case OpCode.INE: return a != b;
+            case OpCode.ILT: return a < b;
+            case OpCode.IGT: return a > b;
+            case OpCode.ILE: return a <= b;
+            case OpCode.IGE: return a >= b;
+            default: throw new IllegalStateException("int 비교 명령어가 아닙니다: " + OpCode.name(cmp));
+        }
+    }
+
+    // 함수는 다시 정의하거나 할당할 수 없으므로 한 번 찾은 전역 함수는 청크에 기억해 둔다.
+    private Value global(Value[] globalFunctions, Object[] constants, int nameIndex, Chunk chunk, int pc) {
+        Value value = globalFunctions[nameIndex];
+        if (value == null) {
+            value = interpreter.currentEnvironment.lookup((String) constants[nameIndex], chunk.lineAt(pc), chunk.colAt(pc));
+            if (value.isFunction()) {
+                globalFunctions[nameIndex] = value;
+            }
+        }
+        return value;
+    }
+
+    // 인자는 stack[first]부터 argc개
+    private Value call(Value callee, Value[] stack, int first, int argc, int line, int col) {
+        if (!callee.isFunction()) {
+            throw new RuntimeError("호출 가능한 함수가 아닙니다.", line, col);
+        }
+        FunctionObject funcObj = ((FunctionValue) callee).getFunctionObject();
+
+        if (funcObj.isNative()) {
+            List<Value> args = new ArrayList<>(argc);
+            for (int i = 0; i < argc; i++) {
+                args.add(stack[first + i]);
+            }
+            return interpreter.executeFunction(funcObj, args, line, col);
+        }
+
+        if (funcObj.getParams().size() != argc) {
+            throw new RuntimeError("함수 '" + funcObj.getName() + "'의 인자 개수가 일치하지 않습니다. 기대: " + funcObj.getParams().size() + ", 실제: " + argc, line, col);
+        }
+        CompiledFunction compiled = interpreter.compiledFor(funcObj);
+        if (compiled != null) {
+            return compiled.invoke(interpreter, Arrays.copyOfRange(stack, first, first + argc));
+        }
+        // 인자 리스트를 만들지 않고 스택에서 바로 호출 프레임의 파라미터 슬롯으로 옮긴다.
+        Frame callFrame = new Frame(funcObj.getFrameSize(), funcObj.getClosureFrame());
+        for (int i = 0; i < argc; i++) {
+            callFrame.set(i, stack[first + i]);
+        }
+        if (funcObj.getChunk() != null) {
+            // VM 코드끼리의 호출은 AST 실행기의 현재 프레임을 쓰지 않으므로 인터프리터를 거치지 않는다.
+            return run(funcObj.getChunk(), callFrame);
+        }
+        return interpreter.invoke(funcObj, callFrame, line, col);
+    }
+
+    private static void checkAssignable(Value current, Object name, Chunk chunk, int pc) {
+        if (current == null) {
+            throw new RuntimeError("선언되지 않은 변수 '" + name + "'에 할당할 수 없습니다.", chunk.lineAt(pc), chunk.colAt(pc));
+        }
+        if (current.isFunction()) {
+            throw new RuntimeError("함수 '" + name + "'에는 값을 할당할 수 없습니다.", chunk.lineAt(pc), chunk.colAt(pc));
+        }
+    }
+
+    private static BinaryOperator binaryOperator(int op) {
+        switch (op) {
+            case OpCode.DIV: return BinaryOperator.DIV;
+            case OpCode.MOD: return BinaryOperator.MOD;
+            case OpCode.AND: return BinaryOperator.AND;
+            case OpCode.OR: return BinaryOperator.OR;
+            default: throw new IllegalStateException("이항 연산 명령어가 아닙니다: " + OpCode.name(op));
+        }
+    }
+
+    private static Value index1(Value baseValue, Value indexValue, int line, int col) {
+        if (!baseValue.isArray()) {
+            throw new RuntimeError("배열 접근 연산자는 배열 타입에만 적용 가능합니다.", line, col);
+        }
+        if (!indexValue.isInt()) {
+            throw new RuntimeError("배열 인덱스는 정수 타입이어야 합니다.", line, col);
+        }
+        ArrayValue array = (ArrayValue) baseValue;
+        int index = indexValue.asInt(line, col);
+        if (index < 0 || index >= array.getLength()) {
+            throw new RuntimeError("배열 인덱스 범위 초과: " + index, line, col);
+        }
+        return array.getElement(index);
+    }
+
+    private static Value index2(Value baseValue, Value index1Value, Value index2Value, int line, int col) {
+        if (!baseValue.isArray() || ((ArrayValue) baseValue).getDimension() < 2) {
+            throw new RuntimeError("2차원 배열 접근 연산자는 2차원 배열 타입에만 적용 가능합니다.", line, col);
+        }
+        if (!index1Value.isInt() || !index2Value.isInt()) {
+            throw new RuntimeError("배열 인덱스는 정수 타입이어야 합니다.", line, col);
+        }
+        ArrayValue array = (ArrayValue) baseValue;
+        int index1 = index1Value.asInt(line, col);
+        int index2 = index2Value.asInt(line, col);
+        if (index1 < 0 || index1 >= array.getLength()) {
+            throw new RuntimeError("첫 번째 배열 인덱스 범위 초과: " + index1, line, col);
+        }
+        if (index2 < 0 || index2 >= array.getRowLength(index1)) {
+            throw new RuntimeError("두 번째 배열 인덱스 범위 초과: " + index2, line, col);
+        }
+        return array.getElement(index1, index2);
+    }
+}
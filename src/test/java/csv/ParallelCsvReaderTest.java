@@ -0,0 +1,64 @@
+package csv;
+
+import flow.csv.CsvReader;
+import flow.csv.ParallelCsvReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelCsvReaderTest {
+
+    private List<String> readSequential(Path csv) throws IOException {
+        List<String> rows = new ArrayList<>();
+        try (CsvReader reader = CsvReader.open(csv.toString())) {
+            while (reader.next()) {
+                String[] cells = new String[reader.size()];
+                for (int i = 0; i < cells.length; i++) {
+                    cells[i] = reader.get(i);
+                }
+                rows.add(Arrays.toString(cells));
+            }
+        }
+        return rows;
+    }
+
+    private List<String> readParallel(Path csv, long chunkSize) throws IOException {
+        List<String> rows = new ArrayList<>();
+        for (List<String> part : ParallelCsvReader.read(csv.toString(), chunkSize,
+                columnCount -> new ArrayList<String>(), (part, cells) -> part.add(Arrays.toString(cells)))) {
+            rows.addAll(part);
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("1. 따옴표 안의 줄바꿈을 넘지 않는 청크 분할")
+    void test1ChunksMatchSequentialRead() throws IOException {
+        Path csv = Files.createTempFile("flow-parallel", ".csv");
+        try {
+            Files.writeString(csv, "id,name,memo\r\n"
+                    + "1,홍길동,\"여러 줄\n메모, 쉼표 포함\"\r\n"
+                    + "2,,\"따옴표 \"\"안\"\"의\n\n줄\"\n"
+                    + "3,a\"b,짧은 행\n"
+                    + "4\n"
+                    + "\n"
+                    + "5,끝,\"\"\n"
+                    + "6,마지막,줄바꿈 없음");
+            List<String> expected = readSequential(csv);
+            assertEquals(6, expected.size());
+            for (long chunkSize = 1; chunkSize <= 64; chunkSize++) {
+                assertEquals(expected, readParallel(csv, chunkSize), "청크 크기 " + chunkSize);
+            }
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+}
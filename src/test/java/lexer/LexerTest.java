@@ -0,0 +1,53 @@
+package lexer;
+
+import flow.lexer.Lexer;
+import flow.runtime.errors.RuntimeError;
+import flow.token.Token;
+import flow.token.TokenType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LexerTest {
+
+    private List<TokenType> kinds(String code) {
+        return new Lexer().tokenize(code).stream().map(Token::getKind).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("1. 최장 일치와 키워드 우선순위")
+    void test1LongestMatchAndPriority() {
+        assertEquals(List.of(TokenType.KW_INT, TokenType.IDENTIFIER, TokenType.IDENTIFIER, TokenType.KW_ELSE_IF,
+                        TokenType.BOOL_LITERAL, TokenType.IDENTIFIER, TokenType.END_OF_FILE),
+                kinds("int integer int_ else_if true trueish"));
+        assertEquals(List.of(TokenType.EQUAL, TokenType.ASSIGN, TokenType.LESS_EQUAL, TokenType.NOT_EQUAL, TokenType.NOT,
+                        TokenType.AND, TokenType.OR, TokenType.END_OF_FILE),
+                kinds("=== <= != ! && ||"));
+        assertEquals(List.of(TokenType.FLOAT_LITERAL, TokenType.INT_LITERAL, TokenType.IDENTIFIER, TokenType.END_OF_FILE),
+                kinds("12.5 12abc"));
+    }
+
+    @Test
+    @DisplayName("2. 위치 정보와 주석/공백 처리")
+    void test2Positions() {
+        List<Token> tokens = new Lexer().tokenize("int x; # 주석\n\tx = \"a b\";");
+        Token assign = tokens.get(4);
+        assertEquals(TokenType.ASSIGN, assign.getKind());
+        assertEquals(2, assign.getLine());
+        assertEquals(7, assign.getCol());
+        assertEquals("\"a b\"", tokens.get(5).getLexeme());
+    }
+
+    @Test
+    @DisplayName("3. 렉서 오류")
+    void test3Errors() {
+        assertThrows(RuntimeError.class, () -> new Lexer().tokenize("\"unterminated"));
+        assertThrows(RuntimeError.class, () -> new Lexer().tokenize("a & b"));
+        assertThrows(RuntimeError.class, () -> new Lexer().tokenize("3."));
+        assertThrows(RuntimeError.class, () -> new Lexer().tokenize("x".repeat(300)));
+    }
+}
@@ -4,6 +4,7 @@ import flow.lexer.Lexer;
 import flow.parser.Parser;
 import flow.runtime.errors.RuntimeError;
 import flow.runtime.interpreter.Environment;
+import flow.runtime.interpreter.ExecutionMode;
 import flow.runtime.interpreter.Interpreter;
 import flow.utility.Logger;
 import flow.token.Token;
@@ -480,4 +481,943 @@ public class RuntimeTest {
         compileAndExecuteCode(code);
         assertOutput(List.of(), true); // 오류 발생 시 순수 출력은 없음
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("25. 블록 스코프, 그림자 변수와 중첩 함수의 바깥 변수 접근")
+    void test25BlockScopeAndShadowing() {
+        String code = """
+            void main() {
+                int x = 1;
+                int i = 0;
+                while (i < 2) {
+                    int x = i * 10;
+                    print("inner " + x);
+                    i = i + 1;
+                }
+                void bump() {
+                    x = x + 1;
+                }
+                bump();
+                print("outer " + x);
+            }
+            """;
+        List<String> expected = List.of("inner 0", "inner 10", "outer 2");
+        compileAndExecuteCode(code);
+        assertOutput(expected, false);
+    }
+
+    @Test
+    @DisplayName("26. 루프 안의 break/continue와 재귀 함수의 return")
+    void test26LoopControlAndReturn() {
+        String code = """
+            int fact(int n) {
+                if (n <= 1) { return 1; }
+                return n * fact(n - 1);
+            }
+            void main() {
+                int i = 0;
+                int sum = 0;
+                for (i = 0; i < 10; i = i + 1) {
+                    if (i == 3) { continue; }
+                    if (i == 7) { break; }
+                    sum = sum + i;
+                }
+                print("sum " + sum);
+                int j = 0;
+                while (j < 10) {
+                    j = j + 1;
+                    if (j % 2 == 0) { continue; }
+                    if (j > 5) { break; }
+                    print("odd " + j);
+                }
+                print("fact " + fact(5));
+            }
+            """;
+        List<String> expected = List.of("sum 18", "odd 1", "odd 3", "odd 5", "fact 120");
+        compileAndExecuteCode(code);
+        assertOutput(expected, false);
+    }
+
+    @Test
+    @DisplayName("27. 바이트코드 VM 실행 모드")
+    void test27VmExecutionMode() {
+        interpreter.setExecutionMode(ExecutionMode.VM);
+        String code = """
+            int counter = 0;
+            int fib(int n) {
+                counter = counter + 1;
+                if (n < 2) { return n; }
+                return fib(n - 1) + fib(n - 2);
+            }
+            void main() {
+                int i = 0;
+                int sum = 0;
+                for (i = 0; i < 10; i = i + 1) {
+                    if (i == 3) { continue; }
+                    if (i == 7) { break; }
+                    sum = sum + i;
+                }
+                int x = 1;
+                void bump() {
+                    x = x * 10;
+                }
+                bump();
+                float f = 7 / 2.0;
+                print("sum " + sum + " x " + x + " f " + f);
+                print("fib " + fib(10) + " calls " + counter);
+                if (sum > 100) { print("big"); } else if (sum > 10) { print("medium"); } else { print("small"); }
+            }
+            """;
+        List<String> expected = List.of("sum 18 x 10 f 3.5", "fib 55 calls 177", "medium");
+        compileAndExecuteCode(code);
+        assertOutput(expected, false);
+    }
+
+    @Test
+    @DisplayName("28. JIT 컴파일된 함수 실행")
+    void test28JitCompiledFunctions() {
+        interpreter.setJitThreshold(1);
+        String code = """
+            int counter = 0;
+            int fib(int n) {
+                counter = counter + 1;
+                if (n < 2) { return n; }
+                return fib(n - 1) + fib(n - 2);
+            }
+            string classify(int score, float ratio) {
+                if (score > 90 && ratio > 0.5) { return "A"; }
+                else if (score > 50) { return "B"; }
+                return "C";
+            }
+            int loopSum(int limit) {
+                int i = 0;
+                int sum = 0;
+                for (i = 0; i < limit; i = i + 1) {
+                    if (i == 3) { continue; }
+                    if (i == 7) { break; }
+                    sum = sum + i;
+                }
+                while (true) {
+                    sum = -sum;
+                    break;
+                }
+                return sum;
+            }
+            int divide(int a, int b) {
+                return a / b;
+            }
+            void main() {
+                int i = 0;
+                for (i = 0; i < 3; i = i + 1) {
+                    print(classify(95 - i * 30, 0.75) + " " + loopSum(10) + " " + !(i == 1));
+                }
+                print("fib " + fib(10) + " calls " + counter);
+                print(divide(7, 2));
+                print(divide(1, 0));
+            }
+            """;
+        List<String> expected = List.of("A -18 true", "B -18 false", "C -18 true", "fib 55 calls 177", "3");
+        compileAndExecuteCode(code);
+        assertOutput(expected, true); // 컴파일된 코드에서도 0으로 나누면 런타임 오류가 기록된다.
+    }
+
+    @Test
+    @DisplayName("29. 실행 전 정적 타입 검사")
+    void test29StaticTypeCheck() {
+        String code = """
+            float half(float v) {
+                return v / 2;
+            }
+            void main() {
+                print("start");
+                int n = 3;
+                if (n > 5) {
+                    print(half("3")); # 실행되지 않는 분기라도 string을 float 파라미터에 넘기면 오류
+                }
+            }
+            """;
+        compileAndExecuteCode(code);
+        assertOutput(List.of(), true); // 실행 전에 오류가 보고되므로 "start"도 출력되지 않는다.
+    }
+
+    @Test
+    @DisplayName("30. csv_to_array 열 저장 테이블 접근")
+    void test30CsvToArrayTable() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-table", ".csv");
+        try {
+            Files.writeString(csv, "a,b\n1,1\n007,007\n,\n-42,-42\n서울,서울\n");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("%s");
+                    print("rows " + row_length(t) + " cols " + col_length(t));
+                    int i = 0;
+                    for (i = 0; i < row_length(t); i = i + 1) {
+                        print(t[i][0] + "/" + t[i][1] + " " + (t[i][0] == t[i][1]));
+                    }
+                    print(t[5][0]);
+                }
+                """.formatted(csv.toString().replace("\\", "/"));
+            List<String> expected = List.of("rows 5 cols 2", "1/1 true", "007/007 true", "NULL/NULL true", "-42/-42 true", "서울/서울 true");
+            compileAndExecuteCode(code);
+            assertOutput(expected, true); // 마지막 줄은 행 인덱스 범위 초과 오류
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("31. CSV 헤더 순서를 유지하는 스트리밍 읽기")
+    void test31CsvColumnOrder() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-order", ".csv");
+        try {
+            Files.writeString(csv, "zip,name,city\n31000,홍길동,천안\n04524,,서울\n");
+            String path = csv.toString().replace("\\", "/");
+            String code = """
+                void main() {
+                    import_csv("%s");
+                    string[][] t = csv_to_array("%s");
+                    print(t[0][0] + " " + t[0][1] + " " + t[0][2]);
+                    print(t[1][0] + " " + t[1][1] + " " + t[1][2]);
+                }
+                """.formatted(path, path);
+            List<String> expected = List.of(
+                    "--- CSV Data from: " + path + " ---",
+                    "zip\t|\tname\t|\tcity",
+                    "------------------------------------",
+                    "31000\t|\t홍길동\t|\t천안",
+                    "04524\t|\tNULL\t|\t서울",
+                    "------------------------------------",
+                    "31000 홍길동 천안",
+                    "04524 NULL 서울");
+            compileAndExecuteCode(code);
+            assertOutput(expected, false);
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("32. generate_table 배치 INSERT와 파일 출력")
+    void test32GenerateTableBatches() throws IOException {
+        java.nio.file.Path sql = Files.createTempFile("flow-table", ".sql");
+        try {
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("src/test/resources/books.csv");
+                    generate_table(t, 0, "%s", 2);
+                    print("done");
+                }
+                """.formatted(sql.toString().replace("\\", "/"));
+            compileAndExecuteCode(code);
+            assertOutput(List.of("done"), false); // 파일로 쓰면 콘솔에는 SQL이 나오지 않는다.
+            List<String> lines = Files.readAllLines(sql);
+            assertTrue(lines.get(0).startsWith("CREATE TABLE GENERATED_TABLE ("));
+            long batches = lines.stream().filter(l -> l.equals("INSERT ALL")).count();
+            long rows = lines.stream().filter(l -> l.startsWith("  INTO GENERATED_TABLE (")).count();
+            assertEquals(lines.stream().filter(l -> l.equals("SELECT * FROM DUAL;")).count(), batches);
+            assertEquals((rows + 1) / 2, batches);
+            assertTrue(rows > 2);
+        } finally {
+            Files.deleteIfExists(sql);
+        }
+    }
+
+    @Test
+    @DisplayName("33. export_table 대량 적재 파일 생성")
+    void test33ExportTable() throws IOException {
+        java.nio.file.Path dir = Files.createTempDirectory("flow-export");
+        try {
+            String base = dir.toString().replace("\\", "/");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("src/test/resources/books.csv");
+                    export_table(t, 0, "sqlldr", "%s/ora");
+                    export_table(t, 0, "copy", "%s/pg");
+                    export_table(t, 0, "xml", "%s/x");
+                }
+                """.formatted(base, base, base);
+            compileAndExecuteCode(code);
+            assertOutput(List.of(), true); // 지원하지 않는 형식은 오류
+
+            List<String> control = Files.readAllLines(dir.resolve("ora.ctl"));
+            assertTrue(control.contains("INFILE 'ora.dat' \"str X'1E0A'\""));
+            long dataRows = Files.readString(dir.resolve("ora.dat")).split("\u001E\n").length;
+            assertTrue(Files.readString(dir.resolve("ora.sql")).startsWith("CREATE TABLE GENERATED_TABLE ("));
+
+            List<String> copy = Files.readAllLines(dir.resolve("pg.sql"));
+            int start = copy.indexOf(copy.stream().filter(l -> l.startsWith("COPY GENERATED_TABLE (")).findFirst().orElseThrow());
+            assertEquals("\\.", copy.get(copy.size() - 1));
+            assertEquals(dataRows, copy.size() - start - 2);
+            assertFalse(Files.exists(dir.resolve("x.sql")));
+        } finally {
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.list(dir)) {
+                for (java.nio.file.Path file : files.collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("34. generate_table 표본 타입 추론")
+    void test34GenerateTableInference() throws IOException {
+        java.nio.file.Path dir = Files.createTempDirectory("flow-infer");
+        try {
+            String base = dir.toString().replace("\\", "/");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("src/test/resources/books.csv");
+                    generate_table(t, 0, "%s/full.sql", 1, "full");
+                    generate_table(t, 0, "%s/head.sql", 1, "head:3");
+                    generate_table(t, 0, "%s/sample.sql", 1, "sample:5");
+                    generate_table(t, 0, "%s/bad.sql", 1, "top:3");
+                }
+                """.formatted(base, base, base, base);
+            compileAndExecuteCode(code);
+            assertOutput(List.of(), true); // 잘못된 추론 방식은 오류
+
+            String full = Files.readString(dir.resolve("full.sql"));
+            assertEquals(full, Files.readString(dir.resolve("head.sql")));
+            assertEquals(full, Files.readString(dir.resolve("sample.sql")));
+            assertFalse(Files.exists(dir.resolve("bad.sql")));
+        } finally {
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.list(dir)) {
+                for (java.nio.file.Path file : files.collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("35. csv_to_array 사전 부호화 열과 대체 저장")
+    void test35DictionaryColumns() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-dict", ".csv");
+        try {
+            String[] regions = {"서울", "천안", "부산"};
+            StringBuilder text = new StringBuilder("id,region,name\n");
+            for (int i = 0; i < 3000; i++) {
+                text.append(i).append(',').append(i % 7 == 0 ? "" : regions[i % 3]).append(",name").append(i).append('\n');
+            }
+            text.append("x,서울,끝\n");
+            Files.writeString(csv, text.toString());
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("%s");
+                    int i = 0;
+                    int same = 0;
+                    for (i = 0; i < row_length(t); i = i + 1) {
+                        if (t[i][1] == t[1][1]) { same = same + 1; }
+                    }
+                    print("same " + same);
+                    print(t[0][1] + " " + t[2][1] + " " + t[2999][2] + " " + t[3000][0] + " " + t[3000][2]);
+                    print("" + (t[4][1] == t[10][1]) + " " + (t[4][1] != t[5][1]) + " " + (t[4][2] == t[5][2]));
+                }
+                """.formatted(csv.toString().replace("\\", "/"));
+            List<String> expected = List.of("same 857", "NULL 부산 name2999 x 끝", "true true false");
+            compileAndExecuteCode(code);
+            assertOutput(expected, false);
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("36. csv_to_array 이진 캐시")
+    void test36CsvToArrayCache() throws IOException {
+        java.nio.file.Path dir = Files.createTempDirectory("flow-cache");
+        java.nio.file.Path csv = dir.resolve("data.csv");
+        java.nio.file.Path cacheDir = dir.resolve("cache");
+        try {
+            Files.writeString(csv, "id,region,memo\n1,서울,\n2,천안,\"쉼표, 포함\"\n");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("%s", "%s");
+                    print("rows " + row_length(t) + " " + t[0][0] + " " + t[0][1] + " " + t[0][2] + " null " + count_null(t, 2));
+                }
+                """.formatted(csv.toString().replace("\\", "/"), cacheDir.toString().replace("\\", "/"));
+            compileAndExecuteCode(code);
+            assertOutput(List.of("rows 2 1 서울 NULL null 1"), false);
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.list(cacheDir)) {
+                assertEquals(1, files.filter(f -> f.toString().endsWith(".flowtable")).count());
+            }
+            // 열 머리에 적힌 타입과 빈 칸 개수
+            flow.runtime.types.TableCache cache = new flow.runtime.types.TableCache(cacheDir.toString());
+            flow.runtime.types.TableValue cached = cache.load(cache.keyOf(csv.toString()));
+            assertEquals(List.of("int", "string", "string"), List.of(cached.getColumnType(0), cached.getColumnType(1), cached.getColumnType(2)));
+            assertEquals(List.of(0, 0, 1), List.of(cached.getNullCount(0), cached.getNullCount(1), cached.getNullCount(2)));
+
+            outputStreamCaptor.reset();
+            setUp();
+            compileAndExecuteCode(code); // 캐시에서 읽기
+            assertOutput(List.of("rows 2 1 서울 NULL null 1"), false);
+
+            Files.writeString(csv, "id,region,memo\n1,부산,메모\n");
+            outputStreamCaptor.reset();
+            setUp();
+            compileAndExecuteCode(code); // 원본이 바뀌었으므로 다시 파싱
+            assertOutput(List.of("rows 1 1 부산 메모 null 0"), false);
+        } finally {
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.walk(dir)) {
+                for (java.nio.file.Path file : files.sorted(java.util.Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("37. csv_tail 추가된 행만 읽기")
+    void test37CsvTail() throws IOException {
+        java.nio.file.Path dir = Files.createTempDirectory("flow-tail");
+        java.nio.file.Path csv = dir.resolve("feed.csv");
+        java.nio.file.Path state = dir.resolve("feed.state");
+        try {
+            String code = """
+                void main() {
+                    string[][] t = csv_tail("%s", "%s");
+                    int i = 0;
+                    for (i = 0; i < row_length(t); i = i + 1) {
+                        print(t[i][0] + " " + t[i][1]);
+                    }
+                    print("rows " + row_length(t));
+                }
+                """.formatted(csv.toString().replace("\\", "/"), state.toString().replace("\\", "/"));
+
+            Files.writeString(csv, "id,memo\n1,첫 줄\n2,\"여러\n줄\"\n");
+            compileAndExecuteCode(code);
+            assertOutput(List.of("1 첫 줄", "2 여러", "줄", "rows 2"), false);
+
+            // 줄바꿈으로 끝나지 않은 마지막 행은 다음 호출로 미룬다.
+            Files.writeString(csv, "3,셋째\n4,쓰는", java.nio.file.StandardOpenOption.APPEND);
+            outputStreamCaptor.reset();
+            setUp();
+            compileAndExecuteCode(code);
+            assertOutput(List.of("3 셋째", "rows 1"), false);
+
+            Files.writeString(csv, " 중\n", java.nio.file.StandardOpenOption.APPEND);
+            outputStreamCaptor.reset();
+            setUp();
+            compileAndExecuteCode(code);
+            assertOutput(List.of("4 쓰는 중", "rows 1"), false);
+
+            outputStreamCaptor.reset();
+            setUp();
+            compileAndExecuteCode(code);
+            assertOutput(List.of("rows 0"), false);
+
+            // 파일이 새로 만들어져 짧아지면 처음부터 읽는다.
+            Files.writeString(csv, "id,memo\n9,새 파일\n");
+            outputStreamCaptor.reset();
+            setUp();
+            compileAndExecuteCode(code);
+            assertOutput(List.of("9 새 파일", "rows 1"), false);
+        } finally {
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.list(dir)) {
+                for (java.nio.file.Path file : files.collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("38. gzip/deflate 압축 CSV 읽기")
+    void test38CompressedCsv() throws IOException {
+        java.nio.file.Path dir = Files.createTempDirectory("flow-gzip");
+        java.nio.file.Path gz = dir.resolve("data.csv.gz");
+        java.nio.file.Path zz = dir.resolve("data.csv.zz");
+        java.nio.file.Path broken = dir.resolve("broken.csv.gz");
+        try {
+            StringBuilder text = new StringBuilder("id,region\n");
+            for (int i = 0; i < 100000; i++) {
+                text.append(i).append(i % 2 == 0 ? ",서울\n" : ",\"천안\n시\"\n");
+            }
+            byte[] csv = text.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8);
+            try (java.io.OutputStream out = new java.util.zip.GZIPOutputStream(Files.newOutputStream(gz))) {
+                out.write(csv);
+            }
+            try (java.io.OutputStream out = new java.util.zip.DeflaterOutputStream(Files.newOutputStream(zz))) {
+                out.write(csv);
+            }
+            byte[] gzipped = Files.readAllBytes(gz);
+            Files.write(broken, Arrays.copyOf(gzipped, gzipped.length / 2));
+
+            String code = """
+                void main() {
+                    string[][] a = csv_to_array("%s");
+                    string[][] b = csv_to_array("%s");
+                    print("rows " + row_length(a) + " " + row_length(b) + " " + a[99999][0] + " " + b[99998][1]);
+                    print(a[1][1]);
+                    string[][] c = csv_to_array("%s");
+                }
+                """.formatted(gz.toString().replace("\\", "/"), zz.toString().replace("\\", "/"),
+                    broken.toString().replace("\\", "/"));
+            compileAndExecuteCode(code);
+            assertOutput(List.of("rows 100000 100000 99999 서울", "천안", "시"), true); // 잘린 압축 파일은 오류
+        } finally {
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.list(dir)) {
+                for (java.nio.file.Path file : files.collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("39. import_csv 행 수 제한과 건너뛰기")
+    void test39ImportCsvPaging() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-page", ".csv");
+        try {
+            Files.writeString(csv, "id,name\n1,가\n2,나\n3,\n4,라\n5,마\n");
+            String path = csv.toString().replace("\\", "/");
+            String code = """
+                void main() {
+                    import_csv("%s", 2, 1);
+                    import_csv("%s", 10, 3);
+                    import_csv("%s", 0);
+                    import_csv("%s", 1, -1);
+                }
+                """.formatted(path, path, path, path);
+            String header = "--- CSV Data from: " + path + " ---";
+            String rule = "------------------------------------";
+            List<String> expected = List.of(
+                    header, "id\t|\tname", rule, "2\t|\t나", "3\t|\tNULL", "... (이후 행 생략)", rule,
+                    header, "id\t|\tname", rule, "4\t|\t라", "5\t|\t마", rule,
+                    header, "id\t|\tname", rule, "... (이후 행 생략)", rule);
+            compileAndExecuteCode(code);
+            assertOutput(expected, true); // 음수 offset은 오류
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("40. 열 집계 내장 함수")
+    void test40ColumnAggregates() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-agg", ".csv");
+        try {
+            Files.writeString(csv, "id,price,name\n1,1.5,가\n2,,나\n3,2.25,다\n4,-.75,라\n");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("%s");
+                    print("id " + sum(t, 0) + " " + avg(t, 0) + " " + min(t, 0) + " " + max(t, 0) + " " + count(t, 0));
+                    print("price " + sum(t, 1) + " " + avg(t, 1) + " " + min(t, 1) + " " + max(t, 1));
+                    print("count " + count(t, 1) + " " + count_null(t, 1) + " " + count_null(t, 2));
+                    float total = sum(t, 2);
+                }
+                """.formatted(csv.toString().replace("\\", "/"));
+            List<String> expected = List.of(
+                    "id 10.0 2.5 1.0 4.0 4",
+                    "price 3.0 1.0 -0.75 2.25",
+                    "count 3 1 0");
+            compileAndExecuteCode(code);
+            assertOutput(expected, true); // 숫자가 아닌 열의 합계는 오류
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("41. create_index와 lookup 해시 색인")
+    void test41HashIndex() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-index", ".csv");
+        try {
+            Files.writeString(csv, "id,region\n10,서울\n20,천안\n30,서울\n40,\n50,서울\n");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("%s");
+                    int byId = create_index(t, 0);
+                    int byRegion = create_index(t, 1);
+                    print("id " + lookup(byId, "30") + " " + lookup(byId, "99") + " " + lookup_next(byId, 2));
+                    int r = lookup(byRegion, "서울");
+                    while (r >= 0) {
+                        print("서울 " + t[r][0]);
+                        r = lookup_next(byRegion, r);
+                    }
+                    print("null " + lookup(byRegion, "NULL") + " handles " + byId + " " + byRegion);
+                    drop_index(byRegion);
+                    int again = create_index(t, 1);
+                    print("again " + again + " " + lookup(again, "천안"));
+                    drop_index(byId);
+                    int bad = lookup(byId, "10");
+                }
+                """.formatted(csv.toString().replace("\\", "/"));
+            List<String> expected = List.of("id 2 -1 -1", "서울 10", "서울 30", "서울 50", "null -1 handles 0 1", "again 1 1");
+            compileAndExecuteCode(code);
+            assertOutput(expected, true); // 지운 색인 핸들은 오류
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("42. join, group_count, group_sum과 디스크 분할")
+    void test42HashJoinAndGroup() throws IOException {
+        java.nio.file.Path orders = Files.createTempFile("flow-orders", ".csv");
+        java.nio.file.Path customers = Files.createTempFile("flow-customers", ".csv");
+        try {
+            Files.writeString(orders, "id,cust,amount,memo\n1,a,10,x\n2,b,2.5,\n3,a,5,\n4,,7,\n5,c,,\n6,b,0.25,\n");
+            Files.writeString(customers, "cust,name\na,가\nb,나\na,가2\nd,라\n,널\n");
+            String code = """
+                void main() {
+                    string[][] o = csv_to_array("%s");
+                    string[][] c = csv_to_array("%s");
+                    int i = 0;
+                    string[][] j = join(o, c, 1, 0);
+                    for (i = 0; i < row_length(j); i = i + 1) {
+                        print("join " + j[i][0] + " " + j[i][1] + " " + j[i][5]);
+                    }
+                    string[][] g = group_count(o, 1, 2);
+                    for (i = 0; i < row_length(g); i = i + 1) {
+                        print("count " + g[i][0] + " " + g[i][1]);
+                    }
+                    string[][] s = group_sum(o, 1, 2);
+                    for (i = 0; i < row_length(s); i = i + 1) {
+                        print("sum " + s[i][0] + " " + s[i][1]);
+                    }
+                    string[][] bad = group_sum(o, 1, 3);
+                }
+                """.formatted(orders.toString().replace("\\", "/"), customers.toString().replace("\\", "/"));
+            List<String> expected = List.of(
+                    "join 1 a 가", "join 1 a 가2", "join 2 b 나", "join 3 a 가", "join 3 a 가2", "join 6 b 나",
+                    "count a 2", "count b 2", "count NULL 1", "count c 0",
+                    "sum a 15", "sum b 2.75", "sum NULL 7", "sum c NULL");
+            compileAndExecuteCode(code);
+            assertOutput(expected, true); // 숫자가 아닌 값의 합계는 오류
+
+            outputStreamCaptor.reset();
+            setUp();
+            interpreter.setHashMemoryBudget(1); // 임시 파일로 나누어 처리해도 결과가 같아야 한다.
+            compileAndExecuteCode(code);
+            assertOutput(expected, true);
+        } finally {
+            Files.deleteIfExists(orders);
+            Files.deleteIfExists(customers);
+        }
+    }
+
+    @Test
+    @DisplayName("43. sort_by 정렬")
+    void test43SortBy() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-sort", ".csv");
+        try {
+            Files.writeString(csv, "id,name,score\n1,김철수,3.5\n2,박영희,10\n3,,2\n4,가나다,3.5\n5,이민수,-1\n6,김철수,\n");
+            String code = """
+                string ids(string[][] t) {
+                    string s = "";
+                    int i = 0;
+                    for (i = 0; i < row_length(t); i = i + 1) {
+                        s = s + t[i][0];
+                    }
+                    return s;
+                }
+                void main() {
+                    string[][] t = csv_to_array("%s");
+                    string[][] byId = sort_by(t, 0, "int", false);
+                    string[][] byScore = sort_by(t, 2, "float", true);
+                    string[][] byName = sort_by(t, 1, "string", true);
+                    string[][] byNameDesc = sort_by(t, 1, "string", false);
+                    print("id " + ids(byId));
+                    print("score " + ids(byScore) + " " + byScore[5][2]);
+                    print("name " + ids(byName) + " " + byName[0][1]);
+                    print("desc " + ids(byNameDesc));
+                    print("orig " + ids(t));
+                    string[][] bad = sort_by(t, 1, "int", true);
+                }
+                """.formatted(csv.toString().replace("\\", "/"));
+            List<String> expected = List.of(
+                    "id 654321",
+                    "score 531426 NULL",
+                    "name 416253 가나다",
+                    "desc 521643",
+                    "orig 123456");
+            compileAndExecuteCode(code);
+            assertOutput(expected, true); // 정수가 아닌 키는 오류
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("44. 복사하지 않는 행, 열 뷰")
+    void test44ArrayViews() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-view", ".csv");
+        try {
+            Files.writeString(csv, "id,region,amount\n1,서울,10\n2,부산,20\n3,서울,\n4,,40\n5,서울,50\n");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("%s");
+                    string[][] seoul = filter_rows(t, 1, "서울");
+                    string[][] tail = slice_rows(seoul, 1, 3);
+                    string[][] p = select_columns(tail, "2,0");
+                    print("seoul " + row_length(seoul) + " " + seoul[2][0] + " sum " + sum(seoul, 2));
+                    print("tail " + row_length(tail) + " " + col_length(tail) + " " + tail[0][0] + " " + tail[1][0]);
+                    print("p " + col_length(p) + " " + p[0][0] + " " + p[0][1] + " " + p[1][0] + " " + p[1][1]);
+                    string[][] q = select_columns(p, "1");
+                    string[][] none = filter_rows(t, 1, "NULL");
+                    string[][] sorted = sort_by(seoul, 2, "int", false);
+                    print("q " + col_length(q) + " " + q[1][0] + " none " + none[0][0] + " sorted " + sorted[0][0]);
+                    print(p[0][2]);
+                }
+                """.formatted(csv.toString().replace("\\", "/"));
+            List<String> expected = List.of(
+                    "seoul 3 5 sum 60.0",
+                    "tail 2 3 3 5",
+                    "p 2 NULL 3 50 5",
+                    "q 1 5 none 4 sorted 5");
+            compileAndExecuteCode(code);
+            assertOutput(expected, true); // 고른 열 밖의 인덱스는 오류
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("45. int 값을 float 자리에 쓰면 float로 바뀐다")
+    void test45IntToFloatWidening() {
+        String code = """
+            float half(float v) {
+                return v / 2;
+            }
+            float one() {
+                return 1;
+            }
+            void main() {
+                float f = 1;
+                int n = 3;
+                print("f " + f + " " + f / 2);
+                print("half " + half(n) + " one " + one());
+                f = n;
+                print("assign " + f);
+            }
+            """;
+        List<String> expected = List.of("f 1.0 0.5", "half 1.5 one 1.0", "assign 3.0");
+        compileAndExecuteCode(code);
+        assertOutput(expected, false);
+
+        // 바이트코드 VM과 JIT 컴파일된 함수에서도 같은 값이 나온다.
+        outputStreamCaptor.reset();
+        setUp();
+        interpreter.setExecutionMode(ExecutionMode.VM);
+        compileAndExecuteCode(code);
+        assertOutput(expected, false);
+
+        outputStreamCaptor.reset();
+        setUp();
+        interpreter.setJitThreshold(1);
+        compileAndExecuteCode(code);
+        assertOutput(expected, false);
+    }
+
+    @Test
+    @DisplayName("46. 2차원 배열 초기값은 정적 타입으로 검사한다")
+    void test46ArrayInitializerType() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-init", ".csv");
+        try {
+            Files.writeString(csv, "id,name\n1,가\n2,나\n");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("%s");
+                    string[][] u = t;
+                    print(u[1][1] + " " + row_length(u));
+                }
+                """.formatted(csv.toString().replace("\\", "/"));
+            compileAndExecuteCode(code);
+            assertOutput(List.of("나 2"), false);
+
+            outputStreamCaptor.reset();
+            setUp();
+            compileAndExecuteCode("""
+                void main() {
+                    print("start");
+                    string[][] bad = "a,b";
+                }
+                """);
+            assertOutput(List.of(), true); // 배열이 아닌 초기값은 실행 전에 오류
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("47. VM의 int 지역 변수, 합친 명령어, VM에서 JIT로 올라가는 호출")
+    void test47VmIntLocals() {
+        String code = """
+            int sumTo(int limit) {
+                int sum = 0;
+                int i = 0;
+                for (i = 0; i < limit; i = i + 1) {
+                    if (i % 3 == 0) { continue; }
+                    sum = sum + i * 2;
+                }
+                while (sum > 50) { sum = sum - 7; }
+                return sum;
+            }
+            int countDown(int n) {
+                int steps = 0;
+                int m = n;
+                while (m > 0) {
+                    m = m - 3;
+                    steps = steps + 1;
+                }
+                return steps * 10 + m;
+            }
+            int outer(int n) {
+                int total = n;
+                void add(int k) { total = total + k; }
+                add(5);
+                add(n);
+                return total;
+            }
+            int divide(int a, int b) {
+                int q = a / b;
+                return q;
+            }
+            void main() {
+                print("r " + sumTo(10) + " " + countDown(10) + " " + outer(4));
+                print("q " + divide(7, 2));
+                print("q " + divide(7, 0));
+            }
+            """;
+        List<String> expected = List.of("r 47 38 13", "q 3");
+        // AST 실행기, VM, JIT 컴파일된 함수를 VM이 호출하는 경우 모두 결과와 오류 위치가 같다.
+        for (int run = 0; run < 3; run++) {
+            outputStreamCaptor.reset();
+            setUp();
+            if (run > 0) {
+                interpreter.setExecutionMode(ExecutionMode.VM);
+            }
+            if (run == 2) {
+                interpreter.setJitThreshold(1);
+            }
+            compileAndExecuteCode(code);
+            assertOutput(expected, true);
+            assertEquals(28, logger.getEntries().get(0).line, "0으로 나눈 위치");
+        }
+    }
+
+    @Test
+    @DisplayName("48. 타입이 있는 JIT 코드와 컴파일된 함수 사이의 직접 호출")
+    void test48TypedJit() {
+        String code = """
+            float mean(int a, float b) {
+                float s = a + b;
+                return s / 2;
+            }
+            bool inRange(float x, float lo, float hi) {
+                return x >= lo && x <= hi;
+            }
+            string label(int n) {
+                if (n % 2 == 0) { return "even" + n; }
+                return "odd" + n;
+            }
+            int fact(int n) {
+                if (n <= 1) { return 1; }
+                return n * fact(n - 1);
+            }
+            int total(int n) {
+                int t = 0;
+                int i = 0;
+                for (i = 0; i < n; i = i + 1) {
+                    if (i % 3 == 0) { continue; }
+                    if (inRange(mean(i, 0.5), 2.0, 7.5) == true) { t = t + fact(i % 5); }
+                }
+                return t;
+            }
+            int g = 0;
+            void bump(int k) {
+                g = g + k;
+                if (label(k) != "odd1" && -k < 0) { g = g + 100; }
+            }
+            float fmod(float a, float b) {
+                return a % b;
+            }
+            void main() {
+                int i = 0;
+                while (i < 3) {
+                    print(label(i) + " " + total(20) + " " + mean(i, 1.25) + " " + inRange(i * 1.0, 1.0, 3.0));
+                    bump(i);
+                    i = i + 1;
+                }
+                print("g " + g + " " + fmod(7.5, 2.0));
+                print(fmod(1.0, 0.0));
+            }
+            """;
+        List<String> expected = List.of("even0 65 0.625 false", "odd1 65 1.125 true", "even2 65 1.625 true", "g 103 1.5");
+        // AST 실행기와 JIT 컴파일된 코드의 결과, 오류 위치가 같다.
+        for (int run = 0; run < 2; run++) {
+            outputStreamCaptor.reset();
+            setUp();
+            interpreter.setJitThreshold(run == 0 ? -1 : 1);
+            compileAndExecuteCode(code);
+            assertOutput(expected, true);
+            assertEquals(31, logger.getEntries().get(0).line, "0으로 나눈 위치");
+        }
+    }
+
+    @Test
+    @DisplayName("49. export_table이 csv_to_array의 빈 칸을 NULL로 내보냄")
+    void test49ExportTableBlankCells() throws IOException {
+        java.nio.file.Path dir = Files.createTempDirectory("flow-export-null");
+        try {
+            // csv_to_array는 파일의 첫 줄을 건너뛰고, export_table은 배열의 첫 행을 열 이름으로 쓴다.
+            Files.writeString(dir.resolve("blank.csv"), "a,b,c\nbook_id,score,title\n1,10,a\n2,,b\n3,30,c\n");
+            String base = dir.toString().replace("\\", "/");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("%s/blank.csv");
+                    export_table(t, 0, "sqlldr", "%s/ora");
+                    export_table(t, 0, "copy", "%s/pg");
+                    print("rows " + row_length(t));
+                }
+                """.formatted(base, base, base);
+            compileAndExecuteCode(code);
+            assertOutput(List.of("rows 4"), false);
+
+            List<String> copy = Files.readAllLines(dir.resolve("pg.sql"));
+            assertTrue(copy.contains("2\t\\N\tb"), "COPY의 빈 칸은 \\N");
+            String score = copy.stream().filter(l -> l.trim().startsWith("SCORE ")).findFirst().orElseThrow();
+            assertFalse(score.contains("VARCHAR") || score.contains("NOT NULL"), score);
+
+            assertTrue(Files.readString(dir.resolve("ora.dat")).contains("\"2\",,\"b\"\u001E\n"), "SQL*Loader의 빈 칸은 빈 필드");
+            String ddl = Files.readString(dir.resolve("ora.sql"));
+            assertTrue(ddl.contains("  SCORE NUMBER,\n"), ddl); // 빈 칸이 있는 숫자 열은 NOT NULL이 아니다.
+        } finally {
+            try (java.util.stream.Stream<java.nio.file.Path> files = Files.list(dir)) {
+                for (java.nio.file.Path file : files.collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("50. 표를 만들 때 정한 열 타입으로 집계와 정렬")
+    void test50ColumnTypeShortcut() throws IOException {
+        java.nio.file.Path csv = Files.createTempFile("flow-types", ".csv");
+        try {
+            // "007"은 정수 표기가 아니어서 int[] 열이 되지 못하지만 열 타입은 int이다. 소수가 섞인 열은 float이다.
+            Files.writeString(csv, "code,price\n007,1.5\n12,2\n,NULL\n-3,0.25\n");
+            String code = """
+                void main() {
+                    string[][] t = csv_to_array("%s");
+                    print("sum " + sum(t, 0) + " " + sum(t, 1) + " " + count_null(t, 0));
+                    string[][] byCode = sort_by(t, 0, "int", true);
+                    string[][] byPrice = sort_by(t, 1, "float", false);
+                    print(byCode[0][0] + " " + byCode[1][0] + " " + byCode[2][0] + " " + byCode[3][0]);
+                    print(byPrice[0][1] + " " + byPrice[1][1] + " " + byPrice[2][1] + " " + byPrice[3][1]);
+                }
+                """.formatted(csv.toString().replace("\\", "/"));
+            compileAndExecuteCode(code);
+            assertOutput(List.of("sum 16.0 3.75 1", "-3 007 12 NULL", "2 1.5 0.25 NULL"), false);
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+}